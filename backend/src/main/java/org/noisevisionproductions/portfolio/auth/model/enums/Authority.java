@@ -5,5 +5,6 @@ public enum Authority {
     EDIT_PROJECTS,
     DELETE_PROJECTS,
     SEND_MESSAGES,
-    ACCESS_KAFKA_DASHBOARD
+    ACCESS_KAFKA_DASHBOARD,
+    ACCESS_CACHE_METRICS
 }
@@ -16,6 +16,7 @@ public enum Role {
             authorities.add(Authority.EDIT_PROJECTS);
             authorities.add(Authority.DELETE_PROJECTS);
             authorities.add(Authority.ACCESS_KAFKA_DASHBOARD);
+            authorities.add(Authority.ACCESS_CACHE_METRICS);
         }
 
         return authorities;
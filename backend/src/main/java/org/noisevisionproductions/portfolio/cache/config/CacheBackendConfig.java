@@ -0,0 +1,38 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheTagService;
+import org.noisevisionproductions.portfolio.cache.service.base.InMemoryCacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.RedisCacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Clock;
+
+@Configuration
+public class CacheBackendConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.backend.type", havingValue = "redis", matchIfMissing = true)
+    public CacheBackend redisCacheBackend(RedisTemplate<String, Object> redisTemplate,
+                                          RedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                                          StringRedisTemplate stringRedisTemplate,
+                                          CacheTagService cacheTagService,
+                                          RedisMessageListenerContainer redisMessageListenerContainer) {
+        return new RedisCacheBackend(redisTemplate, byteArrayRedisTemplate, stringRedisTemplate, cacheTagService,
+                redisMessageListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.backend.type", havingValue = "memory")
+    public CacheBackend inMemoryCacheBackend(CacheBackendProperties properties, CacheMetrics cacheMetrics) {
+        return new InMemoryCacheBackend(properties.getMaxSize(), properties.getTtl(), properties.getShards(),
+                Clock.systemUTC(), key -> cacheMetrics.eviction(ProjectCacheFamilies.ofKey(key)));
+    }
+}
@@ -0,0 +1,20 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackendType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.backend")
+@Component
+@Getter
+@Setter
+public class CacheBackendProperties {
+    private CacheBackendType type = CacheBackendType.REDIS;
+    private int maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(60);
+    private int shards = 16;
+}
@@ -0,0 +1,16 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "cache.refresh")
+@Component
+@Getter
+@Setter
+public class CacheRefreshProperties {
+    private double softTtlRatio = 0.75;
+    private int threads = 2;
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,18 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.noisevisionproductions.portfolio.cache.serializer.CacheSerializerType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "cache.serialization")
+@Component
+@Getter
+@Setter
+public class CacheSerializationProperties {
+    private CacheSerializerType project = CacheSerializerType.BINARY;
+    private CacheSerializerType springCache = CacheSerializerType.JSON;
+    private boolean compression = true;
+    private int compressionThreshold = 2048;
+}
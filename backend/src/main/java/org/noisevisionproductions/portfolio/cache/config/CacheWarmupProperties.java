@@ -0,0 +1,22 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.warmup")
+@Component
+@Getter
+@Setter
+public class CacheWarmupProperties {
+    private boolean enabled = true;
+    private int threads = 4;
+    private int batchSize = 50;
+    private int topN = 0;
+    private int pages = 3;
+    private int pageSize = 20;
+    private Duration timeBudget = Duration.ofSeconds(30);
+}
@@ -0,0 +1,147 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.service.base.CircuitBreaker;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+@Slf4j
+public class CircuitBreakingRedisConnectionFactory implements RedisConnectionFactory {
+    private static final String CONNECTION_PACKAGE = "org.springframework.data.redis.connection";
+    private static final String CLOSE_PIPELINE = "closePipeline";
+
+    private final RedisConnectionFactory delegate;
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakingRedisConnectionFactory(RedisConnectionFactory delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+        checkPermitted();
+        return guard(delegate::getConnection, RedisConnection.class);
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+        checkPermitted();
+        return guard(delegate::getClusterConnection, RedisClusterConnection.class);
+    }
+
+    @Override
+    public RedisSentinelConnection getSentinelConnection() {
+        return delegate.getSentinelConnection();
+    }
+
+    @Override
+    public boolean getConvertPipelineAndTxResults() {
+        return delegate.getConvertPipelineAndTxResults();
+    }
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        return delegate.translateExceptionIfPossible(ex);
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.state();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.redis.probe-interval:5000}")
+    public void probe() {
+        if (circuitBreaker.allowRequest()) {
+            return;
+        }
+
+        try (RedisConnection connection = delegate.getConnection()) {
+            connection.ping();
+            if (circuitBreaker.close()) {
+                log.info("Redis is reachable again, closing cache circuit breaker");
+            }
+        } catch (Exception e) {
+            log.debug("Redis probe failed, cache circuit breaker stays open: {}", e.getMessage());
+        }
+    }
+
+    private void checkPermitted() {
+        if (!circuitBreaker.allowRequest()) {
+            throw new CircuitOpenException();
+        }
+    }
+
+    private <T> T guard(Supplier<T> connectionSupplier, Class<T> type) {
+        T connection;
+        try {
+            connection = connectionSupplier.get();
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            throw e;
+        }
+        return type.cast(wrap(connection, type));
+    }
+
+    private Object wrap(Object target, Class<?> type) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                recordFailure(e.getCause());
+                throw e.getCause();
+            }
+            if (isRedisCommand(method)) {
+                circuitBreaker.onSuccess();
+            }
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && isCommandInterface(returnType)) {
+                return wrap(result, returnType);
+            }
+            return result;
+        });
+    }
+
+    private boolean isRedisCommand(Method method) {
+        return isCommandInterface(method.getDeclaringClass()) || CLOSE_PIPELINE.equals(method.getName());
+    }
+
+    private boolean isCommandInterface(Class<?> type) {
+        return type.isInterface()
+                && type.getSimpleName().endsWith("Commands")
+                && type.getPackageName().startsWith(CONNECTION_PACKAGE);
+    }
+
+    private void recordFailure(Throwable failure) {
+        if (failure instanceof DataAccessResourceFailureException || failure instanceof QueryTimeoutException) {
+            if (circuitBreaker.onFailure()) {
+                log.warn("Redis is failing, opening cache circuit breaker: {}", failure.getMessage());
+            }
+        }
+    }
+
+    public static class CircuitOpenException extends RedisConnectionFailureException {
+
+        public CircuitOpenException() {
+            super("Redis circuit breaker is open");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.service.base.ShardedLocalCache;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class LocalCacheConfig {
+
+    @Bean
+    public ShardedLocalCache<String, Object> projectLocalCache(LocalCacheProperties properties, CacheMetrics cacheMetrics) {
+        return new ShardedLocalCache<>(properties.getMaxSize(), properties.getTtl(), properties.getShards(), Clock.systemUTC(),
+                key -> cacheMetrics.eviction(ProjectCacheFamilies.ofKey(key)));
+    }
+}
@@ -0,0 +1,18 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.local")
+@Component
+@Getter
+@Setter
+public class LocalCacheProperties {
+    private int maxSize = 1000;
+    private Duration ttl = Duration.ofMinutes(5);
+    private int shards = 16;
+}
@@ -0,0 +1,19 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.negative")
+@Component
+@Getter
+@Setter
+public class NegativeCacheProperties {
+    private Duration ttl = Duration.ofSeconds(30);
+    private boolean slugFilter = true;
+    private int slugFilterExpectedInsertions = 10_000;
+    private double slugFilterFalsePositiveRate = 0.01;
+}
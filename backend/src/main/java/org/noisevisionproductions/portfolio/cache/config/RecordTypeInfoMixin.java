@@ -0,0 +1,7 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public interface RecordTypeInfoMixin {
+}
@@ -5,25 +5,42 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.serializer.CompressingRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.serializer.MeteredRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.service.base.CircuitBreaker;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 @Configuration
 @EnableCaching
 @Profile("!test")
+@ConditionalOnProperty(name = "cache.backend.type", havingValue = "redis", matchIfMissing = true)
 public class RedisConfig {
 
     @Value("${spring.redis.host}")
@@ -33,53 +50,96 @@ public class RedisConfig {
     private int redisPort;
 
     @Bean
-    public LettuceConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory lettuceConnectionFactory(RedisResilienceProperties resilienceProperties) {
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(redisHost, redisPort);
-        return new LettuceConnectionFactory(configuration);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(resilienceProperties.getCommandTimeout())
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder()
+                                .connectTimeout(resilienceProperties.getConnectTimeout())
+                                .build())
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(configuration, clientConfiguration);
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    @Primary
+    public CircuitBreakingRedisConnectionFactory redisConnectionFactory(LettuceConnectionFactory lettuceConnectionFactory,
+                                                                        RedisResilienceProperties resilienceProperties) {
+        return new CircuitBreakingRedisConnectionFactory(lettuceConnectionFactory,
+                new CircuitBreaker(resilienceProperties.getFailureThreshold()));
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       CacheSerializationProperties serializationProperties,
+                                                       CacheMetrics cacheMetrics) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
+        template.setConnectionFactory(connectionFactory);
 
-        GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
+        RedisSerializer<Object> valueSerializer = new MeteredRedisSerializer(
+                compressing(serializationProperties.getProject().create(new GenericJackson2JsonRedisSerializer(createObjectMapper()), cacheMetrics),
+                        serializationProperties, cacheMetrics, ProjectCacheFamilies::ofValue),
+                cacheMetrics, ProjectCacheFamilies::ofValue);
 
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(jackson2JsonRedisSerializer);
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(jackson2JsonRedisSerializer);
-        template.setDefaultSerializer(jackson2JsonRedisSerializer);
+        template.setHashValueSerializer(valueSerializer);
+        template.setDefaultSerializer(valueSerializer);
 
         return template;
     }
 
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
+    public RedisTemplate<String, byte[]> byteArrayRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                CacheSerializationProperties serializationProperties,
+                                                                CacheMetrics cacheMetrics) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(compressing(RedisSerializer.byteArray(), serializationProperties, cacheMetrics,
+                value -> ProjectCacheFamilies.RESPONSE));
+
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(LettuceConnectionFactory lettuceConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    public RedisCacheConfiguration cacheConfiguration(CacheSerializationProperties serializationProperties,
+                                                      CacheMetrics cacheMetrics) {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(60))
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer(createObjectMapper())
+                        RedisSerializationContext.SerializationPair.fromSerializer(compressing(
+                                serializationProperties.getSpringCache()
+                                        .create(new GenericJackson2JsonRedisSerializer(createObjectMapper()), cacheMetrics),
+                                serializationProperties, cacheMetrics, ProjectCacheFamilies::ofValue)
                         )
                 )
                 .disableCachingNullValues();
     }
 
+    private <T> RedisSerializer<T> compressing(RedisSerializer<T> serializer, CacheSerializationProperties serializationProperties,
+                                               CacheMetrics cacheMetrics, Function<Object, String> familyOf) {
+        if (!serializationProperties.isCompression()) {
+            return serializer;
+        }
+        return new CompressingRedisSerializer<>(serializer, serializationProperties.getCompressionThreshold(),
+                cacheMetrics, familyOf);
+    }
+
     private ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
@@ -90,6 +150,9 @@ public class RedisConfig {
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY
         );
+        mapper.addMixIn(ProjectView.class, RecordTypeInfoMixin.class);
+        mapper.addMixIn(ProjectViewPage.class, RecordTypeInfoMixin.class);
+        mapper.addMixIn(CacheEntry.class, RecordTypeInfoMixin.class);
         return mapper;
     }
 }
\ No newline at end of file
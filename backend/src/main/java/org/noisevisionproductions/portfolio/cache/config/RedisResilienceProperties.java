@@ -0,0 +1,18 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.redis")
+@Component
+@Getter
+@Setter
+public class RedisResilienceProperties {
+    private Duration commandTimeout = Duration.ofMillis(250);
+    private Duration connectTimeout = Duration.ofMillis(500);
+    private int failureThreshold = 5;
+}
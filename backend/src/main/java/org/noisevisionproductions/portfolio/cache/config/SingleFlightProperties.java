@@ -0,0 +1,18 @@
+package org.noisevisionproductions.portfolio.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "cache.single-flight")
+@Component
+@Getter
+@Setter
+public class SingleFlightProperties {
+    private boolean distributed = true;
+    private Duration lockTtl = Duration.ofSeconds(5);
+    private Duration pollInterval = Duration.ofMillis(50);
+}
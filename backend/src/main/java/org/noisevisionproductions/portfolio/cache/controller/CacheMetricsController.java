@@ -0,0 +1,25 @@
+package org.noisevisionproductions.portfolio.cache.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache/metrics")
+@RequiredArgsConstructor
+public class CacheMetricsController {
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8");
+
+    private final CacheMetrics cacheMetrics;
+
+    @GetMapping
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .body(cacheMetrics.scrape());
+    }
+}
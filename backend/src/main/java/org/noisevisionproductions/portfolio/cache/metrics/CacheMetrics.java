@@ -0,0 +1,262 @@
+package org.noisevisionproductions.portfolio.cache.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class CacheMetrics {
+    public static final String SERIALIZE = "serialize";
+    public static final String DESERIALIZE = "deserialize";
+    public static final String COMPRESS = "compress";
+    public static final String DECOMPRESS = "decompress";
+
+    private static final long[] SIZE_BUCKETS = {256, 1024, 4096, 16384, 65536, 262144, 1048576};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ConcurrentMap<String, FamilyMetrics> families = new ConcurrentHashMap<>();
+
+    public void hit(String family) {
+        hit(family, 1);
+    }
+
+    public void hit(String family, long count) {
+        if (count > 0) {
+            family(family).hits.add(count);
+        }
+    }
+
+    public void miss(String family) {
+        miss(family, 1);
+    }
+
+    public void miss(String family, long count) {
+        if (count > 0) {
+            family(family).misses.add(count);
+        }
+    }
+
+    public void eviction(String family) {
+        family(family).evictions.increment();
+    }
+
+    public void staleWrite(String family) {
+        family(family).staleWrites.increment();
+    }
+
+    public void incompatibleValue(String family) {
+        family(family).incompatibleValues.increment();
+    }
+
+    public <T> T recordLoad(String family, Supplier<T> loader) {
+        long startedAt = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            family(family).loads.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    public void recordSerialization(String family, String operation, long nanos) {
+        FamilyMetrics metrics = family(family);
+        (DESERIALIZE.equals(operation) ? metrics.deserializations : metrics.serializations).record(nanos);
+    }
+
+    public void recordCompression(String family, long nanos, long rawBytes, long storedBytes) {
+        FamilyMetrics metrics = family(family);
+        metrics.compressions.record(nanos);
+        metrics.compressionInputBytes.add(rawBytes);
+        metrics.compressionOutputBytes.add(storedBytes);
+    }
+
+    public void recordDecompression(String family, long nanos) {
+        family(family).decompressions.record(nanos);
+    }
+
+    public void recordValueSize(String family, long bytes) {
+        family(family).valueSizes.record(bytes);
+    }
+
+    public long hits(String family) {
+        FamilyMetrics metrics = families.get(family);
+        return metrics == null ? 0 : metrics.hits.sum();
+    }
+
+    public long misses(String family) {
+        FamilyMetrics metrics = families.get(family);
+        return metrics == null ? 0 : metrics.misses.sum();
+    }
+
+    public long evictions(String family) {
+        FamilyMetrics metrics = families.get(family);
+        return metrics == null ? 0 : metrics.evictions.sum();
+    }
+
+    public long staleWrites(String family) {
+        FamilyMetrics metrics = families.get(family);
+        return metrics == null ? 0 : metrics.staleWrites.sum();
+    }
+
+    public long incompatibleValues(String family) {
+        FamilyMetrics metrics = families.get(family);
+        return metrics == null ? 0 : metrics.incompatibleValues.sum();
+    }
+
+    public long loads(String family) {
+        FamilyMetrics metrics = families.get(family);
+        return metrics == null ? 0 : metrics.loads.count.sum();
+    }
+
+    public String scrape() {
+        Map<String, FamilyMetrics> sorted = new TreeMap<>(families);
+        StringBuilder out = new StringBuilder();
+
+        counter(out, "cache_hits_total", "Cache lookups served from cache", sorted, metrics -> metrics.hits);
+        counter(out, "cache_misses_total", "Cache lookups that fell through to the loader", sorted, metrics -> metrics.misses);
+        counter(out, "cache_evictions_total", "Local cache entries evicted by size or expiry", sorted, metrics -> metrics.evictions);
+        counter(out, "cache_stale_writes_total", "Cache writes refused because a newer version was already cached",
+                sorted, metrics -> metrics.staleWrites);
+        counter(out, "cache_incompatible_values_total", "Cached values ignored because they were written with another schema version",
+                sorted, metrics -> metrics.incompatibleValues);
+
+        out.append("# HELP cache_load_seconds Time spent loading values missing from cache\n");
+        out.append("# TYPE cache_load_seconds summary\n");
+        sorted.forEach((family, metrics) -> metrics.loads.write(out, "cache_load_seconds", label(family)));
+
+        out.append("# HELP cache_serialization_seconds Time spent encoding and decoding cached values\n");
+        out.append("# TYPE cache_serialization_seconds summary\n");
+        sorted.forEach((family, metrics) -> {
+            metrics.serializations.write(out, "cache_serialization_seconds", label(family) + ",operation=\"" + SERIALIZE + "\"");
+            metrics.deserializations.write(out, "cache_serialization_seconds", label(family) + ",operation=\"" + DESERIALIZE + "\"");
+        });
+
+        out.append("# HELP cache_value_size_bytes Size of values written to cache\n");
+        out.append("# TYPE cache_value_size_bytes histogram\n");
+        sorted.forEach((family, metrics) -> metrics.valueSizes.write(out, "cache_value_size_bytes", label(family)));
+
+        out.append("# HELP cache_compression_seconds Time spent compressing and decompressing cached values\n");
+        out.append("# TYPE cache_compression_seconds summary\n");
+        sorted.forEach((family, metrics) -> {
+            metrics.compressions.write(out, "cache_compression_seconds", label(family) + ",operation=\"" + COMPRESS + "\"");
+            metrics.decompressions.write(out, "cache_compression_seconds", label(family) + ",operation=\"" + DECOMPRESS + "\"");
+        });
+
+        compressionCounter(out, "cache_compression_input_bytes_total", "Bytes of values large enough to be compressed",
+                sorted, metrics -> metrics.compressionInputBytes);
+        compressionCounter(out, "cache_compression_output_bytes_total", "Bytes stored for values large enough to be compressed",
+                sorted, metrics -> metrics.compressionOutputBytes);
+
+        return out.toString();
+    }
+
+    private void counter(StringBuilder out, String name, String help, Map<String, FamilyMetrics> sorted,
+                         Function<FamilyMetrics, LongAdder> value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        sorted.forEach((family, metrics) ->
+                out.append(name).append('{').append(label(family)).append("} ").append(value.apply(metrics).sum()).append('\n'));
+    }
+
+    private void compressionCounter(StringBuilder out, String name, String help, Map<String, FamilyMetrics> sorted,
+                                    Function<FamilyMetrics, LongAdder> value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        sorted.forEach((family, metrics) -> {
+            if (metrics.compressions.count.sum() > 0) {
+                out.append(name).append('{').append(label(family)).append("} ").append(value.apply(metrics).sum()).append('\n');
+            }
+        });
+    }
+
+    private String label(String family) {
+        return "family=\"" + family.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private FamilyMetrics family(String family) {
+        return families.computeIfAbsent(family, key -> new FamilyMetrics());
+    }
+
+    private static final class FamilyMetrics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder staleWrites = new LongAdder();
+        private final LongAdder incompatibleValues = new LongAdder();
+        private final Timer loads = new Timer();
+        private final Timer serializations = new Timer();
+        private final Timer deserializations = new Timer();
+        private final Timer compressions = new Timer();
+        private final Timer decompressions = new Timer();
+        private final LongAdder compressionInputBytes = new LongAdder();
+        private final LongAdder compressionOutputBytes = new LongAdder();
+        private final SizeHistogram valueSizes = new SizeHistogram();
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private void write(StringBuilder out, String name, String labels) {
+            long samples = count.sum();
+            if (samples == 0) {
+                return;
+            }
+            out.append(name).append("_count{").append(labels).append("} ").append(samples).append('\n');
+            out.append(name).append("_sum{").append(labels).append("} ").append(totalNanos.sum() / NANOS_PER_SECOND).append('\n');
+            out.append(name).append("_max{").append(labels).append("} ").append(maxNanos.get() / NANOS_PER_SECOND).append('\n');
+        }
+    }
+
+    private static final class SizeHistogram {
+        private final LongAdder[] buckets = new LongAdder[SIZE_BUCKETS.length];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+
+        private SizeHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long bytes) {
+            for (int i = 0; i < SIZE_BUCKETS.length; i++) {
+                if (bytes <= SIZE_BUCKETS[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(bytes);
+        }
+
+        private void write(StringBuilder out, String name, String labels) {
+            long samples = count.sum();
+            if (samples == 0) {
+                return;
+            }
+            long cumulative = 0;
+            for (int i = 0; i < SIZE_BUCKETS.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append(name).append("_bucket{").append(labels).append(",le=\"").append(SIZE_BUCKETS[i])
+                        .append("\"} ").append(cumulative).append('\n');
+            }
+            out.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(samples).append('\n');
+            out.append(name).append("_count{").append(labels).append("} ").append(samples).append('\n');
+            out.append(name).append("_sum{").append(labels).append("} ").append(sum.sum()).append('\n');
+        }
+    }
+}
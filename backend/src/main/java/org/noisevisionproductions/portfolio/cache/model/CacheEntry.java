@@ -0,0 +1,14 @@
+package org.noisevisionproductions.portfolio.cache.model;
+
+import java.io.Serializable;
+
+public record CacheEntry<V>(V value, long softExpiresAt) implements Serializable {
+
+    public static <V> CacheEntry<V> fresh(V value) {
+        return new CacheEntry<>(value, Long.MAX_VALUE);
+    }
+
+    public boolean isStale(long now) {
+        return now >= softExpiresAt;
+    }
+}
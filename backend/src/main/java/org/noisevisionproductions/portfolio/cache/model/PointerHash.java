@@ -0,0 +1,6 @@
+package org.noisevisionproductions.portfolio.cache.model;
+
+import java.util.List;
+
+public record PointerHash(String pointer, List<String> values) {
+}
@@ -0,0 +1,8 @@
+package org.noisevisionproductions.portfolio.cache.model.project;
+
+public record ProjectVersion(long version, long lastModified) {
+
+    public String etag(String resource) {
+        return "\"" + resource + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,17 @@
+package org.noisevisionproductions.portfolio.cache.serializer;
+
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+public enum CacheSerializerType {
+    JSON,
+    BINARY;
+
+    public RedisSerializer<Object> create(RedisSerializer<Object> jsonSerializer) {
+        return create(jsonSerializer, new CacheMetrics());
+    }
+
+    public RedisSerializer<Object> create(RedisSerializer<Object> jsonSerializer, CacheMetrics cacheMetrics) {
+        return this == BINARY ? new ProjectBinaryRedisSerializer(jsonSerializer, cacheMetrics) : jsonSerializer;
+    }
+}
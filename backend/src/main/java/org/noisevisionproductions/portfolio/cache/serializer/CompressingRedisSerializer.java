@@ -0,0 +1,79 @@
+package org.noisevisionproductions.portfolio.cache.serializer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+    private static final byte MAGIC = (byte) 0xC4;
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+    private static final int MAX_COMPRESSION_RATIO = 255;
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    @Getter
+    private final RedisSerializer<T> delegate;
+    private final int threshold;
+    private final CacheMetrics cacheMetrics;
+    private final Function<Object, String> familyOf;
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (value == null || bytes == null || bytes.length < threshold) {
+            return bytes;
+        }
+
+        long startedAt = System.nanoTime();
+        LZ4Compressor compressor = LZ4.fastCompressor();
+        byte[] compressed = new byte[HEADER_LENGTH + compressor.maxCompressedLength(bytes.length)];
+        int length = HEADER_LENGTH + compressor.compress(bytes, 0, bytes.length, compressed, HEADER_LENGTH);
+        byte[] stored = bytes;
+        if (length < bytes.length) {
+            compressed[0] = MAGIC;
+            ByteBuffer.wrap(compressed, 1, Integer.BYTES).putInt(bytes.length);
+            stored = Arrays.copyOf(compressed, length);
+        }
+        cacheMetrics.recordCompression(familyOf.apply(value), System.nanoTime() - startedAt, bytes.length, stored.length);
+        return stored;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length <= HEADER_LENGTH || bytes[0] != MAGIC) {
+            return delegate.deserialize(bytes);
+        }
+
+        long startedAt = System.nanoTime();
+        int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        if (length <= 0 || length / MAX_COMPRESSION_RATIO > bytes.length) {
+            throw new SerializationException("Invalid compressed cache value length: " + length);
+        }
+
+        byte[] raw;
+        try {
+            raw = LZ4.safeDecompressor().decompress(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, length);
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Could not decompress cache value", e);
+        }
+        if (raw.length != length) {
+            throw new SerializationException("Compressed cache value is truncated");
+        }
+        long nanos = System.nanoTime() - startedAt;
+
+        T value = delegate.deserialize(raw);
+        if (value != null) {
+            cacheMetrics.recordDecompression(familyOf.apply(value), nanos);
+        }
+        return value;
+    }
+}
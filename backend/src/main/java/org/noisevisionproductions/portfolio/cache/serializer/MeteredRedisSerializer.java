@@ -0,0 +1,39 @@
+package org.noisevisionproductions.portfolio.cache.serializer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+    @Getter
+    private final RedisSerializer<Object> delegate;
+    private final CacheMetrics cacheMetrics;
+    private final Function<Object, String> familyOf;
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        long startedAt = System.nanoTime();
+        byte[] bytes = delegate.serialize(value);
+        if (value != null) {
+            String family = familyOf.apply(value);
+            cacheMetrics.recordSerialization(family, CacheMetrics.SERIALIZE, System.nanoTime() - startedAt);
+            cacheMetrics.recordValueSize(family, bytes == null ? 0 : bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        long startedAt = System.nanoTime();
+        Object value = delegate.deserialize(bytes);
+        if (value != null) {
+            cacheMetrics.recordSerialization(familyOf.apply(value), CacheMetrics.DESERIALIZE, System.nanoTime() - startedAt);
+        }
+        return value;
+    }
+}
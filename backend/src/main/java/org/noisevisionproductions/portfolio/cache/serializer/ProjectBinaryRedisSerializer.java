@@ -0,0 +1,308 @@
+package org.noisevisionproductions.portfolio.cache.serializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectBinaryRedisSerializer implements RedisSerializer<Object> {
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte SCHEMA_VERSION = 2;
+
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_PROJECT_VIEW = 2;
+    private static final byte TYPE_PROJECT_VIEW_PAGE = 3;
+    private static final byte TYPE_FALLBACK = 4;
+    private static final byte TYPE_CACHE_ENTRY = 5;
+
+    private final RedisSerializer<Object> fallbackSerializer;
+    private final CacheMetrics cacheMetrics;
+
+    public ProjectBinaryRedisSerializer(RedisSerializer<Object> fallbackSerializer) {
+        this(fallbackSerializer, new CacheMetrics());
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        Writer writer = new Writer();
+        writer.writeByte(MAGIC);
+        writer.writeByte(SCHEMA_VERSION);
+        switch (value) {
+            case ProjectView project -> {
+                writer.writeByte(TYPE_PROJECT_VIEW);
+                writeProject(writer, project);
+            }
+            case ProjectViewPage page -> {
+                writer.writeByte(TYPE_PROJECT_VIEW_PAGE);
+                writer.writeList(page.items(), project -> writeProject(writer, project));
+                writer.writeString(page.nextCursor());
+            }
+            case CacheEntry<?> entry -> {
+                writer.writeByte(TYPE_CACHE_ENTRY);
+                writer.writeSignedVarLong(entry.softExpiresAt());
+                writer.writeBytes(serialize(entry.value()));
+            }
+            case Long number -> {
+                writer.writeByte(TYPE_LONG);
+                writer.writeSignedVarLong(number);
+            }
+            case Integer number -> {
+                writer.writeByte(TYPE_LONG);
+                writer.writeSignedVarLong(number);
+            }
+            default -> {
+                writer.writeByte(TYPE_FALLBACK);
+                writer.writeBytes(fallbackSerializer.serialize(value));
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallbackSerializer.deserialize(bytes);
+        }
+
+        try {
+            Reader reader = new Reader(ByteBuffer.wrap(bytes, 1, bytes.length - 1));
+            byte version = reader.readByte();
+            if (version != SCHEMA_VERSION) {
+                log.debug("Ignoring cached value written with schema version {}", version);
+                cacheMetrics.incompatibleValue(familyOf(bytes));
+                return null;
+            }
+
+            byte type = reader.readByte();
+            return switch (type) {
+                case TYPE_PROJECT_VIEW -> readProject(reader);
+                case TYPE_PROJECT_VIEW_PAGE -> new ProjectViewPage(reader.readList(this::readProject), reader.readString());
+                case TYPE_LONG -> reader.readSignedVarLong();
+                case TYPE_FALLBACK -> fallbackSerializer.deserialize(reader.readBytes());
+                case TYPE_CACHE_ENTRY -> {
+                    long softExpiresAt = reader.readSignedVarLong();
+                    yield new CacheEntry<>(deserialize(reader.readBytes()), softExpiresAt);
+                }
+                default -> throw new SerializationException("Unknown cached value type: " + type);
+            };
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new SerializationException("Corrupted cached value", e);
+        }
+    }
+
+    private String familyOf(byte[] bytes) {
+        if (bytes.length < 3) {
+            return ProjectCacheFamilies.OTHER;
+        }
+
+        return switch (bytes[2]) {
+            case TYPE_PROJECT_VIEW, TYPE_CACHE_ENTRY -> ProjectCacheFamilies.ID;
+            case TYPE_PROJECT_VIEW_PAGE -> ProjectCacheFamilies.PAGE;
+            case TYPE_LONG -> ProjectCacheFamilies.SLUG;
+            default -> ProjectCacheFamilies.OTHER;
+        };
+    }
+
+    private void writeProject(Writer writer, ProjectView project) {
+        writer.writeNullableLong(project.id());
+        writer.writeString(project.name());
+        writer.writeString(project.slug());
+        writer.writeString(project.description());
+        writer.writeString(project.repositoryUrl());
+        writer.writeString(project.status() == null ? null : project.status().name());
+        writer.writeDate(project.createdAt());
+        writer.writeDate(project.startDate());
+        writer.writeDate(project.endDate());
+        writer.writeDate(project.lastModifiedAt());
+        writer.writeSignedVarLong(project.version());
+        writer.writeList(project.features(), writer::writeString);
+        writer.writeList(project.technologies(), writer::writeString);
+        writer.writeList(project.contributors(), contributor -> {
+            writer.writeString(contributor.name());
+            writer.writeString(contributor.role());
+            writer.writeString(contributor.profileUrl());
+        });
+        writer.writeList(project.projectImages(), image -> {
+            writer.writeNullableLong(image.id());
+            writer.writeString(image.imageUrl());
+            writer.writeString(image.caption());
+        });
+    }
+
+    private ProjectView readProject(Reader reader) {
+        Long id = reader.readNullableLong();
+        String name = reader.readString();
+        String slug = reader.readString();
+        String description = reader.readString();
+        String repositoryUrl = reader.readString();
+        String status = reader.readString();
+        Date createdAt = reader.readDate();
+        Date startDate = reader.readDate();
+        Date endDate = reader.readDate();
+        Date lastModifiedAt = reader.readDate();
+        long version = reader.readSignedVarLong();
+        List<String> features = reader.readList(Reader::readString);
+        List<String> technologies = reader.readList(Reader::readString);
+        List<ContributorView> contributors = reader.readList(r ->
+                new ContributorView(r.readString(), r.readString(), r.readString()));
+        List<ProjectImageView> images = reader.readList(r ->
+                new ProjectImageView(r.readNullableLong(), r.readString(), r.readString()));
+
+        return new ProjectView(id, name, slug, description, repositoryUrl,
+                status == null ? null : ProjectStatus.valueOf(status),
+                createdAt, startDate, endDate, lastModifiedAt, version,
+                features, technologies, contributors, images);
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        void writeByte(byte value) {
+            out.write(value);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeNullableLong(Long value) {
+            out.write(value == null ? 0 : 1);
+            if (value != null) {
+                writeSignedVarLong(value);
+            }
+        }
+
+        void writeDate(Date value) {
+            writeNullableLong(value == null ? null : value.getTime());
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            out.writeBytes(bytes);
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        <T> void writeList(List<T> values, Consumer<T> element) {
+            writeVarLong(values.size());
+            values.forEach(element);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            return buffer.get();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        long readSignedVarLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        Long readNullableLong() {
+            return buffer.get() == 0 ? null : readSignedVarLong();
+        }
+
+        Date readDate() {
+            Long millis = readNullableLong();
+            return millis == null ? null : new Date(millis);
+        }
+
+        String readString() {
+            int length = length(readVarLong());
+            if (length == 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length - 1];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        byte[] readBytes() {
+            byte[] bytes = new byte[length(readVarLong())];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        <T> List<T> readList(Function<Reader, T> element) {
+            int size = length(readVarLong());
+            List<T> values = new ArrayList<>(Math.min(size, buffer.remaining()));
+            for (int i = 0; i < size; i++) {
+                values.add(element.apply(this));
+            }
+            return values;
+        }
+
+        private int length(long value) {
+            if (value < 0 || value > buffer.remaining() + 1L) {
+                throw new IllegalArgumentException("Invalid length: " + value);
+            }
+            return (int) value;
+        }
+    }
+}
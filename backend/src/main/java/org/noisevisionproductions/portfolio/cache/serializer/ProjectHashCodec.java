@@ -0,0 +1,182 @@
+package org.noisevisionproductions.portfolio.cache.serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.RequiredArgsConstructor;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectFieldset;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectHashCodec {
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String SLUG = "slug";
+    public static final String DESCRIPTION = "description";
+    public static final String REPOSITORY_URL = "repositoryUrl";
+    public static final String STATUS = "status";
+    public static final String CREATED_AT = "createdAt";
+    public static final String START_DATE = "startDate";
+    public static final String END_DATE = "endDate";
+    public static final String LAST_MODIFIED_AT = "lastModifiedAt";
+    public static final String VERSION = "version";
+    public static final String FEATURES = "features";
+    public static final String TECHNOLOGIES = "technologies";
+    public static final String CONTRIBUTORS = "contributors";
+    public static final String PROJECT_IMAGES = "projectImages";
+    public static final String COVER_IMAGE = "coverImage";
+    public static final String SOFT_EXPIRES_AT = "softExpiresAt";
+
+    public static final List<String> FIELDS = List.of(ID, NAME, SLUG, DESCRIPTION, REPOSITORY_URL, STATUS, CREATED_AT,
+            START_DATE, END_DATE, LAST_MODIFIED_AT, VERSION, FEATURES, TECHNOLOGIES, CONTRIBUTORS, PROJECT_IMAGES, SOFT_EXPIRES_AT);
+    public static final List<String> SUMMARY_FIELDS = List.of(ID, NAME, SLUG, STATUS, TECHNOLOGIES, COVER_IMAGE);
+
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+    private static final JavaType STRING = TYPES.constructType(String.class);
+    private static final JavaType DATE = TYPES.constructType(Date.class);
+    private static final JavaType STRING_LIST = TYPES.constructCollectionType(List.class, String.class);
+
+    private final ObjectMapper objectMapper;
+    private final CacheMetrics cacheMetrics;
+
+    public Map<String, String> encode(CacheEntry<ProjectView> entry) {
+        Map<String, Object> values = values(entry.value());
+        values.put(SOFT_EXPIRES_AT, entry.softExpiresAt());
+        return write(values);
+    }
+
+    public Map<String, String> encode(ProjectView project, Collection<String> fields) {
+        Map<String, Object> values = values(project);
+        values.keySet().retainAll(fields);
+        return write(values);
+    }
+
+    public static List<String> fields(ProjectFieldset fieldset) {
+        return fieldset == ProjectFieldset.SUMMARY ? SUMMARY_FIELDS : FIELDS;
+    }
+
+    public CacheEntry<ProjectView> decode(List<String> hash) {
+        if (isIncomplete(hash, FIELDS)) {
+            return null;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            ProjectView project = new ProjectView(
+                    read(hash, FIELDS, ID, TYPES.constructType(Long.class)),
+                    read(hash, FIELDS, NAME, STRING),
+                    read(hash, FIELDS, SLUG, STRING),
+                    read(hash, FIELDS, DESCRIPTION, STRING),
+                    read(hash, FIELDS, REPOSITORY_URL, STRING),
+                    read(hash, FIELDS, STATUS, TYPES.constructType(ProjectStatus.class)),
+                    read(hash, FIELDS, CREATED_AT, DATE),
+                    read(hash, FIELDS, START_DATE, DATE),
+                    read(hash, FIELDS, END_DATE, DATE),
+                    read(hash, FIELDS, LAST_MODIFIED_AT, DATE),
+                    readVersion(hash),
+                    read(hash, FIELDS, FEATURES, STRING_LIST),
+                    read(hash, FIELDS, TECHNOLOGIES, STRING_LIST),
+                    read(hash, FIELDS, CONTRIBUTORS, TYPES.constructCollectionType(List.class, ContributorView.class)),
+                    read(hash, FIELDS, PROJECT_IMAGES, TYPES.constructCollectionType(List.class, ProjectImageView.class)));
+            Long softExpiresAt = read(hash, FIELDS, SOFT_EXPIRES_AT, TYPES.constructType(Long.class));
+            return new CacheEntry<>(project, softExpiresAt == null ? Long.MAX_VALUE : softExpiresAt);
+        } finally {
+            cacheMetrics.recordSerialization(ProjectCacheFamilies.ID, CacheMetrics.DESERIALIZE, System.nanoTime() - startedAt);
+        }
+    }
+
+    public ProjectSummaryView decodeSummary(List<String> hash) {
+        if (isIncomplete(hash, SUMMARY_FIELDS)) {
+            return null;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return new ProjectSummaryView(
+                    read(hash, SUMMARY_FIELDS, ID, TYPES.constructType(Long.class)),
+                    read(hash, SUMMARY_FIELDS, NAME, STRING),
+                    read(hash, SUMMARY_FIELDS, SLUG, STRING),
+                    read(hash, SUMMARY_FIELDS, STATUS, TYPES.constructType(ProjectStatus.class)),
+                    read(hash, SUMMARY_FIELDS, TECHNOLOGIES, STRING_LIST),
+                    read(hash, SUMMARY_FIELDS, COVER_IMAGE, TYPES.constructType(ProjectImageView.class)));
+        } finally {
+            cacheMetrics.recordSerialization(ProjectCacheFamilies.ID, CacheMetrics.DESERIALIZE, System.nanoTime() - startedAt);
+        }
+    }
+
+    private Map<String, Object> values(ProjectView project) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(ID, project.id());
+        values.put(NAME, project.name());
+        values.put(SLUG, project.slug());
+        values.put(DESCRIPTION, project.description());
+        values.put(REPOSITORY_URL, project.repositoryUrl());
+        values.put(STATUS, project.status());
+        values.put(CREATED_AT, project.createdAt());
+        values.put(START_DATE, project.startDate());
+        values.put(END_DATE, project.endDate());
+        values.put(LAST_MODIFIED_AT, project.lastModifiedAt());
+        values.put(VERSION, project.version());
+        values.put(FEATURES, project.features());
+        values.put(TECHNOLOGIES, project.technologies());
+        values.put(CONTRIBUTORS, project.contributors());
+        values.put(PROJECT_IMAGES, project.projectImages());
+        values.put(COVER_IMAGE, project.projectImages().isEmpty() ? null : project.projectImages().getFirst());
+        return values;
+    }
+
+    private Map<String, String> write(Map<String, Object> values) {
+        long startedAt = System.nanoTime();
+        try {
+            Map<String, String> hash = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                hash.put(value.getKey(), VERSION.equals(value.getKey())
+                        ? String.valueOf(value.getValue())
+                        : objectMapper.writeValueAsString(value.getValue()));
+            }
+            return hash;
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not encode project hash", e);
+        } finally {
+            cacheMetrics.recordSerialization(ProjectCacheFamilies.ID, CacheMetrics.SERIALIZE, System.nanoTime() - startedAt);
+        }
+    }
+
+    private boolean isIncomplete(List<String> hash, List<String> fields) {
+        return hash == null || hash.size() != fields.size() || hash.stream().anyMatch(Objects::isNull);
+    }
+
+    private long readVersion(List<String> hash) {
+        try {
+            return Long.parseLong(hash.get(FIELDS.indexOf(VERSION)));
+        } catch (NumberFormatException e) {
+            throw new SerializationException("Could not decode project hash field: " + VERSION, e);
+        }
+    }
+
+    private <T> T read(List<String> hash, List<String> fields, String field, JavaType type) {
+        try {
+            return objectMapper.readValue(hash.get(fields.indexOf(field)), type);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not decode project hash field: " + field, e);
+        }
+    }
+}
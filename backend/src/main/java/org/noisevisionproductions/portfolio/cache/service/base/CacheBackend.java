@@ -0,0 +1,66 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import org.noisevisionproductions.portfolio.cache.model.PointerHash;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public interface CacheBackend {
+    Object get(String key);
+
+    List<Object> multiGet(List<String> keys);
+
+    void set(String key, Object value, long ttl, TimeUnit timeUnit);
+
+    String getString(String key);
+
+    void setString(String key, String value, long ttl, TimeUnit timeUnit);
+
+    List<String> multiGetStrings(List<String> keys);
+
+    boolean setStringIfAbsent(String key, String value);
+
+    boolean setStringIfAbsent(String key, String value, long ttl, TimeUnit timeUnit);
+
+    boolean deleteIfEquals(String key, String value);
+
+    Long incrementVersion(String versionKey, String modifiedKey, long now);
+
+    byte[] getBytes(String key);
+
+    void setBytes(String key, byte[] value, long ttl, TimeUnit timeUnit);
+
+    List<Object> getList(String key);
+
+    void setList(String key, List<?> values, long ttl, TimeUnit timeUnit);
+
+    List<String> hashGet(String key, List<String> fields);
+
+    List<List<String>> hashMultiGet(List<String> keys, List<String> fields);
+
+    boolean hashSet(String key, Map<String, String> fields, String versionField, long ttl, TimeUnit timeUnit);
+
+    boolean hashUpdate(String key, Map<String, String> fields, String versionField);
+
+    PointerHash hashGetByPointer(String pointerKey, String targetPrefix, List<String> fields);
+
+    void delete(Collection<String> keys);
+
+    void tag(String tag, Collection<String> keys, long ttl, TimeUnit timeUnit);
+
+    Set<String> invalidateTag(String tag);
+
+    void deleteByPattern(String pattern);
+
+    void incrementScores(String key, Map<String, Long> increments, long ttl, TimeUnit timeUnit);
+
+    List<String> topScores(String key, int limit);
+
+    void publish(String channel, String message);
+
+    void subscribe(String channel, Consumer<String> listener);
+}
@@ -0,0 +1,6 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+public enum CacheBackendType {
+    REDIS,
+    MEMORY
+}
@@ -0,0 +1,109 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cache.backend.type", havingValue = "redis", matchIfMissing = true)
+public class CacheTagService {
+    private static final String TAG_PREFIX = "portfolio:tag:";
+    private static final int BATCH_SIZE = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void tag(String tag, Collection<String> keys, long ttl, TimeUnit timeUnit) {
+        if (tag == null || keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        String tagKey = TAG_PREFIX + tag;
+        String[] members = keys.toArray(String[]::new);
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    redis.opsForSet().add(tagKey, members);
+                    redis.expire(tagKey, ttl, timeUnit);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to register {} keys under tag: {}", members.length, tag, e);
+        }
+    }
+
+    public Set<String> invalidate(String tag) {
+        String tagKey = TAG_PREFIX + tag;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(tagKey))) {
+            return Set.of();
+        }
+
+        String drainKey = tagKey + ":drain:" + UUID.randomUUID();
+        stringRedisTemplate.rename(tagKey, drainKey);
+
+        Set<String> deleted = new HashSet<>();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(drainKey, options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == BATCH_SIZE) {
+                    deleteBatch(batch, deleted);
+                }
+            }
+        }
+        deleteBatch(batch, deleted);
+        stringRedisTemplate.delete(drainKey);
+
+        log.debug("Invalidated {} keys tagged with: {}", deleted.size(), tag);
+        return deleted;
+    }
+
+    public long deleteByPattern(String pattern) {
+        Set<String> deleted = new HashSet<>();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == BATCH_SIZE) {
+                    deleteBatch(batch, deleted);
+                }
+            }
+        }
+        deleteBatch(batch, deleted);
+
+        log.debug("Deleted {} keys matching pattern: {}", deleted.size(), pattern);
+        return deleted.size();
+    }
+
+    private void deleteBatch(List<String> batch, Set<String> deleted) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.copyOf(batch);
+        stringRedisTemplate.delete(keys);
+        deleted.addAll(keys);
+        batch.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN
+    }
+
+    private final int failureThreshold;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile State state = State.CLOSED;
+
+    public CircuitBreaker(int failureThreshold) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+    }
+
+    public boolean allowRequest() {
+        return state == State.CLOSED;
+    }
+
+    public void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public boolean onFailure() {
+        if (consecutiveFailures.incrementAndGet() < failureThreshold || state == State.OPEN) {
+            return false;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                return false;
+            }
+            state = State.OPEN;
+            return true;
+        }
+    }
+
+    public synchronized boolean close() {
+        consecutiveFailures.set(0);
+        if (state == State.CLOSED) {
+            return false;
+        }
+        state = State.CLOSED;
+        return true;
+    }
+
+    public State state() {
+        return state;
+    }
+}
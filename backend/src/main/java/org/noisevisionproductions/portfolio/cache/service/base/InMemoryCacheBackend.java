@@ -0,0 +1,339 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import org.noisevisionproductions.portfolio.cache.model.PointerHash;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+public class InMemoryCacheBackend implements CacheBackend {
+    private final ShardedLocalCache<String, Object> entries;
+    private final LocalCache<String, Set<String>> tags;
+    private final LocalCache<String, Map<String, Long>> scores;
+    private final ConcurrentMap<String, String> persistent = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+
+    public InMemoryCacheBackend(int maxSize, Duration maxTtl, int shardCount) {
+        this(maxSize, maxTtl, shardCount, Clock.systemUTC(), key -> {
+        });
+    }
+
+    public InMemoryCacheBackend(int maxSize, Duration maxTtl, int shardCount, Clock clock,
+                                Consumer<String> evictionListener) {
+        this.entries = new ShardedLocalCache<>(maxSize, maxTtl, shardCount, clock, evictionListener);
+        this.tags = new LocalCache<>(maxSize, maxTtl, clock);
+        this.scores = new LocalCache<>(maxSize, maxTtl, clock);
+    }
+
+    @Override
+    public Object get(String key) {
+        return shard(key).get(key);
+    }
+
+    @Override
+    public List<Object> multiGet(List<String> keys) {
+        List<Object> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
+    @Override
+    public void set(String key, Object value, long ttl, TimeUnit timeUnit) {
+        shard(key).put(key, value, Duration.of(ttl, timeUnit.toChronoUnit()));
+    }
+
+    @Override
+    public String getString(String key) {
+        String value = persistent.get(key);
+        if (value != null) {
+            return value;
+        }
+        return get(key) instanceof String cached ? cached : null;
+    }
+
+    @Override
+    public void setString(String key, String value, long ttl, TimeUnit timeUnit) {
+        persistent.remove(key);
+        set(key, value, ttl, timeUnit);
+    }
+
+    @Override
+    public List<String> multiGetStrings(List<String> keys) {
+        List<String> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(getString(key));
+        }
+        return values;
+    }
+
+    @Override
+    public boolean setStringIfAbsent(String key, String value) {
+        synchronized (persistent) {
+            if (getString(key) != null) {
+                return false;
+            }
+            persistent.put(key, value);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean setStringIfAbsent(String key, String value, long ttl, TimeUnit timeUnit) {
+        LocalCache<String, Object> shard = shard(key);
+        synchronized (shard) {
+            if (getString(key) != null) {
+                return false;
+            }
+            shard.put(key, value, Duration.of(ttl, timeUnit.toChronoUnit()));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean deleteIfEquals(String key, String value) {
+        if (persistent.remove(key, value)) {
+            return true;
+        }
+
+        LocalCache<String, Object> shard = shard(key);
+        synchronized (shard) {
+            if (!value.equals(shard.get(key))) {
+                return false;
+            }
+            shard.evict(key);
+            return true;
+        }
+    }
+
+    @Override
+    public Long incrementVersion(String versionKey, String modifiedKey, long now) {
+        synchronized (persistent) {
+            String current = getString(versionKey);
+            long version = (current == null ? now : Long.parseLong(current)) + 1;
+            persistent.put(versionKey, String.valueOf(version));
+            persistent.put(modifiedKey, String.valueOf(now));
+            return version;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String key) {
+        return get(key) instanceof byte[] value ? value : null;
+    }
+
+    @Override
+    public void setBytes(String key, byte[] value, long ttl, TimeUnit timeUnit) {
+        set(key, value, ttl, timeUnit);
+    }
+
+    @Override
+    public List<Object> getList(String key) {
+        return get(key) instanceof List<?> values ? List.copyOf(values) : List.of();
+    }
+
+    @Override
+    public void setList(String key, List<?> values, long ttl, TimeUnit timeUnit) {
+        if (values.isEmpty()) {
+            shard(key).evict(key);
+            return;
+        }
+        set(key, List.copyOf(values), ttl, timeUnit);
+    }
+
+    @Override
+    public List<String> hashGet(String key, List<String> fields) {
+        Map<?, ?> hash = get(key) instanceof Map<?, ?> values ? values : Map.of();
+        List<String> values = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            values.add((String) hash.get(field));
+        }
+        return values;
+    }
+
+    @Override
+    public List<List<String>> hashMultiGet(List<String> keys, List<String> fields) {
+        List<List<String>> hashes = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            hashes.add(hashGet(key, fields));
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean hashSet(String key, Map<String, String> fields, String versionField, long ttl, TimeUnit timeUnit) {
+        if (fields.isEmpty()) {
+            return false;
+        }
+
+        LocalCache<String, Object> shard = shard(key);
+        synchronized (shard) {
+            if (isOutdated(shard.get(key), fields, versionField)) {
+                return false;
+            }
+            shard.put(key, Map.copyOf(fields), Duration.of(ttl, timeUnit.toChronoUnit()));
+            return true;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean hashUpdate(String key, Map<String, String> fields, String versionField) {
+        if (fields.isEmpty()) {
+            return false;
+        }
+
+        LocalCache<String, Object> shard = shard(key);
+        synchronized (shard) {
+            Object current = shard.get(key);
+            if (!(current instanceof Map<?, ?>) || isOutdated(current, fields, versionField)) {
+                return false;
+            }
+
+            return shard.replace(key, value -> {
+                Map<String, String> hash = new HashMap<>((Map<String, String>) value);
+                hash.putAll(fields);
+                return Map.copyOf(hash);
+            });
+        }
+    }
+
+    @Override
+    public PointerHash hashGetByPointer(String pointerKey, String targetPrefix, List<String> fields) {
+        String pointer = getString(pointerKey);
+        return pointer == null ? null : new PointerHash(pointer, hashGet(targetPrefix + pointer, fields));
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        keys.forEach(key -> {
+            persistent.remove(key);
+            shard(key).evict(key);
+        });
+    }
+
+    @Override
+    public void tag(String tag, Collection<String> keys, long ttl, TimeUnit timeUnit) {
+        if (tag == null || keys == null || keys.isEmpty()) {
+            return;
+        }
+
+        synchronized (tags) {
+            Set<String> members = tags.get(tag);
+            if (members == null) {
+                members = ConcurrentHashMap.newKeySet();
+            }
+            members.addAll(keys);
+            tags.put(tag, members, Duration.of(ttl, timeUnit.toChronoUnit()));
+        }
+    }
+
+    @Override
+    public Set<String> invalidateTag(String tag) {
+        Set<String> members;
+        synchronized (tags) {
+            members = tags.get(tag);
+            tags.evict(tag);
+        }
+        if (members == null) {
+            return Set.of();
+        }
+
+        delete(members);
+        return Set.copyOf(members);
+    }
+
+    @Override
+    public void deleteByPattern(String pattern) {
+        Predicate<String> matches = Pattern.compile(toRegex(pattern)).asMatchPredicate();
+        persistent.keySet().removeIf(matches);
+        entries.evictIf(matches);
+    }
+
+    @Override
+    public void incrementScores(String key, Map<String, Long> increments, long ttl, TimeUnit timeUnit) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        synchronized (scores) {
+            Map<String, Long> current = scores.get(key);
+            Map<String, Long> updated = current == null ? new HashMap<>() : new HashMap<>(current);
+            increments.forEach((member, increment) -> updated.merge(member, increment, Long::sum));
+            scores.put(key, Map.copyOf(updated), Duration.of(ttl, timeUnit.toChronoUnit()));
+        }
+    }
+
+    @Override
+    public List<String> topScores(String key, int limit) {
+        Map<String, Long> current = scores.get(key);
+        if (current == null || limit <= 0) {
+            return List.of();
+        }
+
+        return current.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        subscribers.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        subscribers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private boolean isOutdated(Object current, Map<String, String> fields, String versionField) {
+        if (!(current instanceof Map<?, ?> hash)) {
+            return false;
+        }
+
+        Double currentVersion = version(hash.get(versionField));
+        Double incomingVersion = version(fields.get(versionField));
+        return currentVersion != null && (incomingVersion == null || incomingVersion < currentVersion);
+    }
+
+    private Double version(Object value) {
+        try {
+            return value == null ? null : Double.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private LocalCache<String, Object> shard(String key) {
+        return entries.shard(key);
+    }
+
+    private String toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+public class LocalCache<K, V> {
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Consumer<K> evictionListener;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LocalCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public LocalCache(int maxSize, Duration ttl, Clock clock) {
+        this(maxSize, ttl, clock, key -> {
+        });
+    }
+
+    public LocalCache(int maxSize, Duration ttl, Clock clock, Consumer<K> evictionListener) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Local cache size must be positive");
+        }
+
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.evictionListener = evictionListener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= LocalCache.this.maxSize) {
+                    return false;
+                }
+                LocalCache.this.evictionListener.accept(eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            evictionListener.accept(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        put(key, value, ttlMillis);
+    }
+
+    public synchronized void put(K key, V value, Duration ttl) {
+        put(key, value, Math.min(ttlMillis, ttl.toMillis()));
+    }
+
+    public synchronized boolean putIf(K key, V value, Duration ttl, Predicate<V> replaces) {
+        V current = get(key);
+        if (current != null && !replaces.test(current)) {
+            return false;
+        }
+        put(key, value, ttl);
+        return true;
+    }
+
+    public synchronized boolean replace(K key, UnaryOperator<V> remapping) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAt() <= clock.millis()) {
+            return false;
+        }
+        entries.put(key, new Entry<>(remapping.apply(entry.value()), entry.expiresAt()));
+        return true;
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void evictIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void put(K key, V value, long ttl) {
+        if (value == null || ttl <= 0) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry<>(value, clock.millis() + ttl));
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
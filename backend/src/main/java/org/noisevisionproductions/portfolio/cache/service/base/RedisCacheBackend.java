@@ -0,0 +1,294 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import lombok.RequiredArgsConstructor;
+import org.noisevisionproductions.portfolio.cache.model.PointerHash;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class RedisCacheBackend implements CacheBackend {
+    private static final String VERSION_CHECK =
+            "local current = tonumber(redis.call('hget', KEYS[1], ARGV[1])) "
+                    + "local incoming = tonumber(ARGV[2]) "
+                    + "if current and (not incoming or incoming < current) then return 0 end ";
+
+    private static final RedisScript<Long> HASH_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('type', KEYS[1]).ok ~= 'hash' then redis.call('del', KEYS[1]) end "
+                    + VERSION_CHECK
+                    + "redis.call('del', KEYS[1]) "
+                    + "redis.call('hset', KEYS[1], unpack(ARGV, 4)) "
+                    + "redis.call('pexpire', KEYS[1], ARGV[3]) "
+                    + "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> HASH_UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('type', KEYS[1]).ok ~= 'hash' then return 0 end "
+                    + VERSION_CHECK
+                    + "redis.call('hset', KEYS[1], unpack(ARGV, 3)) "
+                    + "return 1",
+            Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POINTER_HASH_SCRIPT = new DefaultRedisScript<>(
+            "local pointer = redis.call('get', KEYS[1]) "
+                    + "if not pointer then return nil end "
+                    + "local values = redis.call('hmget', ARGV[1] .. pointer, unpack(ARGV, 2)) "
+                    + "table.insert(values, 1, pointer) "
+                    + "return values",
+            List.class);
+
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> INCREMENT_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then redis.call('set', KEYS[1], ARGV[1]) end "
+                    + "local version = redis.call('incr', KEYS[1]) "
+                    + "redis.call('set', KEYS[2], ARGV[1]) "
+                    + "return version",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheTagService cacheTagService;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public Object get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public List<Object> multiGet(List<String> keys) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        return values == null ? Arrays.asList(new Object[keys.size()]) : values;
+    }
+
+    @Override
+    public void set(String key, Object value, long ttl, TimeUnit timeUnit) {
+        redisTemplate.opsForValue().set(key, value, ttl, timeUnit);
+    }
+
+    @Override
+    public String getString(String key) {
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void setString(String key, String value, long ttl, TimeUnit timeUnit) {
+        stringRedisTemplate.opsForValue().set(key, value, ttl, timeUnit);
+    }
+
+    @Override
+    public List<String> multiGetStrings(List<String> keys) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        return toStrings(values, keys.size());
+    }
+
+    @Override
+    public boolean setStringIfAbsent(String key, String value) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, value));
+    }
+
+    @Override
+    public boolean setStringIfAbsent(String key, String value, long ttl, TimeUnit timeUnit) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, value, ttl, timeUnit));
+    }
+
+    @Override
+    public boolean deleteIfEquals(String key, String value) {
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), value));
+    }
+
+    @Override
+    public Long incrementVersion(String versionKey, String modifiedKey, long now) {
+        return stringRedisTemplate.execute(INCREMENT_VERSION_SCRIPT, List.of(versionKey, modifiedKey), String.valueOf(now));
+    }
+
+    @Override
+    public byte[] getBytes(String key) {
+        return byteArrayRedisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void setBytes(String key, byte[] value, long ttl, TimeUnit timeUnit) {
+        byteArrayRedisTemplate.opsForValue().set(key, value, ttl, timeUnit);
+    }
+
+    @Override
+    public List<Object> getList(String key) {
+        List<Object> values = redisTemplate.opsForList().range(key, 0, -1);
+        return values == null ? List.of() : values;
+    }
+
+    @Override
+    public void setList(String key, List<?> values, long ttl, TimeUnit timeUnit) {
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                redis.multi();
+                redis.delete(key);
+                if (!values.isEmpty()) {
+                    redis.opsForList().rightPushAll(key, new ArrayList<Object>(values));
+                    redis.expire(key, ttl, timeUnit);
+                }
+                return redis.exec();
+            }
+        });
+    }
+
+    @Override
+    public List<String> hashGet(String key, List<String> fields) {
+        return toStrings(stringRedisTemplate.opsForHash().multiGet(key, new ArrayList<Object>(fields)), fields.size());
+    }
+
+    @Override
+    public List<List<String>> hashMultiGet(List<String> keys, List<String> fields) {
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                keys.forEach(key -> redis.opsForHash().multiGet(key, new ArrayList<Object>(fields)));
+                return null;
+            }
+        });
+
+        List<List<String>> hashes = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            hashes.add(i < results.size() && results.get(i) instanceof List<?> values
+                    ? toStrings(values, fields.size())
+                    : toStrings(null, fields.size()));
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean hashSet(String key, Map<String, String> fields, String versionField, long ttl, TimeUnit timeUnit) {
+        if (fields.isEmpty()) {
+            return false;
+        }
+
+        Object[] args = Stream.concat(
+                Stream.of(versionField, version(fields, versionField), String.valueOf(timeUnit.toMillis(ttl))),
+                pairs(fields)).toArray();
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(HASH_SET_SCRIPT, List.of(key), args));
+    }
+
+    @Override
+    public boolean hashUpdate(String key, Map<String, String> fields, String versionField) {
+        if (fields.isEmpty()) {
+            return false;
+        }
+
+        Object[] args = Stream.concat(Stream.of(versionField, version(fields, versionField)), pairs(fields)).toArray();
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(HASH_UPDATE_SCRIPT, List.of(key), args));
+    }
+
+    @Override
+    public PointerHash hashGetByPointer(String pointerKey, String targetPrefix, List<String> fields) {
+        Object[] args = Stream.concat(Stream.of(targetPrefix), fields.stream()).toArray();
+        List<?> result = stringRedisTemplate.execute(POINTER_HASH_SCRIPT, List.of(pointerKey), args);
+        if (result == null || result.isEmpty() || result.getFirst() == null) {
+            return null;
+        }
+        return new PointerHash((String) result.getFirst(), toStrings(result.subList(1, result.size()), fields.size()));
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        redisTemplate.delete(keys);
+    }
+
+    @Override
+    public void tag(String tag, Collection<String> keys, long ttl, TimeUnit timeUnit) {
+        cacheTagService.tag(tag, keys, ttl, timeUnit);
+    }
+
+    @Override
+    public Set<String> invalidateTag(String tag) {
+        return cacheTagService.invalidate(tag);
+    }
+
+    @Override
+    public void deleteByPattern(String pattern) {
+        cacheTagService.deleteByPattern(pattern);
+    }
+
+    @Override
+    public void incrementScores(String key, Map<String, Long> increments, long ttl, TimeUnit timeUnit) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                increments.forEach((member, increment) -> redis.opsForZSet().incrementScore(key, member, increment));
+                redis.expire(key, ttl, timeUnit);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public List<String> topScores(String key, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+        return members == null ? List.of() : List.copyOf(members);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+
+    private String version(Map<String, String> fields, String versionField) {
+        String version = fields.get(versionField);
+        return version == null ? "" : version;
+    }
+
+    private Stream<String> pairs(Map<String, String> fields) {
+        return fields.entrySet().stream().flatMap(field -> Stream.of(field.getKey(), field.getValue()));
+    }
+
+    private List<String> toStrings(List<?> values, int size) {
+        List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(values != null && i < values.size() ? (String) values.get(i) : null);
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,73 @@
+package org.noisevisionproductions.portfolio.cache.service.base;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+public class ShardedLocalCache<K, V> {
+    private final List<LocalCache<K, V>> shards;
+
+    public ShardedLocalCache(int maxSize, Duration ttl, int shardCount) {
+        this(maxSize, ttl, shardCount, Clock.systemUTC(), key -> {
+        });
+    }
+
+    public ShardedLocalCache(int maxSize, Duration ttl, int shardCount, Clock clock, Consumer<K> evictionListener) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Local cache needs at least one shard");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Local cache size must be positive");
+        }
+
+        int shardSize = (maxSize + shardCount - 1) / shardCount;
+        this.shards = IntStream.range(0, shardCount)
+                .mapToObj(shard -> new LocalCache<K, V>(shardSize, ttl, clock, evictionListener))
+                .toList();
+    }
+
+    public V get(K key) {
+        return shard(key).get(key);
+    }
+
+    public void put(K key, V value) {
+        shard(key).put(key, value);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        shard(key).put(key, value, ttl);
+    }
+
+    public boolean putIf(K key, V value, Duration ttl, Predicate<V> replaces) {
+        return shard(key).putIf(key, value, ttl, replaces);
+    }
+
+    public boolean replace(K key, UnaryOperator<V> remapping) {
+        return shard(key).replace(key, remapping);
+    }
+
+    public void evict(K key) {
+        shard(key).evict(key);
+    }
+
+    public void evictIf(Predicate<K> predicate) {
+        shards.forEach(shard -> shard.evictIf(predicate));
+    }
+
+    public void clear() {
+        shards.forEach(LocalCache::clear);
+    }
+
+    public int size() {
+        return shards.stream().mapToInt(LocalCache::size).sum();
+    }
+
+    public LocalCache<K, V> shard(K key) {
+        int hash = key.hashCode();
+        return shards.get(Math.floorMod(hash ^ (hash >>> 16), shards.size()));
+    }
+}
@@ -0,0 +1,57 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+
+public final class ProjectCacheFamilies {
+    public static final String ID = "project:id";
+    public static final String SLUG = "project:slug";
+    public static final String ALL = "project:all";
+    public static final String PAGE = "project:page";
+    public static final String RESPONSE = "project:response";
+    public static final String NEGATIVE = "project:negative";
+    public static final String OTHER = "other";
+
+    private static final String KEY_PREFIX = "portfolio:project:";
+
+    private ProjectCacheFamilies() {
+    }
+
+    public static String ofKey(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX)) {
+            return OTHER;
+        }
+
+        String rest = key.substring(KEY_PREFIX.length());
+        if (rest.startsWith("response:")) {
+            return RESPONSE;
+        }
+        if (rest.startsWith("missing:")) {
+            return NEGATIVE;
+        }
+        if (rest.startsWith("slug:")) {
+            return SLUG;
+        }
+        if (rest.startsWith("page:")) {
+            return PAGE;
+        }
+        if (rest.equals("ids") || rest.startsWith("ids:")) {
+            return ALL;
+        }
+        return ID;
+    }
+
+    public static String ofValue(Object value) {
+        if (value instanceof CacheEntry<?> || value instanceof ProjectView) {
+            return ID;
+        }
+        if (value instanceof ProjectViewPage) {
+            return PAGE;
+        }
+        if (value instanceof Number) {
+            return SLUG;
+        }
+        return OTHER;
+    }
+}
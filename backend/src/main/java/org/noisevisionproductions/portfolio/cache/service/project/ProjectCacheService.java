@@ -2,120 +2,420 @@ package org.noisevisionproductions.portfolio.cache.service.project;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.Hibernate;
-import org.noisevisionproductions.portfolio.cache.model.project.CacheableProject;
-import org.noisevisionproductions.portfolio.cache.model.project.CacheableProjectsList;
+import org.noisevisionproductions.portfolio.cache.config.CacheRefreshProperties;
+import org.noisevisionproductions.portfolio.cache.config.NegativeCacheProperties;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.model.PointerHash;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
 import org.noisevisionproductions.portfolio.cache.service.base.CacheService;
 import org.noisevisionproductions.portfolio.cache.utils.CacheKeyGenerator;
-import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.noisevisionproductions.portfolio.cache.utils.TransactionCallbacks;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectFieldset;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class ProjectCacheService implements CacheService<Long, Project> {
+public class ProjectCacheService implements CacheService<Long, ProjectView> {
     private static final String CACHE_PREFIX = "portfolio:project";
+    private static final String PAGE_SEGMENT = "page";
+    private static final String IDS_SEGMENT = "ids";
+    private static final String SLUG_SEGMENT = "slug";
+    private static final String SLUG_OF_SEGMENT = "slug-of";
+    private static final String MISSING_SEGMENT = "missing";
+    private static final String EMPTY_SEGMENT = "empty";
+    private static final String TOMBSTONE = "1";
+    private static final String FIRST_PAGE_CURSOR = "first";
     private static final long DEFAULT_TTL = 60;
     private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.MINUTES;
+    private static final List<String> FULL_FIELDS = ProjectHashCodec.fields(ProjectFieldset.FULL);
+    private static final List<String> SUMMARY_FIELDS = ProjectHashCodec.fields(ProjectFieldset.SUMMARY);
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheBackend cacheBackend;
+    private final ProjectHashCodec projectHashCodec;
     private final CacheKeyGenerator keyGenerator;
+    private final ProjectResponseCacheService projectResponseCacheService;
+    private final ProjectVersionService projectVersionService;
+    private final ProjectLocalCacheService projectLocalCacheService;
+    private final CacheRefreshProperties cacheRefreshProperties;
+    private final NegativeCacheProperties negativeCacheProperties;
+    private final CacheMetrics cacheMetrics;
 
-    public List<Project> getCachedProjectsList() {
+    public Long currentGeneration() {
+        return projectVersionService.generation();
+    }
+
+    public List<Long> getCachedProjectIds(Long generation) {
+        if (generation == null) {
+            cacheMetrics.miss(ProjectCacheFamilies.ALL);
+            return null;
+        }
+
+        String key = idsKey(generation);
         try {
-            String key = keyGenerator.generateKey(CACHE_PREFIX, "all");
-            Object cached = redisTemplate.opsForValue().get(key);
-            if (cached instanceof CacheableProjectsList) {
-                List<Project> projects = ((CacheableProjectsList) cached).toEntity();
-                log.debug("Retrieved {} projects from cache", projects.size());
-                return projects;
+            Object local = projectLocalCacheService.get(key);
+            if (local instanceof List<?> ids) {
+                cacheMetrics.hit(ProjectCacheFamilies.ALL);
+                return toIds(ids);
+            }
+
+            List<Object> cached = cacheBackend.getList(key);
+            if (cached.isEmpty() && cacheBackend.getString(emptyIdsKey(generation)) != null) {
+                projectLocalCacheService.putLocal(key, List.of());
+                cacheMetrics.hit(ProjectCacheFamilies.ALL);
+                return List.of();
             }
-            log.debug("No projects found in cache or invalid cache type");
+            if (cached.isEmpty()) {
+                log.debug("No project id index found in cache");
+                cacheMetrics.miss(ProjectCacheFamilies.ALL);
+                return null;
+            }
+
+            List<Long> ids = toIds(cached);
+            projectLocalCacheService.putLocal(key, ids);
+            cacheMetrics.hit(ProjectCacheFamilies.ALL);
+            return ids;
         } catch (Exception e) {
-            log.error("Failed to get cached projects list", e);
+            log.error("Failed to get cached project id index", e);
+            cacheMetrics.miss(ProjectCacheFamilies.ALL);
+            return null;
         }
-        return null;
     }
 
-    public void cacheProjectsList(List<Project> projects) {
+    public void cacheProjectIds(Long generation, List<Long> ids) {
+        if (generation == null || ids == null) {
+            return;
+        }
+
+        String key = idsKey(generation);
+        try {
+            if (ids.isEmpty()) {
+                cacheBackend.setString(emptyIdsKey(generation), TOMBSTONE, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+            } else {
+                cacheBackend.setList(key, ids, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+            }
+            projectLocalCacheService.putLocal(key, List.copyOf(ids));
+            log.debug("Successfully cached project id index with {} entries", ids.size());
+        } catch (Exception e) {
+            log.error("Failed to cache project id index", e);
+        }
+    }
+
+    public void invalidateProjectIds() {
+        Long generation = currentGeneration();
+        if (generation == null) {
+            return;
+        }
+
+        String key = idsKey(generation);
         try {
-            projects.forEach(project -> {
-                Hibernate.initialize(project.getProjectImages());
-                Hibernate.initialize(project.getContributors());
-                Hibernate.initialize(project.getFeatures());
-                Hibernate.initialize(project.getTechnologies());
-            });
+            cacheBackend.delete(List.of(key, emptyIdsKey(generation)));
+            projectLocalCacheService.evict(key);
+        } catch (Exception e) {
+            log.error("Failed to invalidate project id index", e);
+        }
+    }
+
+    public Map<Long, ProjectView> getAll(Collection<Long> ids) {
+        return getAll(ids, id -> {
+        });
+    }
 
-            String key = keyGenerator.generateKey(CACHE_PREFIX, "all");
-            CacheableProjectsList cacheableList = CacheableProjectsList.fromProjects(projects);
-            redisTemplate.opsForValue().set(key, cacheableList);
-            log.debug("Successfully cached {} projects", projects.size());
+    public Map<Long, ProjectView> getAll(Collection<Long> ids, Consumer<Long> staleIds) {
+        Map<Long, ProjectView> projects = new HashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return projects;
+        }
+
+        long now = System.currentTimeMillis();
+        List<Long> remoteIds = new ArrayList<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (Long id : ids) {
+            String key = keyGenerator.generateKey(CACHE_PREFIX, id.toString());
+            CacheEntry<ProjectView> local = toProjectEntry(projectLocalCacheService.get(key));
+            if (local != null) {
+                collect(id, local, now, projects, staleIds);
+            } else {
+                remoteIds.add(id);
+                remoteKeys.add(key);
+            }
+        }
+
+        if (!remoteKeys.isEmpty()) {
+            try {
+                List<List<String>> cached = cacheBackend.hashMultiGet(remoteKeys, FULL_FIELDS);
+                for (int i = 0; i < remoteKeys.size(); i++) {
+                    CacheEntry<ProjectView> entry = projectHashCodec.decode(cached.get(i));
+                    if (entry != null) {
+                        collect(remoteIds.get(i), entry, now, projects, staleIds);
+                        projectLocalCacheService.putLocal(remoteKeys.get(i), entry);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Failed to get {} cached projects", remoteKeys.size(), e);
+            }
+        }
+
+        cacheMetrics.hit(ProjectCacheFamilies.ID, projects.size());
+        cacheMetrics.miss(ProjectCacheFamilies.ID, ids.size() - projects.size());
+        return projects;
+    }
+
+    public ProjectViewPage getCachedProjectsPage(Long generation, String cursor, int limit) {
+        if (generation == null) {
+            cacheMetrics.miss(ProjectCacheFamilies.PAGE);
+            return null;
+        }
+
+        try {
+            Object cached = readThrough(pageKey(generation, cursor, limit));
+            if (cached instanceof ProjectViewPage page) {
+                cacheMetrics.hit(ProjectCacheFamilies.PAGE);
+                return page;
+            }
         } catch (Exception e) {
-            log.error("Failed to cache projects list: {}", e.getMessage(), e);
+            log.error("Failed to get cached projects page (cursor: {}, limit: {})", cursor, limit, e);
+        }
+        cacheMetrics.miss(ProjectCacheFamilies.PAGE);
+        return null;
+    }
+
+    public void cacheProjectsPage(Long generation, String cursor, int limit, ProjectViewPage page) {
+        if (generation == null || page == null) {
+            return;
+        }
+
+        try {
+            String key = pageKey(generation, cursor, limit);
+            cacheBackend.set(key, page, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+            projectLocalCacheService.putLocal(key, page);
+            log.debug("Successfully cached projects page (cursor: {}, limit: {})", cursor, limit);
+        } catch (Exception e) {
+            log.error("Failed to cache projects page (cursor: {}, limit: {})", cursor, limit, e);
         }
     }
 
     @Override
-    public void cache(Long id, Project project) {
+    public void cache(Long id, ProjectView project) {
         cacheWithTTL(id, project, DEFAULT_TTL, DEFAULT_TIME_UNIT);
     }
 
     @Override
-    public void cacheWithTTL(Long id, Project project, long ttl, TimeUnit timeUnit) {
+    public void cacheWithTTL(Long id, ProjectView project, long ttl, TimeUnit timeUnit) {
         if (id == null || project == null) {
             log.debug("Skipping cache for null id or project");
             return;
         }
 
         String key = keyGenerator.generateKey(CACHE_PREFIX, id.toString());
-        String slugKey = keyGenerator.generateKey(CACHE_PREFIX, "slug", project.getSlug());
 
         try {
-            CacheableProject cacheableProject = CacheableProject.fromProject(project);
-            redisTemplate.opsForValue().set(key, cacheableProject, ttl, timeUnit);
-            redisTemplate.opsForValue().set(slugKey, cacheableProject, ttl, timeUnit);
-            log.debug("Successfully cached project with id: {}, slug: {}", id, project.getSlug());
+            long softTtl = softTtlMillis(ttl, timeUnit);
+            CacheEntry<ProjectView> entry = new CacheEntry<>(project, System.currentTimeMillis() + softTtl);
+            if (!cacheBackend.hashSet(key, projectHashCodec.encode(entry), ProjectHashCodec.VERSION, ttl, timeUnit)) {
+                cacheMetrics.staleWrite(ProjectCacheFamilies.ID);
+                log.debug("Skipped caching project with id: {} because a newer version is already cached", id);
+                return;
+            }
+            projectLocalCacheService.put(key, entry, ttl, timeUnit, cached -> !isNewer(toProjectEntry(cached), project));
+            cacheBackend.tag(ProjectCacheTags.project(id), List.of(key), ttl, timeUnit);
+            indexSlug(project.slug(), id, ttl, timeUnit);
+            projectResponseCacheService.cacheProject(project, softTtl, TimeUnit.MILLISECONDS);
+            log.debug("Successfully cached project with id: {}, slug: {}", id, project.slug());
         } catch (Exception e) {
             log.error("Failed to cache project with id: {}", id, e);
         }
     }
 
+    public void cacheFields(ProjectView project, String... fields) {
+        if (project == null || project.id() == null || fields.length == 0) {
+            return;
+        }
+
+        String key = keyGenerator.generateKey(CACHE_PREFIX, project.id().toString());
+        List<String> changed = new ArrayList<>(List.of(fields));
+        if (changed.contains(ProjectHashCodec.PROJECT_IMAGES)) {
+            changed.add(ProjectHashCodec.COVER_IMAGE);
+        }
+        changed.add(ProjectHashCodec.LAST_MODIFIED_AT);
+        changed.add(ProjectHashCodec.VERSION);
+        try {
+            cacheBackend.hashUpdate(key, projectHashCodec.encode(project, changed), ProjectHashCodec.VERSION);
+            projectLocalCacheService.evict(key);
+            projectResponseCacheService.invalidateProject(project.id(), project.slug());
+            log.debug("Successfully updated cached fields {} of project with id: {}", changed, project.id());
+        } catch (Exception e) {
+            log.error("Failed to update cached fields {} of project with id: {}", changed, project.id(), e);
+            invalidate(project.id(), project.slug());
+        }
+    }
+
     @Override
-    public Project get(Long id) {
+    public ProjectView get(Long id) {
+        CacheEntry<ProjectView> entry = getEntry(id);
+        return entry == null ? null : entry.value();
+    }
+
+    public CacheEntry<ProjectView> getEntry(Long id) {
         if (id == null) {
             return null;
         }
 
         try {
             String key = keyGenerator.generateKey(CACHE_PREFIX, id.toString());
-            Object cached = redisTemplate.opsForValue().get(key);
-            if (cached instanceof CacheableProject) {
-                return ((CacheableProject) cached).toEntity();
+            CacheEntry<ProjectView> entry = readProject(key);
+            if (entry != null) {
+                cacheMetrics.hit(ProjectCacheFamilies.ID);
+                return entry;
             }
         } catch (Exception e) {
             log.error("Failed to get cached project with id: {}", id, e);
         }
+        cacheMetrics.miss(ProjectCacheFamilies.ID);
         return null;
     }
 
+    public ProjectSummaryView getSummary(Long id) {
+        if (id == null) {
+            return null;
+        }
+
+        try {
+            ProjectSummaryView summary = readSummary(keyGenerator.generateKey(CACHE_PREFIX, id.toString()));
+            if (summary != null) {
+                cacheMetrics.hit(ProjectCacheFamilies.ID);
+                return summary;
+            }
+        } catch (Exception e) {
+            log.error("Failed to get cached summary of project with id: {}", id, e);
+        }
+        cacheMetrics.miss(ProjectCacheFamilies.ID);
+        return null;
+    }
+
+    public ProjectSummaryView getSummaryBySlug(String slug) {
+        if (slug == null) {
+            return null;
+        }
+
+        try {
+            ProjectSummaryView summary = resolveSlugSummary(slugKey(slug));
+            if (summary != null && slug.equals(summary.slug())) {
+                cacheMetrics.hit(ProjectCacheFamilies.SLUG);
+                return summary;
+            }
+        } catch (Exception e) {
+            log.error("Failed to get cached summary of project with slug: {}", slug, e);
+        }
+        cacheMetrics.miss(ProjectCacheFamilies.SLUG);
+        return null;
+    }
+
+    public Long getIdBySlug(String slug) {
+        if (slug == null) {
+            return null;
+        }
+
+        try {
+            Long id = resolveSlug(slugKey(slug));
+            if (id != null) {
+                cacheMetrics.hit(ProjectCacheFamilies.SLUG);
+                return id;
+            }
+        } catch (Exception e) {
+            log.error("Failed to resolve cached project id for slug: {}", slug, e);
+        }
+        cacheMetrics.miss(ProjectCacheFamilies.SLUG);
+        return null;
+    }
+
+    public void cacheSlug(String slug, Long id) {
+        if (slug == null || id == null) {
+            return;
+        }
+
+        try {
+            indexSlug(slug, id, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+        } catch (Exception e) {
+            log.error("Failed to cache project id for slug: {}", slug, e);
+        }
+    }
+
+    public boolean isMissing(Long id) {
+        return id != null && isTombstoned(keyGenerator.generateKey(CACHE_PREFIX, MISSING_SEGMENT, id.toString()));
+    }
+
+    public boolean isSlugMissing(String slug) {
+        return slug != null && isTombstoned(missingSlugKey(slug));
+    }
+
+    public void markMissing(Long id) {
+        if (id != null) {
+            tombstone(keyGenerator.generateKey(CACHE_PREFIX, MISSING_SEGMENT, id.toString()));
+        }
+    }
+
+    public void markSlugMissing(String slug) {
+        if (slug != null) {
+            tombstone(missingSlugKey(slug));
+        }
+    }
+
+    public void clearMissing(Long id, String slug) {
+        if (id == null) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(List.of(keyGenerator.generateKey(CACHE_PREFIX, MISSING_SEGMENT, id.toString())));
+        if (slug != null) {
+            keys.add(missingSlugKey(slug));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                cacheBackend.delete(keys);
+                keys.forEach(projectLocalCacheService::evict);
+            } catch (Exception e) {
+                log.error("Failed to clear not-found markers for project with id: {}", id, e);
+            }
+        });
+    }
+
     @Override
     public void invalidate(Long id) {
+        invalidate(id, null);
+    }
+
+    public void invalidate(Long id, String slug) {
         if (id == null) return;
 
         try {
-            Project project = get(id);
-            if (project != null) {
-                String slugKey = keyGenerator.generateKey(CACHE_PREFIX, "slug", project.getSlug());
-                redisTemplate.delete(slugKey);
+            String slugOfKey = slugOfKey(id);
+            String cachedSlug = slug != null ? slug : cacheBackend.getString(slugOfKey);
+            Set<String> keys = new HashSet<>(cacheBackend.invalidateTag(ProjectCacheTags.project(id)));
+            keys.add(keyGenerator.generateKey(CACHE_PREFIX, id.toString()));
+            keys.add(slugOfKey);
+            if (cachedSlug != null) {
+                keys.add(slugKey(cachedSlug));
             }
 
-            String key = keyGenerator.generateKey(CACHE_PREFIX, id.toString());
-            redisTemplate.delete(key);
+            cacheBackend.delete(keys);
+            keys.forEach(projectLocalCacheService::evict);
+            projectResponseCacheService.invalidateProject(id, cachedSlug);
         } catch (Exception e) {
             log.error("Failed to invalidate cache for project with id: {}", id, e);
         }
@@ -123,24 +423,178 @@ public class ProjectCacheService implements CacheService<Long, Project> {
 
     @Override
     public void invalidateProjectsList() {
+        TransactionCallbacks.afterCommit(projectVersionService::bump);
+    }
+
+    @Override
+    public void invalidateAll(String pattern) {
         try {
-            String key = keyGenerator.generateKey(CACHE_PREFIX, "all");
-            redisTemplate.delete(key);
-            log.debug("Successfully invalidated projects list cache");
+            cacheBackend.deleteByPattern(CACHE_PREFIX + pattern);
         } catch (Exception e) {
-            log.error("Failed to invalidate projects list cache", e);
+            log.error("Failed to invalidate all project cache", e);
         }
     }
 
-    @Override
-    public void invalidateAll(String pattern) {
+    private boolean isTombstoned(String key) {
         try {
-            Set<String> keys = redisTemplate.keys(CACHE_PREFIX + pattern);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
+            if (projectLocalCacheService.get(key) != null || cacheBackend.getString(key) != null) {
+                cacheMetrics.hit(ProjectCacheFamilies.NEGATIVE);
+                return true;
             }
         } catch (Exception e) {
-            log.error("Failed to invalidate all project cache", e);
+            log.error("Failed to read not-found marker: {}", key, e);
+        }
+        cacheMetrics.miss(ProjectCacheFamilies.NEGATIVE);
+        return false;
+    }
+
+    private void tombstone(String key) {
+        long ttl = negativeCacheProperties.getTtl().toMillis();
+        try {
+            cacheBackend.setString(key, TOMBSTONE, ttl, TimeUnit.MILLISECONDS);
+            projectLocalCacheService.putLocal(key, TOMBSTONE, ttl, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("Failed to write not-found marker: {}", key, e);
+        }
+    }
+
+    private boolean isNewer(CacheEntry<ProjectView> cached, ProjectView project) {
+        return cached != null && cached.value().version() > project.version();
+    }
+
+    private Object readThrough(String key) {
+        Object local = projectLocalCacheService.get(key);
+        if (local != null) {
+            return local;
+        }
+
+        Object cached = cacheBackend.get(key);
+        if (cached != null) {
+            projectLocalCacheService.putLocal(key, cached);
+        }
+        return cached;
+    }
+
+    private void indexSlug(String slug, Long id, long ttl, TimeUnit timeUnit) {
+        if (slug == null) {
+            return;
+        }
+
+        String slugKey = slugKey(slug);
+        String slugOfKey = slugOfKey(id);
+        cacheBackend.setString(slugKey, id.toString(), ttl, timeUnit);
+        cacheBackend.setString(slugOfKey, slug, ttl, timeUnit);
+        cacheBackend.tag(ProjectCacheTags.project(id), List.of(slugKey, slugOfKey), ttl, timeUnit);
+        projectLocalCacheService.put(slugKey, id, ttl, timeUnit);
+    }
+
+    private Long resolveSlug(String slugKey) {
+        if (projectLocalCacheService.get(slugKey) instanceof Number id) {
+            return id.longValue();
+        }
+
+        PointerHash resolved = cacheBackend.hashGetByPointer(slugKey, keyGenerator.generateKey(CACHE_PREFIX, ""),
+                FULL_FIELDS);
+        if (resolved == null) {
+            return null;
+        }
+
+        Long id = Long.valueOf(resolved.pointer());
+        projectLocalCacheService.putLocal(slugKey, id);
+        CacheEntry<ProjectView> entry = projectHashCodec.decode(resolved.values());
+        if (entry != null) {
+            projectLocalCacheService.putLocal(keyGenerator.generateKey(CACHE_PREFIX, id.toString()), entry);
+        }
+        return id;
+    }
+
+    private ProjectSummaryView resolveSlugSummary(String slugKey) {
+        if (projectLocalCacheService.get(slugKey) instanceof Number id) {
+            return readSummary(keyGenerator.generateKey(CACHE_PREFIX, String.valueOf(id.longValue())));
+        }
+
+        PointerHash resolved = cacheBackend.hashGetByPointer(slugKey, keyGenerator.generateKey(CACHE_PREFIX, ""),
+                SUMMARY_FIELDS);
+        if (resolved == null) {
+            return null;
+        }
+
+        projectLocalCacheService.putLocal(slugKey, Long.valueOf(resolved.pointer()));
+        return projectHashCodec.decodeSummary(resolved.values());
+    }
+
+    private ProjectSummaryView readSummary(String key) {
+        CacheEntry<ProjectView> local = toProjectEntry(projectLocalCacheService.get(key));
+        if (local != null) {
+            return ProjectSummaryView.fromView(local.value());
+        }
+        return projectHashCodec.decodeSummary(cacheBackend.hashGet(key, SUMMARY_FIELDS));
+    }
+
+    private CacheEntry<ProjectView> readProject(String key) {
+        CacheEntry<ProjectView> local = toProjectEntry(projectLocalCacheService.get(key));
+        if (local != null) {
+            return local;
+        }
+
+        CacheEntry<ProjectView> entry = projectHashCodec.decode(cacheBackend.hashGet(key, FULL_FIELDS));
+        if (entry != null) {
+            projectLocalCacheService.putLocal(key, entry);
         }
+        return entry;
+    }
+
+    private CacheEntry<ProjectView> toProjectEntry(Object cached) {
+        if (cached instanceof CacheEntry<?> entry && entry.value() instanceof ProjectView project) {
+            return new CacheEntry<>(project, entry.softExpiresAt());
+        }
+        if (cached instanceof ProjectView project) {
+            return CacheEntry.fresh(project);
+        }
+        return null;
+    }
+
+    private void collect(Long id, CacheEntry<ProjectView> entry, long now,
+                         Map<Long, ProjectView> projects, Consumer<Long> staleIds) {
+        projects.put(id, entry.value());
+        if (entry.isStale(now)) {
+            staleIds.accept(id);
+        }
+    }
+
+    private long softTtlMillis(long ttl, TimeUnit timeUnit) {
+        return (long) (timeUnit.toMillis(ttl) * cacheRefreshProperties.getSoftTtlRatio());
+    }
+
+    private List<Long> toIds(List<?> values) {
+        return values.stream()
+                .filter(Number.class::isInstance)
+                .map(value -> ((Number) value).longValue())
+                .toList();
+    }
+
+    private String slugKey(String slug) {
+        return keyGenerator.generateKey(CACHE_PREFIX, SLUG_SEGMENT, slug);
+    }
+
+    private String missingSlugKey(String slug) {
+        return keyGenerator.generateKey(CACHE_PREFIX, MISSING_SEGMENT, SLUG_SEGMENT, slug);
+    }
+
+    private String slugOfKey(Long id) {
+        return keyGenerator.generateKey(CACHE_PREFIX, SLUG_OF_SEGMENT, id.toString());
+    }
+
+    private String idsKey(long generation) {
+        return keyGenerator.generateKey(CACHE_PREFIX, IDS_SEGMENT, String.valueOf(generation));
+    }
+
+    private String emptyIdsKey(long generation) {
+        return keyGenerator.generateKey(CACHE_PREFIX, IDS_SEGMENT, String.valueOf(generation), EMPTY_SEGMENT);
+    }
+
+    private String pageKey(long generation, String cursor, int limit) {
+        String cursorPart = cursor == null || cursor.isBlank() ? FIRST_PAGE_CURSOR : cursor;
+        return keyGenerator.generateKey(CACHE_PREFIX, PAGE_SEGMENT, String.valueOf(generation), String.valueOf(limit), cursorPart);
     }
 }
@@ -0,0 +1,10 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+public final class ProjectCacheTags {
+    private ProjectCacheTags() {
+    }
+
+    public static String project(Long id) {
+        return "project:" + id;
+    }
+}
@@ -0,0 +1,82 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.ShardedLocalCache;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectLocalCacheService {
+    public static final String INVALIDATION_CHANNEL = "portfolio:project:cache:invalidation";
+    private static final char NODE_SEPARATOR = '|';
+
+    private final ShardedLocalCache<String, Object> projectLocalCache;
+    private final CacheBackend cacheBackend;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void subscribe() {
+        cacheBackend.subscribe(INVALIDATION_CHANNEL, this::onMessage);
+    }
+
+    public Object get(String key) {
+        return projectLocalCache.get(key);
+    }
+
+    public void put(String key, Object value) {
+        projectLocalCache.put(key, value);
+        publish(key);
+    }
+
+    public void put(String key, Object value, long ttl, TimeUnit timeUnit) {
+        projectLocalCache.put(key, value, Duration.ofMillis(timeUnit.toMillis(ttl)));
+        publish(key);
+    }
+
+    public void put(String key, Object value, long ttl, TimeUnit timeUnit, Predicate<Object> replaces) {
+        if (projectLocalCache.putIf(key, value, Duration.ofMillis(timeUnit.toMillis(ttl)), replaces)) {
+            publish(key);
+        }
+    }
+
+    public void putLocal(String key, Object value) {
+        projectLocalCache.put(key, value);
+    }
+
+    public void putLocal(String key, Object value, long ttl, TimeUnit timeUnit) {
+        projectLocalCache.put(key, value, Duration.ofMillis(timeUnit.toMillis(ttl)));
+    }
+
+    public void evict(String key) {
+        projectLocalCache.evict(key);
+        publish(key);
+    }
+
+    public void onMessage(String payload) {
+        int separator = payload.indexOf(NODE_SEPARATOR);
+        if (separator < 0 || nodeId.equals(payload.substring(0, separator))) {
+            return;
+        }
+
+        String key = payload.substring(separator + 1);
+        projectLocalCache.evict(key);
+        log.debug("Evicted local cache entry {} on request from another node", key);
+    }
+
+    private void publish(String key) {
+        try {
+            cacheBackend.publish(INVALIDATION_CHANNEL, nodeId + NODE_SEPARATOR + key);
+        } catch (Exception e) {
+            log.error("Failed to broadcast local cache eviction for key: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.utils.CacheKeyGenerator;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectResponseCacheService {
+    private static final String CACHE_PREFIX = "portfolio:project:response";
+    private static final String SUMMARY_SEGMENT = "summary";
+    private static final String ALL_SEGMENT = "all";
+    private static final long DEFAULT_TTL = 60;
+    private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.MINUTES;
+
+    private final CacheBackend cacheBackend;
+    private final CacheKeyGenerator keyGenerator;
+    private final ObjectMapper objectMapper;
+    private final CacheMetrics cacheMetrics;
+
+    public byte[] getProjectsList(Long generation) {
+        if (generation == null) {
+            cacheMetrics.miss(ProjectCacheFamilies.RESPONSE);
+            return null;
+        }
+        return read(keyGenerator.generateKey(CACHE_PREFIX, ALL_SEGMENT, generation.toString()));
+    }
+
+    public byte[] cacheProjectsList(Long generation, List<ProjectView> projects) {
+        byte[] json = render(projects);
+        if (generation != null) {
+            write(keyGenerator.generateKey(CACHE_PREFIX, ALL_SEGMENT, generation.toString()), json, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+        }
+        return json;
+    }
+
+    public byte[] getProjectSummaries(Long generation) {
+        if (generation == null) {
+            cacheMetrics.miss(ProjectCacheFamilies.RESPONSE);
+            return null;
+        }
+        return read(keyGenerator.generateKey(CACHE_PREFIX, SUMMARY_SEGMENT, ALL_SEGMENT, generation.toString()));
+    }
+
+    public byte[] cacheProjectSummaries(Long generation, List<ProjectSummaryView> summaries) {
+        byte[] json = render(summaries);
+        if (generation != null) {
+            write(keyGenerator.generateKey(CACHE_PREFIX, SUMMARY_SEGMENT, ALL_SEGMENT, generation.toString()),
+                    json, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+        }
+        return json;
+    }
+
+    public byte[] getProject(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return read(keyGenerator.generateKey(CACHE_PREFIX, id.toString()));
+    }
+
+    public byte[] getProjectBySlug(String slug) {
+        if (slug == null) {
+            return null;
+        }
+        return read(keyGenerator.generateKey(CACHE_PREFIX, "slug", slug));
+    }
+
+    public byte[] cacheProject(ProjectView project) {
+        return cacheProject(project, DEFAULT_TTL, DEFAULT_TIME_UNIT);
+    }
+
+    public byte[] cacheProject(ProjectView project, long ttl, TimeUnit timeUnit) {
+        byte[] json = render(project);
+        List<String> keys = new ArrayList<>();
+        if (project.id() != null) {
+            keys.add(keyGenerator.generateKey(CACHE_PREFIX, project.id().toString()));
+        }
+        if (project.slug() != null) {
+            keys.add(keyGenerator.generateKey(CACHE_PREFIX, "slug", project.slug()));
+        }
+        writeTagged(project.id(), keys, json, ttl, timeUnit);
+        return json;
+    }
+
+    public void invalidateProject(Long id, String slug) {
+        List<String> keys = new ArrayList<>(2);
+        if (id != null) {
+            keys.add(keyGenerator.generateKey(CACHE_PREFIX, id.toString()));
+        }
+        if (slug != null) {
+            keys.add(keyGenerator.generateKey(CACHE_PREFIX, "slug", slug));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            cacheBackend.delete(keys);
+        } catch (Exception e) {
+            log.error("Failed to invalidate cached response for project with id: {}", id, e);
+        }
+    }
+
+    public byte[] render(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize project response", e);
+        }
+    }
+
+    private byte[] read(String key) {
+        byte[] cached = null;
+        try {
+            cached = cacheBackend.getBytes(key);
+        } catch (Exception e) {
+            log.error("Failed to get cached response for key: {}", key, e);
+        }
+
+        if (cached != null) {
+            cacheMetrics.hit(ProjectCacheFamilies.RESPONSE);
+        } else {
+            cacheMetrics.miss(ProjectCacheFamilies.RESPONSE);
+        }
+        return cached;
+    }
+
+    private void writeTagged(Long id, List<String> keys, byte[] json, long ttl, TimeUnit timeUnit) {
+        keys.forEach(key -> write(key, json, ttl, timeUnit));
+        if (id != null) {
+            cacheBackend.tag(ProjectCacheTags.project(id), keys, ttl, timeUnit);
+        }
+    }
+
+    private void write(String key, byte[] json, long ttl, TimeUnit timeUnit) {
+        try {
+            cacheBackend.setBytes(key, json, ttl, timeUnit);
+            cacheMetrics.recordValueSize(ProjectCacheFamilies.RESPONSE, json.length);
+        } catch (Exception e) {
+            log.error("Failed to cache response for key: {}", key, e);
+        }
+    }
+}
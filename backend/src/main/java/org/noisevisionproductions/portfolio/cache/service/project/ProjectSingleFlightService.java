@@ -0,0 +1,113 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.config.SingleFlightProperties;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.SingleFlight;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectSingleFlightService {
+    private static final String LOCK_PREFIX = "portfolio:project:lock:";
+
+    private final CacheBackend cacheBackend;
+    private final SingleFlightProperties properties;
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+
+    public <V> V load(String key, Supplier<V> cached, Supplier<V> loader) {
+        return load(key, cached, () -> false, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V load(String key, Supplier<V> cached, BooleanSupplier missing, Supplier<V> loader) {
+        return (V) singleFlight.load(key, () -> properties.isDistributed()
+                ? loadWithLock(key, cached, missing, loader)
+                : loader.get());
+    }
+
+    private <V> V loadWithLock(String key, Supplier<V> cached, BooleanSupplier missing, Supplier<V> loader) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + properties.getLockTtl().toNanos();
+        while (!tryLock(lockKey, token)) {
+            Awaited<V> awaited = awaitOtherNode(key, lockKey, cached, missing, deadline);
+            if (awaited != null) {
+                return awaited.value();
+            }
+            if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                log.debug("Lock holder for '{}' did not populate cache in time, loading locally", key);
+                return loader.get();
+            }
+            log.debug("Lock holder for '{}' released the lock without a cached value, retrying", key);
+        }
+
+        try {
+            return loader.get();
+        } finally {
+            unlock(lockKey, token);
+        }
+    }
+
+    private <V> Awaited<V> awaitOtherNode(String key, String lockKey, Supplier<V> cached, BooleanSupplier missing,
+                                          long deadline) {
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            V value = cached.get();
+            if (value != null) {
+                log.debug("Reused value for '{}' loaded by another node", key);
+                return new Awaited<>(value);
+            }
+            if (missing.getAsBoolean()) {
+                log.debug("Another node found nothing for '{}'", key);
+                return new Awaited<>(null);
+            }
+            if (isReleased(lockKey)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private boolean isReleased(String lockKey) {
+        try {
+            return cacheBackend.getString(lockKey) == null;
+        } catch (Exception e) {
+            log.warn("Failed to check load lock: {}", lockKey, e);
+            return true;
+        }
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return cacheBackend.setStringIfAbsent(lockKey, token, properties.getLockTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to acquire load lock: {}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            cacheBackend.deleteIfEquals(lockKey, token);
+        } catch (Exception e) {
+            log.warn("Failed to release load lock: {}", lockKey, e);
+        }
+    }
+
+    private record Awaited<V>(V value) {
+    }
+}
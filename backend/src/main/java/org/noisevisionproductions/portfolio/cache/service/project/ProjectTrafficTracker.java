@@ -0,0 +1,65 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectTrafficTracker {
+    public static final String TRAFFIC_KEY = "portfolio:project:traffic";
+    private static final Duration TRAFFIC_TTL = Duration.ofDays(7);
+
+    private final CacheBackend cacheBackend;
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(Long id) {
+        pending.computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.warmup.traffic-flush-interval:60000}")
+    public void flush() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            LongAdder adder = pending.remove(id);
+            if (adder != null && adder.sum() > 0) {
+                counts.put(id.toString(), adder.sum());
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        try {
+            cacheBackend.incrementScores(TRAFFIC_KEY, counts, TRAFFIC_TTL.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to flush traffic counters for {} projects", counts.size(), e);
+            counts.forEach((id, count) -> pending.computeIfAbsent(Long.valueOf(id), key -> new LongAdder()).add(count));
+        }
+    }
+
+    public List<Long> top(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        try {
+            return cacheBackend.topScores(TRAFFIC_KEY, limit).stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("Failed to read project traffic ranking", e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.noisevisionproductions.portfolio.cache.service.project;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.model.project.ProjectVersion;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectVersionService {
+    private static final String VERSION_KEY = "portfolio:project:version";
+    private static final String MODIFIED_KEY = "portfolio:project:version:modified";
+    private static final long GENERATION_TTL_MILLIS = 1000;
+    private static final int MAX_LOCAL_GENERATIONS = 1024;
+
+    private final CacheBackend cacheBackend;
+    private final NavigableSet<Long> localGenerations = new ConcurrentSkipListSet<>();
+    private volatile Generation generation;
+
+    public ProjectVersion current() {
+        try {
+            List<String> values = cacheBackend.multiGetStrings(List.of(VERSION_KEY, MODIFIED_KEY));
+            if (isIncomplete(values)) {
+                initialize();
+                values = cacheBackend.multiGetStrings(List.of(VERSION_KEY, MODIFIED_KEY));
+            }
+            if (isIncomplete(values)) {
+                return null;
+            }
+
+            ProjectVersion version = new ProjectVersion(Long.parseLong(values.get(0)), Long.parseLong(values.get(1)));
+            generation = new Generation(version.version(), System.currentTimeMillis() + GENERATION_TTL_MILLIS);
+            return version;
+        } catch (Exception e) {
+            log.error("Failed to read projects version", e);
+            return null;
+        }
+    }
+
+    public Long generation() {
+        Generation cached = generation;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        try {
+            String value = cacheBackend.getString(VERSION_KEY);
+            if (value == null) {
+                initialize();
+                value = cacheBackend.getString(VERSION_KEY);
+            }
+            if (value == null) {
+                return null;
+            }
+
+            long current = Long.parseLong(value);
+            generation = new Generation(current, now + GENERATION_TTL_MILLIS);
+            return current;
+        } catch (Exception e) {
+            log.warn("Failed to read projects generation, using last known value", e);
+            return cached == null ? null : cached.value();
+        }
+    }
+
+    public void bump() {
+        try {
+            long now = System.currentTimeMillis();
+            Long version = cacheBackend.incrementVersion(VERSION_KEY, MODIFIED_KEY, now);
+            generation = version == null ? null : new Generation(version, now + GENERATION_TTL_MILLIS);
+            if (version != null) {
+                recordLocal(version);
+            }
+        } catch (Exception e) {
+            generation = null;
+            log.error("Failed to bump projects version", e);
+        }
+    }
+
+    public boolean producedLocally(Long from, Long to) {
+        if (from == null || to == null || to <= from || to - from > MAX_LOCAL_GENERATIONS) {
+            return false;
+        }
+
+        return localGenerations.subSet(from, false, to, true).size() == to - from;
+    }
+
+    private void recordLocal(long version) {
+        localGenerations.add(version);
+        while (localGenerations.size() > MAX_LOCAL_GENERATIONS) {
+            localGenerations.pollFirst();
+        }
+    }
+
+    private boolean isIncomplete(List<String> values) {
+        return values == null || values.stream().anyMatch(Objects::isNull);
+    }
+
+    private void initialize() {
+        String now = String.valueOf(System.currentTimeMillis());
+        cacheBackend.setStringIfAbsent(VERSION_KEY, now);
+        cacheBackend.setStringIfAbsent(MODIFIED_KEY, now);
+    }
+
+    private record Generation(long value, long expiresAt) {
+    }
+}
@@ -0,0 +1,40 @@
+package org.noisevisionproductions.portfolio.cache.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+public final class TransactionCallbacks {
+    private static final ThreadLocal<Boolean> COMMITTED = ThreadLocal.withInitial(() -> false);
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (COMMITTED.get() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                COMMITTED.set(true);
+                try {
+                    run(action);
+                } finally {
+                    COMMITTED.remove();
+                }
+            }
+        });
+    }
+
+    private static void run(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("Failed to run after-commit action", e);
+        }
+    }
+}
@@ -2,29 +2,47 @@ package org.noisevisionproductions.portfolio.projectsManagement.controller;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.noisevisionproductions.portfolio.cache.model.project.ProjectVersion;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectFieldset;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectFilterPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSearchPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectMapper;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/projects")
-@Transactional
 @Tag(name = "Projects", description = "API do zarządzania projektami i ich obrazami")
 public class ProjectController {
     private final ProjectMapper projectMapper;
     private final ProjectService projectService;
+    private final ProjectQueryService projectQueryService;
+    private final ProjectVersionService projectVersionService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectFacetIndex projectFacetIndex;
 
     @PostMapping
+    @Transactional
     @PreAuthorize("hasAuthority('CREATE_PROJECTS')")
     public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectDTO) {
         Project created = projectService.createProject(projectDTO);
@@ -36,31 +54,72 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
-        List<ProjectDTO> projects = projectService.getAllProjects().stream()
-                .map(projectMapper::toDTO)
-                .collect(Collectors.toList());
+    public ResponseEntity<byte[]> getAllProjects(
+            @RequestParam(name = "view", required = false) String view,
+            WebRequest request
+    ) {
+        ProjectFieldset fieldset = ProjectFieldset.from(view);
+        return conditionalJson(request, fieldset.resource("projects"), fieldset == ProjectFieldset.SUMMARY
+                ? generation -> projectQueryService.getAllProjectSummariesJson(generation)
+                : generation -> projectQueryService.getAllProjectsJson(generation));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<ProjectViewPage> getProjectsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(projectQueryService.getProjectsPage(cursor, limit));
+    }
 
-        return ResponseEntity.ok(projects);
+    @GetMapping("/search")
+    public ResponseEntity<ProjectSearchPage> searchProjects(
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(projectSearchIndex.search(query, page, size));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<ProjectFilterPage> filterProjects(
+            @RequestParam(name = "technology", required = false) List<String> technologies,
+            @RequestParam(name = "anyTechnology", required = false) List<String> anyTechnologies,
+            @RequestParam(name = "excludeTechnology", required = false) List<String> excludedTechnologies,
+            @RequestParam(name = "status", required = false) List<ProjectStatus> statuses,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(projectFacetIndex.filter(
+                technologies, anyTechnologies, excludedTechnologies, statuses, page, size));
     }
 
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<ProjectDTO> getProjectBySlug(@PathVariable String slug) {
-        try {
-            Project project = projectService.getProjectBySlug(slug);
-            return ResponseEntity.ok(projectMapper.toDTO(project));
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<byte[]> getProjectBySlug(
+            @PathVariable String slug,
+            @RequestParam(name = "view", required = false) String view,
+            WebRequest request
+    ) {
+        ProjectFieldset fieldset = ProjectFieldset.from(view);
+        return conditionalProject(request, fieldset, projectQueryService.findProjectBySlug(slug), fieldset == ProjectFieldset.SUMMARY
+                ? () -> projectQueryService.getProjectSummaryJsonBySlug(slug)
+                : () -> projectQueryService.getProjectJsonBySlug(slug));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
-        Project project = projectService.getProjectById(id);
-        return ResponseEntity.ok(projectMapper.toDTO(project));
+    public ResponseEntity<byte[]> getProjectById(
+            @PathVariable Long id,
+            @RequestParam(name = "view", required = false) String view,
+            WebRequest request
+    ) {
+        ProjectFieldset fieldset = ProjectFieldset.from(view);
+        return conditionalProject(request, fieldset, projectQueryService.findProjectById(id), fieldset == ProjectFieldset.SUMMARY
+                ? () -> projectQueryService.getProjectSummaryJsonById(id)
+                : () -> projectQueryService.getProjectJsonById(id));
     }
 
     @PutMapping("/{id}")
+    @Transactional
     @PreAuthorize("hasAuthority('EDIT_PROJECTS')")
     public ResponseEntity<ProjectDTO> updateProject(@PathVariable Long id, @RequestBody ProjectDTO projectDTO) {
         Project updated = projectService.updateProject(id, projectDTO);
@@ -68,9 +127,44 @@ public class ProjectController {
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     @PreAuthorize("hasAuthority('DELETE_PROJECTS')")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         projectService.deleteProject(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<byte[]> conditionalJson(WebRequest request, String resource, Function<Long, byte[]> body) {
+        ProjectVersion version = projectVersionService.current();
+        if (version != null && request.checkNotModified(version.etag(resource), version.lastModified())) {
+            return null;
+        }
+
+        return json(body.apply(version != null ? version.version() : projectVersionService.generation()));
+    }
+
+    private ResponseEntity<byte[]> conditionalProject(WebRequest request, ProjectFieldset fieldset, ProjectView project,
+                                                      Supplier<byte[]> body) {
+        if (project == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        ProjectVersion version = new ProjectVersion(project.version(),
+                project.lastModifiedAt() == null ? -1 : project.lastModifiedAt().getTime());
+        if (request.checkNotModified(version.etag(fieldset.resource("project-" + project.id())), version.lastModified())) {
+            return null;
+        }
+
+        return json(body.get());
+    }
+
+    private ResponseEntity<byte[]> json(byte[] json) {
+        if (json == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
 }
@@ -0,0 +1,7 @@
+package org.noisevisionproductions.portfolio.projectsManagement.exceptions;
+
+public class InvalidFieldsetException extends RuntimeException {
+    public InvalidFieldsetException(String message) {
+        super(message);
+    }
+}
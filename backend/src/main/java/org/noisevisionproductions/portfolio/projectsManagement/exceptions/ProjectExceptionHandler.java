@@ -1,5 +1,7 @@
 package org.noisevisionproductions.portfolio.projectsManagement.exceptions;
 
+import org.noisevisionproductions.portfolio.exceptions.ErrorResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -10,4 +12,18 @@ public class ProjectExceptionHandler {
     public ResponseEntity<Void> handleProjectNotFound(ProjectNotFoundException exception) {
         return ResponseEntity.notFound().build();
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException exception) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("error", "invalidCursor"));
+    }
+
+    @ExceptionHandler(InvalidFieldsetException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldset(InvalidFieldsetException exception) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("error", "invalidView"));
+    }
 }
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -15,7 +17,7 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_created_at_id", columnList = "createdAt, id"))
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Project {
@@ -56,7 +58,12 @@ public class Project {
     @Temporal(TemporalType.TIMESTAMP)
     private Date lastModifiedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(
             name = "project_features",
             joinColumns = @JoinColumn(name = "project_id")
@@ -65,6 +72,7 @@ public class Project {
     private List<String> features = new ArrayList<>();
 
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(
             name = "project_technologies",
             joinColumns = @JoinColumn(name = "project_id")
@@ -73,6 +81,7 @@ public class Project {
     private List<String> technologies = new ArrayList<>();
 
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(
             name = "project_contributors",
             joinColumns = @JoinColumn(name = "project_id")
@@ -0,0 +1,9 @@
+package org.noisevisionproductions.portfolio.projectsManagement.model;
+
+import java.util.Date;
+
+public record ProjectCursor(
+        Date createdAt,
+        Long id
+) {
+}
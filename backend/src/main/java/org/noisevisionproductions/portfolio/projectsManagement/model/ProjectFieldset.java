@@ -0,0 +1,26 @@
+package org.noisevisionproductions.portfolio.projectsManagement.model;
+
+import org.noisevisionproductions.portfolio.projectsManagement.exceptions.InvalidFieldsetException;
+
+import java.util.Locale;
+
+public enum ProjectFieldset {
+    SUMMARY,
+    FULL;
+
+    public static ProjectFieldset from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFieldsetException("Unknown project view: " + value);
+        }
+    }
+
+    public String resource(String resource) {
+        return this == FULL ? resource : resource + "-" + name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,13 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+public record ContributorRow(
+        Long projectId,
+        String name,
+        String role,
+        String profileUrl
+) {
+
+    public ContributorView toView() {
+        return new ContributorView(name, role, profileUrl);
+    }
+}
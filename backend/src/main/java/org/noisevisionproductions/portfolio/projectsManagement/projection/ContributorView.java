@@ -0,0 +1,16 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.Contributor;
+
+import java.io.Serializable;
+
+public record ContributorView(
+        String name,
+        String role,
+        String profileUrl
+) implements Serializable {
+
+    public static ContributorView fromContributor(Contributor contributor) {
+        return new ContributorView(contributor.getName(), contributor.getRole(), contributor.getProfileUrl());
+    }
+}
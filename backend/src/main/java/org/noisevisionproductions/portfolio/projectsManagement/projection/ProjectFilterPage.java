@@ -0,0 +1,25 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record ProjectFilterPage(
+        List<ProjectSummaryView> items,
+        int page,
+        int size,
+        long total,
+        Map<String, Integer> technologies,
+        Map<ProjectStatus, Integer> statuses
+) implements Serializable {
+
+    public ProjectFilterPage {
+        items = items == null ? List.of() : List.copyOf(items);
+        technologies = technologies == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(technologies));
+        statuses = statuses == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(statuses));
+    }
+}
@@ -0,0 +1,13 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+public record ProjectImageRow(
+        Long projectId,
+        Long id,
+        String imageUrl,
+        String caption
+) {
+
+    public ProjectImageView toView() {
+        return new ProjectImageView(id, imageUrl, caption);
+    }
+}
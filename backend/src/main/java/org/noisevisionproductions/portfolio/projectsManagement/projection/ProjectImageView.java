@@ -0,0 +1,16 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
+
+import java.io.Serializable;
+
+public record ProjectImageView(
+        Long id,
+        String imageUrl,
+        String caption
+) implements Serializable {
+
+    public static ProjectImageView fromImage(ImageFromProject image) {
+        return new ProjectImageView(image.getId(), image.getImageUrl(), image.getCaption());
+    }
+}
@@ -0,0 +1,20 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+
+import java.util.Date;
+
+public record ProjectRow(
+        Long id,
+        String name,
+        String slug,
+        String description,
+        String repositoryUrl,
+        ProjectStatus status,
+        Date createdAt,
+        Date startDate,
+        Date endDate,
+        Date lastModifiedAt,
+        long version
+) {
+}
@@ -0,0 +1,16 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record ProjectSearchPage(
+        List<ProjectSummaryView> items,
+        int page,
+        int size,
+        long total
+) implements Serializable {
+
+    public ProjectSearchPage {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+}
@@ -0,0 +1,11 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+
+public record ProjectSummaryRow(
+        Long id,
+        String name,
+        String slug,
+        ProjectStatus status
+) {
+}
@@ -0,0 +1,42 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+public record ProjectSummaryView(
+        Long id,
+        String name,
+        String slug,
+        ProjectStatus status,
+        List<String> technologies,
+        ProjectImageView coverImage
+) implements Serializable {
+
+    public ProjectSummaryView {
+        technologies = technologies == null ? List.of() : technologies.stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public static ProjectSummaryView of(ProjectSummaryRow row, List<String> technologies, ProjectImageView coverImage) {
+        return new ProjectSummaryView(row.id(), row.name(), row.slug(), row.status(), technologies, coverImage);
+    }
+
+    public static ProjectSummaryView fromView(ProjectView project) {
+        if (project == null) {
+            return null;
+        }
+
+        return new ProjectSummaryView(
+                project.id(),
+                project.name(),
+                project.slug(),
+                project.status(),
+                project.technologies(),
+                project.projectImages().isEmpty() ? null : project.projectImages().getFirst()
+        );
+    }
+}
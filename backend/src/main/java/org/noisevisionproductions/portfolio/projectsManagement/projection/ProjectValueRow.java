@@ -0,0 +1,7 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+public record ProjectValueRow(
+        Long projectId,
+        String value
+) {
+}
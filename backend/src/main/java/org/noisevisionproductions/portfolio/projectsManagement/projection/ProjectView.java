@@ -0,0 +1,98 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+public record ProjectView(
+        Long id,
+        String name,
+        String slug,
+        String description,
+        String repositoryUrl,
+        ProjectStatus status,
+        Date createdAt,
+        Date startDate,
+        Date endDate,
+        Date lastModifiedAt,
+        long version,
+        List<String> features,
+        List<String> technologies,
+        List<ContributorView> contributors,
+        List<ProjectImageView> projectImages
+) implements Serializable {
+
+    public ProjectView {
+        features = immutableCopy(features);
+        technologies = immutableCopy(technologies);
+        contributors = immutableCopy(contributors);
+        projectImages = immutableCopy(projectImages);
+    }
+
+    public static ProjectView of(ProjectRow row,
+                                 List<String> features,
+                                 List<String> technologies,
+                                 List<ContributorView> contributors,
+                                 List<ProjectImageView> projectImages) {
+        return new ProjectView(
+                row.id(),
+                row.name(),
+                row.slug(),
+                row.description(),
+                row.repositoryUrl(),
+                row.status(),
+                row.createdAt(),
+                row.startDate(),
+                row.endDate(),
+                row.lastModifiedAt(),
+                row.version(),
+                features,
+                technologies,
+                contributors,
+                projectImages
+        );
+    }
+
+    public static ProjectView fromProject(Project project) {
+        if (project == null) {
+            return null;
+        }
+
+        return new ProjectView(
+                project.getId(),
+                project.getName(),
+                project.getSlug(),
+                project.getDescription(),
+                project.getRepositoryUrl(),
+                project.getStatus(),
+                project.getCreatedAt(),
+                project.getStartDate(),
+                project.getEndDate(),
+                project.getLastModifiedAt(),
+                project.getVersion(),
+                project.getFeatures(),
+                project.getTechnologies(),
+                project.getContributors() == null ? null : project.getContributors().stream()
+                        .filter(Objects::nonNull)
+                        .map(ContributorView::fromContributor)
+                        .toList(),
+                project.getProjectImages() == null ? null : project.getProjectImages().stream()
+                        .filter(Objects::nonNull)
+                        .map(ProjectImageView::fromImage)
+                        .toList()
+        );
+    }
+
+    private static <T> List<T> immutableCopy(List<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
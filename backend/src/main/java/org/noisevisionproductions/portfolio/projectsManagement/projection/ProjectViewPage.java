@@ -0,0 +1,14 @@
+package org.noisevisionproductions.portfolio.projectsManagement.projection;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record ProjectViewPage(
+        List<ProjectView> items,
+        String nextCursor
+) implements Serializable {
+
+    public ProjectViewPage {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+}
@@ -0,0 +1,74 @@
+package org.noisevisionproductions.portfolio.projectsManagement.repository;
+
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectValueRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectViewRepository extends Repository<Project, Long> {
+
+    String PROJECT_ROW = "SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectRow(" +
+            "p.id, p.name, p.slug, p.description, p.repositoryUrl, p.status, " +
+            "p.createdAt, p.startDate, p.endDate, p.lastModifiedAt, p.version) FROM Project p ";
+
+    String PROJECT_SUMMARY_ROW = "SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryRow(" +
+            "p.id, p.name, p.slug, p.status) FROM Project p ";
+
+    @Query(PROJECT_ROW + "WHERE p.id = :id")
+    Optional<ProjectRow> findRowById(@Param("id") Long id);
+
+    @Query(PROJECT_ROW + "WHERE p.id IN :ids")
+    List<ProjectRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(PROJECT_SUMMARY_ROW + "ORDER BY p.id")
+    List<ProjectSummaryRow> findAllSummaryRows();
+
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT p.id FROM Project p WHERE p.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT p.slug FROM Project p WHERE p.slug IS NOT NULL")
+    List<String> findAllSlugs();
+
+    @Query("SELECT p.id FROM Project p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findFirstPageIds(Limit limit);
+
+    @Query("SELECT p.id FROM Project p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findPageIdsAfter(@Param("createdAt") Date createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectValueRow(p.id, f) " +
+            "FROM Project p JOIN p.features f WHERE p.id IN :ids")
+    List<ProjectValueRow> findFeatures(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectValueRow(p.id, t) " +
+            "FROM Project p JOIN p.technologies t WHERE p.id IN :ids")
+    List<ProjectValueRow> findTechnologies(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorRow(" +
+            "p.id, c.name, c.role, c.profileUrl) FROM Project p JOIN p.contributors c WHERE p.id IN :ids")
+    List<ContributorRow> findContributors(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageRow(" +
+            "i.project.id, i.id, i.imageUrl, i.caption) FROM ImageFromProject i WHERE i.project.id IN :ids ORDER BY i.id")
+    List<ProjectImageRow> findImages(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageRow(" +
+            "i.project.id, i.id, i.imageUrl, i.caption) FROM ImageFromProject i WHERE i.project.id IN :ids " +
+            "AND i.id = (SELECT MIN(c.id) FROM ImageFromProject c WHERE c.project.id = i.project.id)")
+    List<ProjectImageRow> findCoverImages(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,136 @@
+package org.noisevisionproductions.portfolio.projectsManagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.config.CacheWarmupProperties;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectTrafficTracker;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectCacheWarmer implements ApplicationRunner {
+    private final ProjectQueryService projectQueryService;
+    private final ProjectViewRepository projectViewRepository;
+    private final ProjectTrafficTracker projectTrafficTracker;
+    private final CacheWarmupProperties cacheWarmupProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (cacheWarmupProperties.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    public int warmUp() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + cacheWarmupProperties.getTimeBudget().toNanos();
+        ExecutorService executor = newExecutor();
+        try {
+            List<Long> ids = selectIds();
+            List<Callable<Integer>> batches = new ArrayList<>();
+            for (List<Long> batch : partition(ids)) {
+                batches.add(() -> projectQueryService.warmProjects(batch));
+            }
+
+            int warmed = await(submitAll(executor, batches), deadline).stream().mapToInt(Integer::intValue).sum();
+            await(submitAll(executor, List.of(this::warmListsAndPages)), deadline);
+
+            log.info("Cache warm-up loaded {} of {} projects in {} ms", warmed, ids.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return warmed;
+        } catch (Exception e) {
+            log.error("Cache warm-up failed, continuing with a cold cache", e);
+            return 0;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> selectIds() {
+        int topN = cacheWarmupProperties.getTopN();
+        if (topN <= 0) {
+            return projectViewRepository.findAllIds();
+        }
+
+        List<Long> ids = projectTrafficTracker.top(topN);
+        if (!ids.isEmpty()) {
+            return ids;
+        }
+
+        List<Long> allIds = projectViewRepository.findAllIds();
+        return allIds.subList(0, Math.min(topN, allIds.size()));
+    }
+
+    private Integer warmListsAndPages() {
+        projectQueryService.getAllProjects();
+        projectQueryService.getAllProjectsJson();
+        projectQueryService.getAllProjectSummariesJson();
+
+        String cursor = null;
+        int pages = 0;
+        while (pages < cacheWarmupProperties.getPages() && !Thread.currentThread().isInterrupted()) {
+            ProjectViewPage page = projectQueryService.getProjectsPage(cursor, cacheWarmupProperties.getPageSize());
+            pages++;
+            cursor = page.nextCursor();
+            if (cursor == null) {
+                break;
+            }
+        }
+        return pages;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        int batchSize = Math.max(1, cacheWarmupProperties.getBatchSize());
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(List.copyOf(ids.subList(from, Math.min(from + batchSize, ids.size()))));
+        }
+        return batches;
+    }
+
+    private List<Future<Integer>> submitAll(ExecutorService executor, List<Callable<Integer>> tasks) {
+        return tasks.stream().map(executor::submit).toList();
+    }
+
+    private List<Integer> await(List<Future<Integer>> futures, long deadline) throws InterruptedException {
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            try {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                log.warn("Cache warm-up task failed", e.getCause());
+            } catch (TimeoutException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                log.warn("Cache warm-up exceeded its time budget of {}", cacheWarmupProperties.getTimeBudget());
+                break;
+            }
+        }
+        return results;
+    }
+
+    private ExecutorService newExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, cacheWarmupProperties.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "project-cache-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
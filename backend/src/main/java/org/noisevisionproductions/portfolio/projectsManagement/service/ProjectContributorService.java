@@ -1,10 +1,13 @@
 package org.noisevisionproductions.portfolio.projectsManagement.service;
 
 import lombok.RequiredArgsConstructor;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
+import org.noisevisionproductions.portfolio.cache.utils.TransactionCallbacks;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ContributorDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Contributor;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
 import org.springframework.stereotype.Service;
@@ -18,6 +21,8 @@ public class ProjectContributorService {
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
     private final ProjectCacheService projectCacheService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectFacetIndex projectFacetIndex;
 
     public Project addContributor(Long projectId, ContributorDTO contributorDTO) {
         Project project = projectService.getProjectById(projectId);
@@ -27,8 +32,14 @@ public class ProjectContributorService {
         contributor.setProfileUrl(contributorDTO.getProfileUrl());
         project.getContributors().add(contributor);
 
-        Project updatedProject = projectRepository.save(project);
-        projectCacheService.cache(projectId, updatedProject);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        ProjectView view = ProjectView.fromProject(updatedProject);
+        TransactionCallbacks.afterCommit(() -> {
+            projectCacheService.cacheFields(view, ProjectHashCodec.CONTRIBUTORS);
+            projectCacheService.invalidateProjectsList();
+            projectSearchIndex.index(view);
+            projectFacetIndex.index(view);
+        });
 
         return updatedProject;
     }
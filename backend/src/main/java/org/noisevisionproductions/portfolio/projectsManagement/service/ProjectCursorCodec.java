@@ -0,0 +1,42 @@
+package org.noisevisionproductions.portfolio.projectsManagement.service;
+
+import org.noisevisionproductions.portfolio.projectsManagement.exceptions.InvalidCursorException;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectCursor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+@Component
+public class ProjectCursorCodec {
+    private static final String SEPARATOR = ":";
+
+    public String encode(Date createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+
+        String raw = createdAt.getTime() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ProjectCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 2) {
+                throw new InvalidCursorException("Malformed cursor: " + cursor);
+            }
+            return new ProjectCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor: " + cursor, e);
+        }
+    }
+}
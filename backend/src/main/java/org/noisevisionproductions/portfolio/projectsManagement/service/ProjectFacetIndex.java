@@ -0,0 +1,275 @@
+package org.noisevisionproductions.portfolio.projectsManagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectFilterPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectFacetIndex {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProjectQueryService projectQueryService;
+    private final ProjectVersionService projectVersionService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps = new Bitmaps();
+    private List<Consumer<Bitmaps>> pendingUpdates;
+    private Long generation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Long snapshotGeneration = projectVersionService.generation();
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bitmaps rebuilt = null;
+        try {
+            List<ProjectView> projects = projectQueryService.getAllProjects();
+            rebuilt = new Bitmaps();
+            projects.forEach(rebuilt::add);
+            log.info("Built facet bitmaps for {} projects", projects.size());
+        } catch (Exception e) {
+            log.error("Failed to build project facet index", e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                for (Consumer<Bitmaps> update : pendingUpdates) {
+                    update.accept(rebuilt);
+                }
+                bitmaps = rebuilt;
+                generation = snapshotGeneration;
+            }
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.index.refresh-interval:30000}")
+    public void refresh() {
+        Long current = projectVersionService.generation();
+        lock.writeLock().lock();
+        try {
+            if (Objects.equals(generation, current)) {
+                return;
+            }
+            if (projectVersionService.producedLocally(generation, current)) {
+                generation = current;
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuild();
+    }
+
+    public void index(ProjectView project) {
+        if (project == null || project.id() == null) {
+            return;
+        }
+
+        update(current -> current.add(project));
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+
+        update(current -> current.remove(id));
+    }
+
+    public ProjectFilterPage filter(Collection<String> allTechnologies,
+                                    Collection<String> anyTechnologies,
+                                    Collection<String> excludedTechnologies,
+                                    Collection<ProjectStatus> allowedStatuses,
+                                    int page,
+                                    int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        lock.readLock().lock();
+        try {
+            Bitmaps current = bitmaps;
+            BitSet matches = (BitSet) current.live.clone();
+
+            for (String technology : nullToEmpty(allTechnologies)) {
+                matches.and(current.technologyBitmap(technology));
+            }
+
+            if (!nullToEmpty(anyTechnologies).isEmpty()) {
+                BitSet any = new BitSet();
+                anyTechnologies.forEach(technology -> any.or(current.technologyBitmap(technology)));
+                matches.and(any);
+            }
+
+            for (String technology : nullToEmpty(excludedTechnologies)) {
+                matches.andNot(current.technologyBitmap(technology));
+            }
+
+            if (!nullToEmpty(allowedStatuses).isEmpty()) {
+                BitSet any = new BitSet();
+                allowedStatuses.stream()
+                        .filter(Objects::nonNull)
+                        .forEach(status -> any.or(current.statuses.getOrDefault(status, new BitSet())));
+                matches.and(any);
+            }
+
+            List<ProjectSummaryView> items = matches.stream()
+                    .mapToObj(current.documents::get)
+                    .sorted(Comparator.comparing(ProjectSummaryView::id))
+                    .skip((long) pageNumber * pageSize)
+                    .limit(pageSize)
+                    .toList();
+
+            return new ProjectFilterPage(items, pageNumber, pageSize, matches.cardinality(),
+                    current.technologyCounts(matches), current.statusCounts(matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Consumer<Bitmaps> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(bitmaps);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int intersectionSize(BitSet bitmap, BitSet matches) {
+        BitSet intersection = (BitSet) bitmap.clone();
+        intersection.and(matches);
+        return intersection.cardinality();
+    }
+
+    private static String key(String technology) {
+        return technology == null ? "" : technology.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private <T> Collection<T> nullToEmpty(Collection<T> values) {
+        return values == null ? List.of() : values;
+    }
+
+    private static final class Bitmaps {
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<ProjectSummaryView> documents = new ArrayList<>();
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, BitSet> technologies = new HashMap<>();
+        private final Map<String, String> technologyLabels = new HashMap<>();
+        private final Map<ProjectStatus, BitSet> statuses = new EnumMap<>(ProjectStatus.class);
+
+        void add(ProjectView project) {
+            remove(project.id());
+
+            int ordinal = freeOrdinals.isEmpty() ? documents.size() : freeOrdinals.pop();
+            ProjectSummaryView summary = ProjectSummaryView.fromView(project);
+            if (ordinal == documents.size()) {
+                documents.add(summary);
+            } else {
+                documents.set(ordinal, summary);
+            }
+
+            ordinals.put(project.id(), ordinal);
+            live.set(ordinal);
+
+            for (String technology : project.technologies()) {
+                String key = key(technology);
+                if (!key.isEmpty()) {
+                    technologies.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+                    technologyLabels.putIfAbsent(key, technology.trim());
+                }
+            }
+
+            if (project.status() != null) {
+                statuses.computeIfAbsent(project.status(), status -> new BitSet()).set(ordinal);
+            }
+        }
+
+        void remove(Long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+
+            live.clear(ordinal);
+            documents.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+
+            technologies.values().forEach(bitmap -> bitmap.clear(ordinal));
+            technologies.entrySet().removeIf(entry -> {
+                boolean empty = entry.getValue().isEmpty();
+                if (empty) {
+                    technologyLabels.remove(entry.getKey());
+                }
+                return empty;
+            });
+            statuses.values().forEach(bitmap -> bitmap.clear(ordinal));
+        }
+
+        BitSet technologyBitmap(String technology) {
+            return technologies.getOrDefault(key(technology), new BitSet());
+        }
+
+        Map<String, Integer> technologyCounts(BitSet matches) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            technologies.entrySet().stream()
+                    .map(entry -> Map.entry(technologyLabels.get(entry.getKey()), intersectionSize(entry.getValue(), matches)))
+                    .filter(entry -> entry.getValue() > 0)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+            return counts;
+        }
+
+        Map<ProjectStatus, Integer> statusCounts(BitSet matches) {
+            Map<ProjectStatus, Integer> counts = new EnumMap<>(ProjectStatus.class);
+            statuses.forEach((status, bitmap) -> {
+                int count = intersectionSize(bitmap, matches);
+                if (count > 0) {
+                    counts.put(status, count);
+                }
+            });
+            return counts;
+        }
+    }
+}
@@ -3,15 +3,19 @@ package org.noisevisionproductions.portfolio.projectsManagement.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
+import org.noisevisionproductions.portfolio.cache.utils.TransactionCallbacks;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectImageDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.exceptions.FileStorageException;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
 import java.util.Optional;
 
 @Service
@@ -24,6 +28,8 @@ public class ProjectImageService {
     private final ProjectService projectService;
     private final FileStorageService fileStorageService;
     private final ProjectCacheService projectCacheService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectFacetIndex projectFacetIndex;
 
     public ImageFromProject addImageToProject(Long projectId, ProjectImageDTO projectImageDTO) {
         Project project = projectService.getProjectById(projectId);
@@ -34,6 +40,7 @@ public class ProjectImageService {
         image.setProject(project);
 
         project.getProjectImages().add(image);
+        project.setLastModifiedAt(new Date());
 
         Project savedProject = projectRepository.saveAndFlush(project);
 
@@ -43,7 +50,13 @@ public class ProjectImageService {
                 .findFirst()
                 .orElseThrow(() -> new RuntimeException("Failed to save image"));
 
-        projectCacheService.cache(projectId, savedProject);
+        ProjectView view = ProjectView.fromProject(savedProject);
+        TransactionCallbacks.afterCommit(() -> {
+            projectCacheService.cacheFields(view, ProjectHashCodec.PROJECT_IMAGES);
+            projectCacheService.invalidateProjectsList();
+            projectSearchIndex.index(view);
+            projectFacetIndex.index(view);
+        });
 
         return savedImage;
     }
@@ -65,9 +78,16 @@ public class ProjectImageService {
             }
 
             project.getProjectImages().removeIf(img -> img.getId().equals(imageId));
-            Project udpatedProject = projectRepository.save(project);
-
-            projectCacheService.cache(projectId, udpatedProject);
+            project.setLastModifiedAt(new Date());
+            Project udpatedProject = projectRepository.saveAndFlush(project);
+
+            ProjectView view = ProjectView.fromProject(udpatedProject);
+            TransactionCallbacks.afterCommit(() -> {
+                projectCacheService.cacheFields(view, ProjectHashCodec.PROJECT_IMAGES);
+                projectCacheService.invalidateProjectsList();
+                projectSearchIndex.index(view);
+                projectFacetIndex.index(view);
+            });
         }
     }
 }
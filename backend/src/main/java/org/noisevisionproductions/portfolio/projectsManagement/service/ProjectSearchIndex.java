@@ -0,0 +1,256 @@
+package org.noisevisionproductions.portfolio.projectsManagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSearchPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+    private static final float NAME_WEIGHT = 4.0f;
+    private static final float TECHNOLOGY_WEIGHT = 3.0f;
+    private static final float FEATURE_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProjectQueryService projectQueryService;
+    private final ProjectVersionService projectVersionService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private List<Consumer<Index>> pendingUpdates;
+    private Long generation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Long snapshotGeneration = projectVersionService.generation();
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = null;
+        try {
+            List<ProjectView> projects = projectQueryService.getAllProjects();
+            rebuilt = new Index();
+            projects.forEach(rebuilt::add);
+            log.info("Indexed {} projects for search", projects.size());
+        } catch (Exception e) {
+            log.error("Failed to build project search index", e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                for (Consumer<Index> update : pendingUpdates) {
+                    update.accept(rebuilt);
+                }
+                index = rebuilt;
+                generation = snapshotGeneration;
+            }
+            pendingUpdates = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.index.refresh-interval:30000}")
+    public void refresh() {
+        Long current = projectVersionService.generation();
+        lock.writeLock().lock();
+        try {
+            if (Objects.equals(generation, current)) {
+                return;
+            }
+            if (projectVersionService.producedLocally(generation, current)) {
+                generation = current;
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuild();
+    }
+
+    public void index(ProjectView project) {
+        if (project == null || project.id() == null) {
+            return;
+        }
+
+        update(current -> current.add(project));
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+
+        update(current -> current.remove(id));
+    }
+
+    public ProjectSearchPage search(String query, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return new ProjectSearchPage(List.of(), pageNumber, pageSize, 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Float> matches = i == terms.size() - 1
+                        ? index.prefixMatches(terms.get(i))
+                        : index.exactMatches(terms.get(i));
+                scores = scores == null ? matches : intersect(scores, matches);
+                if (scores.isEmpty()) {
+                    return new ProjectSearchPage(List.of(), pageNumber, pageSize, 0);
+                }
+            }
+
+            List<ProjectSummaryView> items = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .skip((long) pageNumber * pageSize)
+                    .limit(pageSize)
+                    .map(entry -> index.documents.get(entry.getKey()))
+                    .toList();
+
+            return new ProjectSearchPage(items, pageNumber, pageSize, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(SlugGenerator.normalizeText(text).split("[^a-z0-9]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private void update(Consumer<Index> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(index);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> intersect(Map<Long, Float> scores, Map<Long, Float> matches) {
+        Map<Long, Float> result = new HashMap<>();
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            Float score = matches.get(entry.getKey());
+            if (score != null) {
+                result.put(entry.getKey(), entry.getValue() + score);
+            }
+        }
+        return result;
+    }
+
+    private static final class Index {
+        private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        private final Map<Long, Map<String, Float>> documentTerms = new HashMap<>();
+        private final Map<Long, ProjectSummaryView> documents = new HashMap<>();
+
+        void add(ProjectView project) {
+            remove(project.id());
+
+            Map<String, Float> terms = new HashMap<>();
+            addTerms(terms, List.of(nullToEmpty(project.name())), NAME_WEIGHT);
+            addTerms(terms, project.technologies(), TECHNOLOGY_WEIGHT);
+            addTerms(terms, project.features(), FEATURE_WEIGHT);
+            addTerms(terms, List.of(nullToEmpty(project.description())), DESCRIPTION_WEIGHT);
+
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(project.id(), weight));
+            documentTerms.put(project.id(), terms);
+            documents.put(project.id(), ProjectSummaryView.fromView(project));
+        }
+
+        void remove(Long id) {
+            Map<String, Float> terms = documentTerms.remove(id);
+            documents.remove(id);
+            if (terms == null) {
+                return;
+            }
+
+            for (String term : terms.keySet()) {
+                Map<Long, Float> projects = postings.get(term);
+                if (projects != null) {
+                    projects.remove(id);
+                    if (projects.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        Map<Long, Float> exactMatches(String term) {
+            Map<Long, Float> matches = new HashMap<>();
+            accumulate(matches, postings.get(term));
+            return matches;
+        }
+
+        Map<Long, Float> prefixMatches(String prefix) {
+            Map<Long, Float> matches = new HashMap<>();
+            postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(projects -> accumulate(matches, projects));
+            return matches;
+        }
+
+        private void accumulate(Map<Long, Float> matches, Map<Long, Float> projects) {
+            if (projects == null || projects.isEmpty()) {
+                return;
+            }
+
+            float idf = (float) Math.log(1.0 + (double) documents.size() / projects.size());
+            projects.forEach((id, weight) -> matches.merge(id, weight * idf, Float::sum));
+        }
+
+        private void addTerms(Map<String, Float> terms, Collection<String> values, float weight) {
+            for (String value : values) {
+                for (String token : tokenize(value)) {
+                    terms.merge(token, weight, Float::sum);
+                }
+            }
+        }
+
+        private String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.noisevisionproductions.portfolio.projectsManagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.config.NegativeCacheProperties;
+import org.noisevisionproductions.portfolio.cache.service.base.BloomFilter;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProjectSlugFilter {
+    private final ProjectViewRepository projectViewRepository;
+    private final ProjectVersionService projectVersionService;
+    private final NegativeCacheProperties properties;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isSlugFilter()) {
+            return;
+        }
+
+        try {
+            Long generation = projectVersionService.generation();
+            List<String> slugs = projectViewRepository.findAllSlugs();
+            BloomFilter filter = new BloomFilter(Math.max(properties.getSlugFilterExpectedInsertions(), slugs.size()),
+                    properties.getSlugFilterFalsePositiveRate());
+            slugs.forEach(filter::put);
+            snapshot = new Snapshot(filter, generation);
+            log.info("Built slug filter for {} projects", slugs.size());
+        } catch (Exception e) {
+            log.error("Failed to build project slug filter", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.negative.slug-filter-refresh-interval:30000}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        if (current != null && !Objects.equals(current.generation(), projectVersionService.generation())) {
+            rebuild();
+        }
+    }
+
+    public boolean mightExist(String slug) {
+        if (slug == null) {
+            return false;
+        }
+
+        Snapshot current = snapshot;
+        if (current == null || current.generation() == null
+                || !current.generation().equals(projectVersionService.generation())) {
+            return true;
+        }
+        return current.filter().mightContain(slug);
+    }
+
+    private record Snapshot(BloomFilter filter, Long generation) {
+    }
+}
@@ -28,14 +28,14 @@ public class SlugGenerator {
         }
     }
 
-    private String normalizeText(String text) {
+    public static String normalizeText(String text) {
         String normalized = text.toLowerCase();
         normalized = replaceSpecialChars(normalized);
         return Normalizer.normalize(normalized, Normalizer.Form.NFD)
                 .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
     }
 
-    private String replaceSpecialChars(String text) {
+    private static String replaceSpecialChars(String text) {
         String result = text;
         for (String[] replacement : ADDITIONAL_CHARS) {
             result = result.replace(replacement[0], replacement[1]);
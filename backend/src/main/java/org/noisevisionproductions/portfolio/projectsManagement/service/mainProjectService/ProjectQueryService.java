@@ -0,0 +1,403 @@
+package org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheRefresher;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectResponseCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectSingleFlightService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectTrafficTracker;
+import org.noisevisionproductions.portfolio.projectsManagement.exceptions.ProjectNotFoundException;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectCursor;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectValueRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectCursorCodec;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSlugFilter;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectQueryService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProjectViewRepository projectViewRepository;
+    private final ProjectCacheService projectCacheService;
+    private final ProjectResponseCacheService projectResponseCacheService;
+    private final ProjectCursorCodec projectCursorCodec;
+    private final ProjectSingleFlightService projectSingleFlightService;
+    private final ProjectCacheRefresher projectCacheRefresher;
+    private final ProjectTrafficTracker projectTrafficTracker;
+    private final ProjectSlugFilter projectSlugFilter;
+    private final CacheMetrics cacheMetrics;
+    private final PlatformTransactionManager transactionManager;
+
+    public List<ProjectView> getAllProjects() {
+        return getAllProjects(projectCacheService.currentGeneration());
+    }
+
+    public byte[] getAllProjectsJson() {
+        return getAllProjectsJson(projectCacheService.currentGeneration());
+    }
+
+    public byte[] getAllProjectsJson(Long generation) {
+        byte[] cachedJson = projectResponseCacheService.getProjectsList(generation);
+        if (cachedJson != null) {
+            return cachedJson;
+        }
+
+        return projectResponseCacheService.cacheProjectsList(generation, getAllProjects(generation));
+    }
+
+    public byte[] getAllProjectSummariesJson() {
+        return getAllProjectSummariesJson(projectCacheService.currentGeneration());
+    }
+
+    public byte[] getAllProjectSummariesJson(Long generation) {
+        byte[] cachedJson = projectResponseCacheService.getProjectSummaries(generation);
+        if (cachedJson != null) {
+            return cachedJson;
+        }
+
+        return projectSingleFlightService.load("summary:all:" + generation,
+                () -> projectResponseCacheService.getProjectSummaries(generation),
+                () -> cacheMetrics.recordLoad(ProjectCacheFamilies.RESPONSE, () -> projectResponseCacheService
+                        .cacheProjectSummaries(generation, readOnly(() -> assembleSummaries(projectViewRepository.findAllSummaryRows())))));
+    }
+
+    public ProjectView getProjectById(Long id) {
+        ProjectView project = findProjectById(id);
+        if (project == null) {
+            throw new ProjectNotFoundException("Project not found with id: " + id);
+        }
+        return project;
+    }
+
+    public ProjectView findProjectById(Long id) {
+        CacheEntry<ProjectView> cachedProject = projectCacheService.getEntry(id);
+        if (cachedProject != null) {
+            if (cachedProject.isStale(System.currentTimeMillis())) {
+                projectCacheRefresher.refresh("id:" + id, () -> loadProject(id));
+            }
+            projectTrafficTracker.record(id);
+            return cachedProject.value();
+        }
+
+        if (projectCacheService.isMissing(id)) {
+            return null;
+        }
+
+        ProjectView project = loadAndCacheProject(id);
+        if (project != null) {
+            projectTrafficTracker.record(id);
+        }
+        return project;
+    }
+
+    public byte[] getProjectJsonById(Long id) {
+        byte[] cachedJson = projectResponseCacheService.getProject(id);
+        if (cachedJson != null) {
+            return cachedJson;
+        }
+
+        ProjectView project = findProjectById(id);
+        return project == null ? null : projectResponseCacheService.render(project);
+    }
+
+    public byte[] getProjectSummaryJsonById(Long id) {
+        ProjectSummaryView summary = projectCacheService.getSummary(id);
+        if (summary == null) {
+            summary = ProjectSummaryView.fromView(findProjectById(id));
+        }
+        return summary == null ? null : projectResponseCacheService.render(summary);
+    }
+
+    public ProjectView getProjectBySlug(String slug) {
+        ProjectView project = findProjectBySlug(slug);
+        if (project == null) {
+            throw new ProjectNotFoundException("Project not found with slug: " + slug);
+        }
+        return project;
+    }
+
+    public ProjectView findProjectBySlug(String slug) {
+        if (!projectSlugFilter.mightExist(slug)) {
+            return null;
+        }
+
+        Long cachedId = projectCacheService.getIdBySlug(slug);
+        if (cachedId != null) {
+            ProjectView project = findProjectById(cachedId);
+            if (project != null && slug.equals(project.slug())) {
+                return project;
+            }
+            log.debug("Cached slug '{}' no longer points to project {}", slug, cachedId);
+        }
+        if (projectCacheService.isSlugMissing(slug)) {
+            return null;
+        }
+
+        Long projectId = cacheMetrics.recordLoad(ProjectCacheFamilies.SLUG,
+                        () -> readOnly(() -> projectViewRepository.findIdBySlug(slug)))
+                .orElse(null);
+        if (projectId == null) {
+            projectCacheService.markSlugMissing(slug);
+            return null;
+        }
+        projectCacheService.cacheSlug(slug, projectId);
+        return findProjectById(projectId);
+    }
+
+    public byte[] getProjectJsonBySlug(String slug) {
+        byte[] cachedJson = projectResponseCacheService.getProjectBySlug(slug);
+        if (cachedJson != null) {
+            return cachedJson;
+        }
+
+        ProjectView project = findProjectBySlug(slug);
+        return project == null ? null : projectResponseCacheService.render(project);
+    }
+
+    public byte[] getProjectSummaryJsonBySlug(String slug) {
+        if (!projectSlugFilter.mightExist(slug)) {
+            return null;
+        }
+
+        ProjectSummaryView summary = projectCacheService.getSummaryBySlug(slug);
+        if (summary == null) {
+            summary = ProjectSummaryView.fromView(findProjectBySlug(slug));
+        }
+        return summary == null ? null : projectResponseCacheService.render(summary);
+    }
+
+    public ProjectViewPage getProjectsPage(String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        ProjectCursor position = projectCursorCodec.decode(cursor);
+
+        Long generation = projectCacheService.currentGeneration();
+        ProjectViewPage cachedPage = projectCacheService.getCachedProjectsPage(generation, cursor, pageSize);
+        if (cachedPage != null) {
+            return cachedPage;
+        }
+
+        return projectSingleFlightService.load("page:" + generation + ":" + pageSize + ":" + cursor,
+                () -> projectCacheService.getCachedProjectsPage(generation, cursor, pageSize),
+                () -> cacheMetrics.recordLoad(ProjectCacheFamilies.PAGE,
+                        () -> loadProjectsPage(generation, position, cursor, pageSize)));
+    }
+
+    public int warmProjects(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, ProjectView> cached = projectCacheService.getAll(ids);
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !cached.containsKey(id))
+                .toList();
+        if (missingIds.isEmpty()) {
+            return 0;
+        }
+
+        List<ProjectView> projects = readOnly(() -> assemble(projectViewRepository.findRowsByIdIn(missingIds)));
+        projects.forEach(project -> projectCacheService.cache(project.id(), project));
+        return projects.size();
+    }
+
+    private ProjectViewPage loadProjectsPage(Long generation, ProjectCursor position, String cursor, int pageSize) {
+        List<Long> ids = readOnly(() -> position == null
+                ? projectViewRepository.findFirstPageIds(Limit.of(pageSize + 1))
+                : projectViewRepository.findPageIdsAfter(position.createdAt(), position.id(), Limit.of(pageSize + 1)));
+
+        boolean hasNextPage = ids.size() > pageSize;
+        List<Long> pageIds = hasNextPage ? ids.subList(0, pageSize) : ids;
+        List<ProjectView> projects = readOnly(() -> loadInOrder(pageIds));
+
+        String nextCursor = null;
+        if (hasNextPage && !projects.isEmpty()) {
+            ProjectView last = projects.getLast();
+            nextCursor = projectCursorCodec.encode(last.createdAt(), last.id());
+        }
+
+        ProjectViewPage page = new ProjectViewPage(projects, nextCursor);
+        projectCacheService.cacheProjectsPage(generation, cursor, pageSize, page);
+        return page;
+    }
+
+    private List<ProjectView> getAllProjects(Long generation) {
+        List<ProjectView> cachedProjects = getCachedProjects(generation);
+        if (cachedProjects != null) {
+            return cachedProjects;
+        }
+
+        return projectSingleFlightService.load("all:" + generation, () -> getCachedProjects(generation),
+                () -> cacheMetrics.recordLoad(ProjectCacheFamilies.ALL, () -> loadAllProjects(generation)));
+    }
+
+    private List<ProjectView> getCachedProjects(Long generation) {
+        List<Long> ids = projectCacheService.getCachedProjectIds(generation);
+        if (ids == null) {
+            return null;
+        }
+
+        List<Long> staleIds = new ArrayList<>();
+        Map<Long, ProjectView> projects = projectCacheService.getAll(ids, staleIds::add);
+        if (!projects.keySet().containsAll(ids)) {
+            return null;
+        }
+        if (!staleIds.isEmpty()) {
+            projectCacheRefresher.refresh("all", () -> reloadProjects(staleIds));
+        }
+
+        return ids.stream()
+                .map(projects::get)
+                .toList();
+    }
+
+    private List<ProjectView> loadAllProjects(Long generation) {
+        List<Long> ids = projectCacheService.getCachedProjectIds(generation);
+        if (ids == null) {
+            ids = readOnly(projectViewRepository::findAllIds);
+            projectCacheService.cacheProjectIds(generation, ids);
+        }
+
+        Map<Long, ProjectView> projects = new HashMap<>(projectCacheService.getAll(ids));
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !projects.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            log.info("Loading {} of {} projects missing from cache", missingIds.size(), ids.size());
+            for (ProjectView project : readOnly(() -> assemble(projectViewRepository.findRowsByIdIn(missingIds)))) {
+                projectCacheService.cache(project.id(), project);
+                projects.put(project.id(), project);
+            }
+        }
+
+        return ids.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void reloadProjects(List<Long> ids) {
+        for (ProjectView project : readOnly(() -> assemble(projectViewRepository.findRowsByIdIn(ids)))) {
+            projectCacheService.cache(project.id(), project);
+        }
+    }
+
+    private ProjectView loadAndCacheProject(Long id) {
+        return projectSingleFlightService.load("id:" + id, () -> projectCacheService.get(id),
+                () -> projectCacheService.isMissing(id),
+                () -> cacheMetrics.recordLoad(ProjectCacheFamilies.ID, () -> loadProject(id)));
+    }
+
+    private ProjectView loadProject(Long id) {
+        ProjectView project = readOnly(() -> projectViewRepository.findRowById(id)
+                .map(row -> assemble(List.of(row)).getFirst())
+                .orElse(null));
+        if (project == null) {
+            projectCacheService.markMissing(id);
+            return null;
+        }
+
+        projectCacheService.cache(id, project);
+        log.info("Project with ID {} has been cached.", id);
+        return project;
+    }
+
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> query.get());
+    }
+
+    private List<ProjectView> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> positions = IntStream.range(0, ids.size())
+                .boxed()
+                .collect(Collectors.toMap(ids::get, Function.identity()));
+
+        return assemble(projectViewRepository.findRowsByIdIn(ids)).stream()
+                .sorted(Comparator.comparing(project -> positions.get(project.id())))
+                .toList();
+    }
+
+    private List<ProjectView> assemble(List<ProjectRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(ProjectRow::id).toList();
+
+        Map<Long, List<String>> features = projectViewRepository.findFeatures(ids).stream()
+                .collect(Collectors.groupingBy(ProjectValueRow::projectId,
+                        Collectors.mapping(ProjectValueRow::value, Collectors.toList())));
+        Map<Long, List<String>> technologies = projectViewRepository.findTechnologies(ids).stream()
+                .collect(Collectors.groupingBy(ProjectValueRow::projectId,
+                        Collectors.mapping(ProjectValueRow::value, Collectors.toList())));
+        Map<Long, List<ContributorView>> contributors = projectViewRepository.findContributors(ids).stream()
+                .collect(Collectors.groupingBy(ContributorRow::projectId,
+                        Collectors.mapping(ContributorRow::toView, Collectors.toList())));
+        Map<Long, List<ProjectImageView>> images = projectViewRepository.findImages(ids).stream()
+                .collect(Collectors.groupingBy(ProjectImageRow::projectId,
+                        Collectors.mapping(ProjectImageRow::toView, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> ProjectView.of(
+                        row,
+                        features.get(row.id()),
+                        technologies.get(row.id()),
+                        contributors.get(row.id()),
+                        images.get(row.id())
+                ))
+                .toList();
+    }
+
+    private List<ProjectSummaryView> assembleSummaries(List<ProjectSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(ProjectSummaryRow::id).toList();
+
+        Map<Long, List<String>> technologies = projectViewRepository.findTechnologies(ids).stream()
+                .collect(Collectors.groupingBy(ProjectValueRow::projectId,
+                        Collectors.mapping(ProjectValueRow::value, Collectors.toList())));
+        Map<Long, ProjectImageView> coverImages = projectViewRepository.findCoverImages(ids).stream()
+                .collect(Collectors.toMap(ProjectImageRow::projectId, ProjectImageRow::toView, (first, second) -> first));
+
+        return rows.stream()
+                .map(row -> ProjectSummaryView.of(row, technologies.get(row.id()), coverImages.get(row.id())))
+                .toList();
+    }
+}
@@ -3,13 +3,18 @@ package org.noisevisionproductions.portfolio.projectsManagement.service.mainProj
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
+import org.noisevisionproductions.portfolio.cache.utils.TransactionCallbacks;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.exceptions.ProjectNotFoundException;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.FileStorageService;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +31,8 @@ public class ProjectService {
     private final FileStorageService fileStorageService;
     private final ProjectCacheService projectCacheService;
     private final ProjectMapper projectMapper;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectFacetIndex projectFacetIndex;
 
     public Project createProject(ProjectDTO projectDTO) {
         Project project = projectMapper.toEntity(projectDTO);
@@ -37,75 +44,46 @@ public class ProjectService {
 
         initializeProjectCollections(project, "new:");
 
-        projectCacheService.cache(project.getId(), project);
-        projectCacheService.invalidateProjectsList();
+        ProjectView view = ProjectView.fromProject(project);
+        TransactionCallbacks.afterCommit(() -> {
+            projectCacheService.clearMissing(view.id(), view.slug());
+            projectCacheService.cache(view.id(), view);
+            projectCacheService.invalidateProjectIds();
+            projectCacheService.invalidateProjectsList();
+            projectSearchIndex.index(view);
+            projectFacetIndex.index(view);
+        });
 
         return project;
     }
 
     public Project updateProject(Long id, ProjectDTO projectDTO) {
         Project existingProject = getProjectById(id);
+        String previousSlug = existingProject.getSlug();
         projectMapper.updateProjectFromDTO(existingProject, projectDTO);
 
-        Project updatedProject = projectRepository.save(existingProject);
-        projectCacheService.cache(id, updatedProject);
-        projectCacheService.invalidateProjectsList();
+        Project updatedProject = projectRepository.saveAndFlush(existingProject);
+        ProjectView view = ProjectView.fromProject(updatedProject);
+        TransactionCallbacks.afterCommit(() -> {
+            if (previousSlug != null && !previousSlug.equals(view.slug())) {
+                projectCacheService.invalidate(id, previousSlug);
+                projectCacheService.clearMissing(id, view.slug());
+            }
+            projectCacheService.cache(id, view);
+            projectCacheService.invalidateProjectsList();
+            projectSearchIndex.index(view);
+            projectFacetIndex.index(view);
+        });
 
         return updatedProject;
     }
 
-    @Transactional(readOnly = true)
-    public List<Project> getAllProjects() {
-        List<Project> cachedProjects = projectCacheService.getCachedProjectsList();
-        if (cachedProjects != null && !cachedProjects.isEmpty()) {
-            log.info("Returning {} projects from cache.", cachedProjects.size());
-            return cachedProjects;
-        }
-
-        List<Project> projects = projectRepository.findAll();
-
-        projects.forEach(project -> initializeProjectCollections(project, "list:"));
-
-        if (!projects.isEmpty()) {
-            log.info("Caching {} projects", projects.size());
-            projectCacheService.cacheProjectsList(projects);
-        }
-        return projects;
-    }
-
     @Transactional(readOnly = true)
     public Project getProjectById(Long id) {
-        Project cachedProject = projectCacheService.get(id);
-        if (cachedProject != null) {
-            initializeProjectCollections(cachedProject, "cached");
-            return cachedProject;
-        }
-
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + id));
 
         initializeProjectCollections(project, "id:");
-        projectCacheService.cache(id, project);
-        log.info("Project with ID {} has been cached.", id);
-
-        return project;
-    }
-
-    @Transactional(readOnly = true)
-    public Project getProjectBySlug(String slug) {
-        Project project = projectRepository.findBySlug(slug)
-                .orElseThrow(() -> new RuntimeException("Project not found with slug: " + slug));
-
-        initializeProjectCollections(project, "slug:");
-
-        Long projectId = project.getId();
-        Project cachedProject = projectCacheService.get(projectId);
-        if (cachedProject != null) {
-            log.info("Returning project with slug '{}' (ID {}) from cache.", slug, projectId);
-            return cachedProject;
-        }
-
-        projectCacheService.cache(projectId, project);
         return project;
     }
 
@@ -126,14 +104,14 @@ public class ProjectService {
             project.getTechnologies().clear();
 
             projectRepository.delete(project);
-
-            try {
-                projectCacheService.invalidate(id);
+            String slug = project.getSlug();
+            TransactionCallbacks.afterCommit(() -> {
+                projectSearchIndex.remove(id);
+                projectFacetIndex.remove(id);
+                projectCacheService.invalidate(id, slug);
+                projectCacheService.invalidateProjectIds();
                 projectCacheService.invalidateProjectsList();
-            } catch (Exception e) {
-                log.error("Failed to invalidate cache for project: {}", id, e);
-            }
-
+            });
         } catch (Exception e) {
             log.error("Failed to delete project: {}", id, e);
             throw new RuntimeException("Failed to delete project and its resources", e);
@@ -143,10 +121,15 @@ public class ProjectService {
     public Project updateFeatures(Long projectId, List<String> features) {
         Project project = getProjectById(projectId);
         project.setFeatures(features);
-        Project updatedProject = projectRepository.save(project);
-
-        projectCacheService.cache(projectId, updatedProject);
-        projectCacheService.invalidateProjectsList();
+        Project updatedProject = projectRepository.saveAndFlush(project);
+
+        ProjectView view = ProjectView.fromProject(updatedProject);
+        TransactionCallbacks.afterCommit(() -> {
+            projectCacheService.cacheFields(view, ProjectHashCodec.FEATURES);
+            projectCacheService.invalidateProjectsList();
+            projectSearchIndex.index(view);
+            projectFacetIndex.index(view);
+        });
 
         return updatedProject;
     }
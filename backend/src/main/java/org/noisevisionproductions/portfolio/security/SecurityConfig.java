@@ -58,6 +58,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/errors/**").permitAll()
                         .requestMatchers("/api/auth/me").authenticated()
                         .requestMatchers("/api/kafka/**").hasAuthority("ACCESS_KAFKA_DASHBOARD")
+                        .requestMatchers("/api/cache/**").hasAuthority("ACCESS_CACHE_METRICS")
                         .requestMatchers(HttpMethod.POST, "/api/projects/**").hasAuthority("CREATE_PROJECTS")
                         .requestMatchers(HttpMethod.PUT, "/api/projects/**").hasAuthority("EDIT_PROJECTS")
                         .requestMatchers(HttpMethod.DELETE, "/api/projects/**").hasAuthority("DELETE_PROJECTS")
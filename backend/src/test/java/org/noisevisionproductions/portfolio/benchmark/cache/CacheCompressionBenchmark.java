@@ -0,0 +1,93 @@
+package org.noisevisionproductions.portfolio.benchmark.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.serializer.CompressingRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class CacheCompressionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final int[] SIZES = {128, 256, 512, 1024, 2048, 4096, 16384, 65536, 262144, 1048576};
+    private static final double NETWORK_NANOS_PER_BYTE = 8.0;
+
+    private final CompressingRedisSerializer<byte[]> serializer = new CompressingRedisSerializer<>(
+            RedisSerializer.byteArray(), 0, new CacheMetrics(), value -> ProjectCacheFamilies.RESPONSE);
+
+    @Test
+    void findCompressionBreakEven() throws JsonProcessingException {
+        byte[] json = new ObjectMapper().writeValueAsBytes(
+                IntStream.rangeClosed(1, 1000).mapToObj(id -> createProject((long) id)).toList());
+
+        System.out.printf("%10s %10s %8s %14s %14s %14s%n",
+                "raw bytes", "stored", "ratio", "encode ns/op", "decode ns/op", "net saved ns");
+        Integer breakEven = null;
+        for (int size : SIZES) {
+            byte[] value = Arrays.copyOf(json, Math.min(size, json.length));
+            byte[] stored = serializer.serialize(value);
+            assertArrayEquals(value, serializer.deserialize(stored));
+
+            run(value, stored, WARMUP_ITERATIONS);
+            long[] timings = run(value, stored, MEASURED_ITERATIONS);
+            long encodeNanos = timings[0] / MEASURED_ITERATIONS;
+            long decodeNanos = timings[1] / MEASURED_ITERATIONS;
+            long savedNanos = (long) ((value.length - stored.length) * NETWORK_NANOS_PER_BYTE) - encodeNanos - decodeNanos;
+            if (breakEven == null && savedNanos > 0) {
+                breakEven = value.length;
+            }
+
+            System.out.printf("%10d %10d %8.2f %14d %14d %14d%n", value.length, stored.length,
+                    (double) value.length / stored.length, encodeNanos, decodeNanos, savedNanos);
+        }
+        System.out.printf("Compression pays off at 1 Gbit/s from %s bytes%n", breakEven == null ? "-" : breakEven);
+    }
+
+    private long[] run(byte[] value, byte[] stored, int iterations) {
+        long sink = 0;
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long encodeTime = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.deserialize(stored).length;
+        }
+        long decodeTime = System.nanoTime() - decodeStart;
+
+        if (sink == 42) {
+            System.out.println();
+        }
+        return new long[]{encodeTime, decodeTime};
+    }
+
+    private ProjectView createProject(Long id) {
+        return new ProjectView(id, "Portfolio platform " + id, "portfolio-platform-" + id,
+                "A full stack portfolio with project management, image galleries, search and caching. ".repeat(6),
+                "https://github.com/example/portfolio-" + id, ProjectStatus.COMPLETED,
+                new Date(1_700_000_000_000L), new Date(1_690_000_000_000L), new Date(1_705_000_000_000L),
+                new Date(1_710_000_000_000L), 3L,
+                List.of("Project management", "Image galleries", "Full text search", "Faceted filtering"),
+                List.of("Java", "Spring Boot", "PostgreSQL", "Redis", "React"),
+                IntStream.rangeClosed(1, 3).mapToObj(i -> new ContributorView("Contributor " + i, "Developer",
+                        "https://github.com/contributor-" + i)).toList(),
+                IntStream.rangeClosed(1, 4).mapToObj(i -> new ProjectImageView(id * 10 + i,
+                        "https://cdn.example.com/projects/" + id + "/image-" + i + ".png", "Screenshot " + i)).toList());
+    }
+}
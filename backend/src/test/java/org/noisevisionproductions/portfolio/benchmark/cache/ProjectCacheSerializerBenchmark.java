@@ -0,0 +1,107 @@
+package org.noisevisionproductions.portfolio.benchmark.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.config.RecordTypeInfoMixin;
+import org.noisevisionproductions.portfolio.cache.serializer.CacheSerializerType;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectCacheSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    private final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(createObjectMapper());
+
+    @Test
+    void compareProjectSerializers() {
+        ProjectView project = createProject(1L);
+        ProjectViewPage page = new ProjectViewPage(
+                IntStream.rangeClosed(1, 20).mapToObj(id -> createProject((long) id)).toList(), "cursor");
+
+        System.out.printf("%-8s %-12s %10s %14s %14s%n", "format", "value", "bytes", "encode ns/op", "decode ns/op");
+        for (CacheSerializerType type : CacheSerializerType.values()) {
+            RedisSerializer<Object> serializer = type.create(jsonSerializer);
+            report(type, "project", serializer, project);
+            report(type, "page(20)", serializer, page);
+        }
+    }
+
+    private void report(CacheSerializerType type, String label, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        assertEquals(value, serializer.deserialize(bytes));
+
+        run(serializer, value, bytes, WARMUP_ITERATIONS);
+        long[] timings = run(serializer, value, bytes, MEASURED_ITERATIONS);
+
+        System.out.printf("%-8s %-12s %10d %14d %14d%n", type, label, bytes.length,
+                timings[0] / MEASURED_ITERATIONS, timings[1] / MEASURED_ITERATIONS);
+    }
+
+    private long[] run(RedisSerializer<Object> serializer, Object value, byte[] bytes, int iterations) {
+        long sink = 0;
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long encodeTime = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.deserialize(bytes).hashCode();
+        }
+        long decodeTime = System.nanoTime() - decodeStart;
+
+        if (sink == 42) {
+            System.out.println();
+        }
+        return new long[]{encodeTime, decodeTime};
+    }
+
+    private ProjectView createProject(Long id) {
+        return new ProjectView(id, "Portfolio platform " + id, "portfolio-platform-" + id,
+                "A full stack portfolio with project management, image galleries, search and caching. ".repeat(6),
+                "https://github.com/example/portfolio-" + id, ProjectStatus.COMPLETED,
+                new Date(1_700_000_000_000L), new Date(1_690_000_000_000L), new Date(1_705_000_000_000L),
+                new Date(1_710_000_000_000L), 3L,
+                List.of("Project management", "Image galleries", "Full text search", "Faceted filtering",
+                        "Redis caching", "JWT authentication", "Kafka statistics", "Responsive UI"),
+                List.of("Java", "Spring Boot", "Hibernate", "PostgreSQL", "Redis", "Kafka", "React",
+                        "TypeScript", "Docker", "Nginx"),
+                IntStream.rangeClosed(1, 4).mapToObj(i -> new ContributorView("Contributor " + i, "Developer",
+                        "https://github.com/contributor-" + i)).toList(),
+                IntStream.rangeClosed(1, 6).mapToObj(i -> new ProjectImageView(id * 10 + i,
+                        "https://cdn.example.com/projects/" + id + "/image-" + i + ".png", "Screenshot " + i)).toList());
+    }
+
+    private ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.activateDefaultTyping(
+                mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        mapper.addMixIn(ProjectView.class, RecordTypeInfoMixin.class);
+        mapper.addMixIn(ProjectViewPage.class, RecordTypeInfoMixin.class);
+        return mapper;
+    }
+}
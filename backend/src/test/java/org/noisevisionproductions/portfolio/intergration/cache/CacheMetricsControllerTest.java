@@ -0,0 +1,50 @@
+package org.noisevisionproductions.portfolio.intergration.cache;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.intergration.config.KafkaTestConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "cache.backend.type=memory",
+        "spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(KafkaTestConfig.class)
+class CacheMetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(authorities = "ACCESS_CACHE_METRICS")
+    void shouldReturnMetricsWhenAuthorized() throws Exception {
+        mockMvc.perform(get("/api/cache/metrics"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(authorities = "SEND_MESSAGES")
+    void shouldReturnForbiddenForOrdinaryUser() throws Exception {
+        mockMvc.perform(get("/api/cache/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWhenAnonymous() throws Exception {
+        mockMvc.perform(get("/api/cache/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+}
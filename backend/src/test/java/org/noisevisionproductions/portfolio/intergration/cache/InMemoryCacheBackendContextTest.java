@@ -0,0 +1,115 @@
+package org.noisevisionproductions.portfolio.intergration.cache;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.config.RedisConfig;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheTagService;
+import org.noisevisionproductions.portfolio.cache.service.base.InMemoryCacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectLocalCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectResponseCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectSingleFlightService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectTrafficTracker;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.intergration.config.KafkaTestConfig;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "cache.backend.type=memory",
+        "spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration"
+})
+@ActiveProfiles("test")
+@Import(KafkaTestConfig.class)
+class InMemoryCacheBackendContextTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CacheBackend cacheBackend;
+
+    @Autowired
+    private ProjectVersionService projectVersionService;
+
+    @Autowired
+    private ProjectResponseCacheService projectResponseCacheService;
+
+    @Autowired
+    private ProjectSingleFlightService projectSingleFlightService;
+
+    @Autowired
+    private ProjectLocalCacheService projectLocalCacheService;
+
+    @Autowired
+    private ProjectTrafficTracker projectTrafficTracker;
+
+    @Test
+    void shouldStartWithoutAnyRedisBeans() {
+        assertThat(cacheBackend).isInstanceOf(InMemoryCacheBackend.class);
+        assertThat(applicationContext.getBeanNamesForType(RedisConnectionFactory.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(RedisTemplate.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(RedisMessageListenerContainer.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(CacheTagService.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(RedisConfig.class)).isEmpty();
+    }
+
+    @Test
+    void shouldBumpProjectsVersionInMemory() {
+        long before = projectVersionService.current().version();
+
+        projectVersionService.bump();
+
+        assertThat(projectVersionService.current().version()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void shouldServeCachedResponsesInMemory() {
+        Project project = new Project();
+        project.setId(42L);
+        project.setName("Context Project");
+        project.setSlug("context-project");
+
+        byte[] json = projectResponseCacheService.cacheProject(ProjectView.fromProject(project));
+
+        assertThat(projectResponseCacheService.getProject(42L)).isEqualTo(json);
+        assertThat(projectResponseCacheService.getProjectBySlug("context-project")).isEqualTo(json);
+    }
+
+    @Test
+    void shouldLoadThroughSingleFlightInMemory() {
+        assertThat(projectSingleFlightService.load("context", () -> null, () -> "loaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    void shouldEvictLocalEntriesOnBroadcastInMemory() {
+        projectLocalCacheService.putLocal("context:key", "value");
+
+        projectLocalCacheService.onMessage("other-node|context:key");
+
+        assertThat(projectLocalCacheService.get("context:key")).isNull();
+    }
+
+    @Test
+    void shouldRankTrafficInMemory() {
+        projectTrafficTracker.record(7L);
+        projectTrafficTracker.record(7L);
+        projectTrafficTracker.record(8L);
+
+        projectTrafficTracker.flush();
+
+        assertThat(projectTrafficTracker.top(2)).containsExactly(7L, 8L);
+    }
+}
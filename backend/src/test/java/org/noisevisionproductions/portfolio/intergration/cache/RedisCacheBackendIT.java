@@ -0,0 +1,67 @@
+package org.noisevisionproductions.portfolio.intergration.cache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheTagService;
+import org.noisevisionproductions.portfolio.cache.service.base.RedisCacheBackend;
+import org.noisevisionproductions.portfolio.unit.cache.service.base.CacheBackendContractTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+
+class RedisCacheBackendIT extends CacheBackendContractTest {
+
+    private static final GenericContainer<?> REDIS_CONTAINER =
+            new GenericContainer<>("redis:7.2-alpine")
+                    .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() {
+        REDIS_CONTAINER.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getFirstMappedPort()));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        REDIS_CONTAINER.stop();
+    }
+
+    @Override
+    protected CacheBackend createBackend() {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        RedisTemplate<String, byte[]> byteArrayRedisTemplate = new RedisTemplate<>();
+        byteArrayRedisTemplate.setConnectionFactory(connectionFactory);
+        byteArrayRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        byteArrayRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        byteArrayRedisTemplate.afterPropertiesSet();
+
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        return new RedisCacheBackend(redisTemplate, byteArrayRedisTemplate, stringRedisTemplate,
+                new CacheTagService(stringRedisTemplate), listenerContainer);
+    }
+}
@@ -13,6 +13,7 @@ import org.noisevisionproductions.portfolio.intergration.config.TestRedisConfigu
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectImageDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -172,9 +173,9 @@ public class ProjectCreationIT extends BaseIntegrationTest {
         assertThat(retrievedProject.getStartDate()).isNotNull();
         assertThat(retrievedProject.getEndDate()).isNotNull();
 
-        Project cachedProject = projectCacheService.get(createdProject.getId());
+        ProjectView cachedProject = projectCacheService.get(createdProject.getId());
         assertThat(cachedProject).isNotNull();
-        assertThat(cachedProject.getName()).isEqualTo(projectDTO.getName());
+        assertThat(cachedProject.name()).isEqualTo(projectDTO.getName());
     }
 
     @Test
@@ -215,10 +216,10 @@ public class ProjectCreationIT extends BaseIntegrationTest {
         assertThat(updatedProject.getDescription()).isEqualTo("Updated Description");
         assertThat(updatedProject.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
 
-        Project cachedProject = projectCacheService.get(updatedProject.getId());
+        ProjectView cachedProject = projectCacheService.get(updatedProject.getId());
         assertThat(cachedProject).isNotNull();
-        assertThat(cachedProject.getName()).isEqualTo("Updated Project Name");
-        assertThat(cachedProject.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+        assertThat(cachedProject.name()).isEqualTo("Updated Project Name");
+        assertThat(cachedProject.status()).isEqualTo(ProjectStatus.COMPLETED);
     }
 
     @Test
@@ -292,9 +293,9 @@ public class ProjectCreationIT extends BaseIntegrationTest {
         );
         assertThat(finalProject.getProjectImages()).isEmpty();
 
-        Project cachedProject = projectCacheService.get(finalProject.getId());
+        ProjectView cachedProject = projectCacheService.get(finalProject.getId());
         assertThat(cachedProject).isNotNull();
-        assertThat(cachedProject.getProjectImages()).isEmpty();
+        assertThat(cachedProject.projectImages()).isEmpty();
     }
 
     @Test
@@ -321,7 +322,7 @@ public class ProjectCreationIT extends BaseIntegrationTest {
         mockMvc.perform(get("/api/projects/{id}", createdProject.getId()))
                 .andExpect(status().isNotFound());
 
-        Project cachedProject = projectCacheService.get(createdProject.getId());
+        ProjectView cachedProject = projectCacheService.get(createdProject.getId());
         assertThat(cachedProject).isNull();
 
         MvcResult listResult = mockMvc.perform(get("/api/projects"))
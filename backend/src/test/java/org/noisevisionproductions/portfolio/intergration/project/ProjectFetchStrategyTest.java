@@ -0,0 +1,131 @@
+package org.noisevisionproductions.portfolio.intergration.project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Contributor;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryRow;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProjectFetchStrategyTest {
+
+    private static final long EXPECTED_STATEMENTS = 4;
+
+    @Autowired
+    private ProjectViewRepository projectViewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should load the project list with the same number of statements regardless of catalog size")
+    void listLoad_ShouldUseConstantNumberOfStatements() {
+        persistProjects("small", 3);
+        long smallCatalogStatements = loadListAndCountStatements(3);
+
+        persistProjects("large", 22);
+        long largeCatalogStatements = loadListAndCountStatements(25);
+
+        assertThat(largeCatalogStatements).isEqualTo(smallCatalogStatements);
+    }
+
+    @Test
+    @DisplayName("Should read the projection rows for every collection in one statement each")
+    void projectViewRepository_ShouldLoadCollectionRowsPerProject() {
+        persistProjects("view", 3);
+        List<Long> ids = projectViewRepository.findAllIds();
+        statistics.clear();
+
+        assertThat(projectViewRepository.findFeatures(ids)).hasSize(6);
+        assertThat(projectViewRepository.findTechnologies(ids)).hasSize(6);
+        assertThat(projectViewRepository.findContributors(ids)).hasSize(3);
+        assertThat(projectViewRepository.findImages(ids)).hasSize(6)
+                .allSatisfy(image -> assertThat(ids).contains(image.projectId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Should read summary rows and only the first image of each project")
+    void projectViewRepository_ShouldLoadSummaryRowsWithCoverImages() {
+        persistProjects("summary", 3);
+        statistics.clear();
+
+        List<ProjectSummaryRow> rows = projectViewRepository.findAllSummaryRows();
+        List<Long> ids = rows.stream().map(ProjectSummaryRow::id).toList();
+        List<ProjectImageRow> covers = projectViewRepository.findCoverImages(ids);
+
+        assertThat(rows).hasSize(3);
+        assertThat(covers).hasSize(3)
+                .allSatisfy(cover -> assertThat(cover.imageUrl()).endsWith("-0.png"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private long loadListAndCountStatements(int expectedProjects) {
+        List<Long> ids = projectViewRepository.findAllIds();
+        statistics.clear();
+
+        assertThat(projectViewRepository.findRowsByIdIn(ids)).hasSize(expectedProjects);
+        assertThat(projectViewRepository.findFeatures(ids)).hasSize(expectedProjects * 2);
+        assertThat(projectViewRepository.findTechnologies(ids)).hasSize(expectedProjects * 2);
+        assertThat(projectViewRepository.findContributors(ids)).hasSize(expectedProjects);
+        assertThat(projectViewRepository.findImages(ids)).hasSize(expectedProjects * 2);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistProjects(String prefix, int count) {
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setName(prefix + " " + i);
+            project.setSlug(prefix + "-" + i);
+            project.setStatus(ProjectStatus.IN_PROGRESS);
+            project.setFeatures(List.of("Feature A", "Feature B"));
+            project.setTechnologies(List.of("Java", "Spring"));
+
+            Contributor contributor = new Contributor();
+            contributor.setName("Contributor " + i);
+            contributor.setRole("Developer");
+            project.getContributors().add(contributor);
+
+            for (int j = 0; j < 2; j++) {
+                ImageFromProject image = new ImageFromProject();
+                image.setImageUrl("/uploads/" + prefix + i + "-" + j + ".png");
+                image.setProject(project);
+                project.getProjectImages().add(image);
+            }
+
+            entityManager.persist(project);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
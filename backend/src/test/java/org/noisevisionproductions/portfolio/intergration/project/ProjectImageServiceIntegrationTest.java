@@ -2,6 +2,7 @@ package org.noisevisionproductions.portfolio.intergration.project;
 
 import org.junit.jupiter.api.*;
 import org.mockito.MockitoAnnotations;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
 import org.noisevisionproductions.portfolio.intergration.config.KafkaTestConfig;
 import org.noisevisionproductions.portfolio.intergration.config.TestRedisConfiguration;
@@ -9,6 +10,7 @@ import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectImageDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.FileStorageService;
@@ -95,6 +97,6 @@ public class ProjectImageServiceIntegrationTest {
                 .extracting(ImageFromProject::getImageUrl)
                 .containsExactly(TEST_IMAGE_PATH);
 
-        verify(projectCacheService, times(2)).cache(eq(updatedProject.getId()), any(Project.class));
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.PROJECT_IMAGES));
     }
 }
\ No newline at end of file
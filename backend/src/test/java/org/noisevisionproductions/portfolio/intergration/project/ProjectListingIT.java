@@ -12,6 +12,7 @@ import org.noisevisionproductions.portfolio.intergration.config.TestRedisConfigu
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -28,7 +29,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -59,12 +61,13 @@ public class ProjectListingIT extends BaseIntegrationTest {
     void setUp() {
         projectRepository.deleteAll();
         reset(projectCacheService);
+        when(projectCacheService.currentGeneration()).thenReturn(System.nanoTime());
     }
 
     @Test
     @DisplayName("Should return projects from database when cache is empty")
     void shouldListAllProjectsFromDatabase() throws Exception {
-        when(projectCacheService.getCachedProjectsList()).thenReturn(null);
+        when(projectCacheService.getCachedProjectIds(any())).thenReturn(null);
 
         List<Project> projects = Arrays.asList(
                 createTestProject("Project 1", "project-1"),
@@ -88,23 +91,23 @@ public class ProjectListingIT extends BaseIntegrationTest {
                 .extracting(ProjectDTO::getName)
                 .containsExactlyInAnyOrder("Project 1", "Project 2");
 
-        verify(projectCacheService).getCachedProjectsList();
-        verify(projectCacheService).cacheProjectsList(argThat(list ->
-                list.size() == 2 &&
-                        list.stream()
-                                .map(Project::getName)
-                                .collect(Collectors.toSet())
-                                .containsAll(Arrays.asList("Project 1", "Project 2"))));
+        verify(projectCacheService, times(2)).getCachedProjectIds(any());
+        verify(projectCacheService).cacheProjectIds(any(), eq(savedProjects.stream().map(Project::getId).sorted().toList()));
+        verify(projectCacheService, times(2)).cache(any(), argThat(project ->
+                Set.of("Project 1", "Project 2").contains(project.name())));
     }
 
     @Test
     @DisplayName("Should return projects from cache when available")
     void shouldListAllProjectsFromCache() throws Exception {
-        List<Project> cachedProjects = Arrays.asList(
-                createTestProject("Cached Project 1", "cached-1"),
-                createTestProject("Cached Project 2", "cached-2")
-        );
-        when(projectCacheService.getCachedProjectsList()).thenReturn(cachedProjects);
+        Project first = createTestProject("Cached Project 1", "cached-1");
+        first.setId(101L);
+        Project second = createTestProject("Cached Project 2", "cached-2");
+        second.setId(102L);
+        when(projectCacheService.getCachedProjectIds(any())).thenReturn(List.of(101L, 102L));
+        when(projectCacheService.getAll(eq(List.of(101L, 102L)), any())).thenReturn(Map.of(
+                101L, ProjectView.fromProject(first),
+                102L, ProjectView.fromProject(second)));
 
         List<Project> dbProjects = Arrays.asList(
                 createTestProject("DB Project 1", "db-1"),
@@ -129,8 +132,9 @@ public class ProjectListingIT extends BaseIntegrationTest {
                 .containsExactlyInAnyOrder("Cached Project 1", "Cached Project 2")
                 .doesNotContain("DB Project 1", "DB Project 2");
 
-        verify(projectCacheService).getCachedProjectsList();
-        verify(projectCacheService, never()).cacheProjectsList(any());
+        verify(projectCacheService).getCachedProjectIds(any());
+        verify(projectCacheService, never()).cacheProjectIds(any(), any());
+        verify(projectCacheService, never()).cache(any(), any());
     }
 
     private Project createTestProject(String name, String slug) {
@@ -0,0 +1,81 @@
+package org.noisevisionproductions.portfolio.intergration.project;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectRow;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ProjectPaginationTest {
+
+    @Autowired
+    private ProjectViewRepository projectViewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Project> projects = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Date sharedCreatedAt = new Date(5_000);
+        projects.add(persistProject("oldest", new Date(1_000)));
+        projects.add(persistProject("tie-a", sharedCreatedAt));
+        projects.add(persistProject("tie-b", sharedCreatedAt));
+        projects.add(persistProject("newest", new Date(9_000)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should walk every project exactly once, newest first, breaking createdAt ties by id")
+    void keysetPages_ShouldCoverAllProjectsInOrder() {
+        List<Long> firstPage = projectViewRepository.findFirstPageIds(Limit.of(2));
+        ProjectRow lastOnFirstPage = projectViewRepository.findRowById(firstPage.getLast()).orElseThrow();
+        List<Long> secondPage = projectViewRepository.findPageIdsAfter(
+                lastOnFirstPage.createdAt(), lastOnFirstPage.id(), Limit.of(2));
+
+        assertThat(firstPage).containsExactly(projects.get(3).getId(), projects.get(2).getId());
+        assertThat(secondPage).containsExactly(projects.get(1).getId(), projects.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should load rows only for the requested ids")
+    void findRowsByIdIn_ShouldReturnRequestedProjects() {
+        List<Long> ids = List.of(projects.get(0).getId(), projects.get(3).getId());
+
+        List<ProjectRow> result = projectViewRepository.findRowsByIdIn(ids);
+
+        assertThat(result).extracting(ProjectRow::slug).containsExactlyInAnyOrder("oldest", "newest");
+    }
+
+    private Project persistProject(String slug, Date createdAt) {
+        Project project = new Project();
+        project.setName(slug);
+        project.setSlug(slug);
+        project.setStatus(ProjectStatus.COMPLETED);
+        entityManager.persist(project);
+        entityManager.flush();
+
+        entityManager.createQuery("UPDATE Project p SET p.createdAt = :createdAt WHERE p.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", project.getId())
+                .executeUpdate();
+        return project;
+    }
+}
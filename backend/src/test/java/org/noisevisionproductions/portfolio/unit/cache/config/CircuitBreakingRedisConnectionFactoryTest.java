@@ -0,0 +1,133 @@
+package org.noisevisionproductions.portfolio.unit.cache.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.config.CircuitBreakingRedisConnectionFactory;
+import org.noisevisionproductions.portfolio.cache.service.base.CircuitBreaker;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingRedisConnectionFactoryTest {
+    private static final byte[] KEY = "key".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RedisConnectionFactory delegate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private CircuitBreaker circuitBreaker;
+    private CircuitBreakingRedisConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(2);
+        connectionFactory = new CircuitBreakingRedisConnectionFactory(delegate, circuitBreaker);
+    }
+
+    @Test
+    void shouldOpenAfterTimeoutsAndFailFastWithoutTouchingRedis() {
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(stringCommands.get(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        for (int i = 0; i < 2; i++) {
+            RedisConnection guarded = connectionFactory.getConnection();
+            assertThrows(QueryTimeoutException.class, () -> guarded.stringCommands().get(KEY));
+            guarded.close();
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, connectionFactory.getState());
+        assertThrows(CircuitBreakingRedisConnectionFactory.CircuitOpenException.class, connectionFactory::getConnection);
+        verify(delegate, times(2)).getConnection();
+    }
+
+    @Test
+    void shouldResetFailureCountAfterSuccessfulCommand() {
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(stringCommands.get(any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(KEY)
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        RedisConnection guarded = connectionFactory.getConnection();
+        assertThrows(QueryTimeoutException.class, () -> guarded.stringCommands().get(KEY));
+        assertArrayEquals(KEY, guarded.stringCommands().get(KEY));
+        assertThrows(QueryTimeoutException.class, () -> guarded.stringCommands().get(KEY));
+
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    void shouldCountConnectionFailures() {
+        when(delegate.getConnection()).thenThrow(new RedisConnectionFailureException("refused"));
+
+        assertThrows(RedisConnectionFailureException.class, connectionFactory::getConnection);
+        assertThrows(RedisConnectionFailureException.class, connectionFactory::getConnection);
+
+        assertFalse(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    void shouldNotCountCommandErrors() {
+        when(delegate.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(stringCommands.get(any())).thenThrow(new RedisSystemException("WRONGTYPE", null));
+
+        for (int i = 0; i < 3; i++) {
+            RedisConnection guarded = connectionFactory.getConnection();
+            assertThrows(RedisSystemException.class, () -> guarded.stringCommands().get(KEY));
+        }
+
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    void shouldCloseCircuitWhenProbeSucceeds() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        when(delegate.getConnection()).thenReturn(connection);
+
+        connectionFactory.probe();
+
+        verify(connection).ping();
+        verify(connection).close();
+        assertEquals(CircuitBreaker.State.CLOSED, connectionFactory.getState());
+    }
+
+    @Test
+    void shouldStayOpenWhenProbeFails() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        when(delegate.getConnection()).thenThrow(new RedisConnectionFailureException("refused"));
+
+        connectionFactory.probe();
+
+        assertEquals(CircuitBreaker.State.OPEN, connectionFactory.getState());
+    }
+
+    @Test
+    void shouldNotProbeWhileClosed() {
+        connectionFactory.probe();
+
+        verifyNoInteractions(delegate);
+    }
+}
@@ -1,19 +1,34 @@
 package org.noisevisionproductions.portfolio.unit.cache.config;
 
+import io.lettuce.core.ClientOptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.config.CacheSerializationProperties;
+import org.noisevisionproductions.portfolio.cache.config.CircuitBreakingRedisConnectionFactory;
 import org.noisevisionproductions.portfolio.cache.config.RedisConfig;
+import org.noisevisionproductions.portfolio.cache.config.RedisResilienceProperties;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.serializer.CacheSerializerType;
+import org.noisevisionproductions.portfolio.cache.serializer.CompressingRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.serializer.MeteredRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectBinaryRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.service.base.CircuitBreaker;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class RedisConfigTest {
@@ -32,7 +47,7 @@ class RedisConfigTest {
 
     @Test
     void redisConnectionFactory_shouldCreateRedisConnectionFactory() {
-        LettuceConnectionFactory connectionFactory = redisConfig.redisConnectionFactory();
+        LettuceConnectionFactory connectionFactory = redisConfig.lettuceConnectionFactory(new RedisResilienceProperties());
         RedisStandaloneConfiguration configuration = (RedisStandaloneConfiguration) ReflectionTestUtils.getField(connectionFactory, "configuration");
 
         assertNotNull(connectionFactory);
@@ -43,14 +58,68 @@ class RedisConfigTest {
         }
     }
 
+    @Test
+    void lettuceConnectionFactory_ShouldUseShortCommandAndConnectTimeouts() {
+        RedisResilienceProperties properties = new RedisResilienceProperties();
+        properties.setCommandTimeout(Duration.ofMillis(100));
+
+        LettuceClientConfiguration clientConfiguration = redisConfig.lettuceConnectionFactory(properties).getClientConfiguration();
+
+        assertEquals(Duration.ofMillis(100), clientConfiguration.getCommandTimeout());
+        ClientOptions clientOptions = clientConfiguration.getClientOptions().orElseThrow();
+        assertEquals(Duration.ofMillis(500), clientOptions.getSocketOptions().getConnectTimeout());
+        assertEquals(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS, clientOptions.getDisconnectedBehavior());
+    }
+
+    @Test
+    void redisConnectionFactory_ShouldWrapLettuceFactoryInClosedCircuitBreaker() {
+        CircuitBreakingRedisConnectionFactory connectionFactory = redisConfig.redisConnectionFactory(
+                mock(LettuceConnectionFactory.class), new RedisResilienceProperties());
+
+        assertEquals(CircuitBreaker.State.CLOSED, connectionFactory.getState());
+    }
+
     @Test
     void redisTemplate_ShouldCreateRedisTemplate() {
-        RedisTemplate<String, Object> template = redisConfig.redisTemplate();
+        RedisTemplate<String, Object> template = redisConfig.redisTemplate(mock(RedisConnectionFactory.class), new CacheSerializationProperties(), new CacheMetrics());
 
         assertNotNull(template);
         assertInstanceOf(StringRedisSerializer.class, template.getKeySerializer());
-        assertInstanceOf(GenericJackson2JsonRedisSerializer.class, template.getValueSerializer());
+        MeteredRedisSerializer valueSerializer = assertInstanceOf(MeteredRedisSerializer.class, template.getValueSerializer());
+        CompressingRedisSerializer<?> compressing = assertInstanceOf(CompressingRedisSerializer.class, valueSerializer.getDelegate());
+        assertInstanceOf(ProjectBinaryRedisSerializer.class, compressing.getDelegate());
         assertInstanceOf(StringRedisSerializer.class, template.getHashKeySerializer());
-        assertInstanceOf(GenericJackson2JsonRedisSerializer.class, template.getHashValueSerializer());
+        assertSame(valueSerializer, template.getHashValueSerializer());
+    }
+
+    @Test
+    void redisTemplate_ShouldUseJsonSerializerWhenSelected() {
+        CacheSerializationProperties properties = new CacheSerializationProperties();
+        properties.setProject(CacheSerializerType.JSON);
+
+        RedisTemplate<String, Object> template = redisConfig.redisTemplate(mock(RedisConnectionFactory.class), properties, new CacheMetrics());
+
+        MeteredRedisSerializer valueSerializer = assertInstanceOf(MeteredRedisSerializer.class, template.getValueSerializer());
+        CompressingRedisSerializer<?> compressing = assertInstanceOf(CompressingRedisSerializer.class, valueSerializer.getDelegate());
+        assertInstanceOf(GenericJackson2JsonRedisSerializer.class, compressing.getDelegate());
+    }
+
+    @Test
+    void redisTemplate_ShouldSkipCompressionWhenDisabled() {
+        CacheSerializationProperties properties = new CacheSerializationProperties();
+        properties.setCompression(false);
+
+        RedisTemplate<String, Object> template = redisConfig.redisTemplate(mock(RedisConnectionFactory.class), properties, new CacheMetrics());
+
+        MeteredRedisSerializer valueSerializer = assertInstanceOf(MeteredRedisSerializer.class, template.getValueSerializer());
+        assertInstanceOf(ProjectBinaryRedisSerializer.class, valueSerializer.getDelegate());
+    }
+
+    @Test
+    void byteArrayRedisTemplate_ShouldCompressRenderedResponses() {
+        RedisTemplate<String, byte[]> template = redisConfig.byteArrayRedisTemplate(mock(RedisConnectionFactory.class),
+                new CacheSerializationProperties(), new CacheMetrics());
+
+        assertInstanceOf(CompressingRedisSerializer.class, template.getValueSerializer());
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package org.noisevisionproductions.portfolio.unit.cache.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheMetricsTest {
+
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+
+    @Test
+    void shouldCountHitsMissesAndEvictionsPerFamily() {
+        cacheMetrics.hit("project:id");
+        cacheMetrics.hit("project:id", 2);
+        cacheMetrics.miss("project:slug");
+        cacheMetrics.miss("project:slug", 0);
+        cacheMetrics.eviction("project:id");
+
+        assertEquals(3, cacheMetrics.hits("project:id"));
+        assertEquals(0, cacheMetrics.misses("project:id"));
+        assertEquals(1, cacheMetrics.misses("project:slug"));
+        assertEquals(1, cacheMetrics.evictions("project:id"));
+        assertEquals(0, cacheMetrics.hits("project:all"));
+    }
+
+    @Test
+    void shouldRecordLoadEvenWhenLoaderThrows() {
+        assertEquals("value", cacheMetrics.recordLoad("project:id", () -> "value"));
+        assertThrows(IllegalStateException.class, () -> cacheMetrics.recordLoad("project:id", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(2, cacheMetrics.loads("project:id"));
+    }
+
+    @Test
+    void shouldExposePrometheusTextWithFamilyLabels() {
+        cacheMetrics.hit("project:id");
+        cacheMetrics.miss("project:all");
+        cacheMetrics.recordLoad("project:all", () -> null);
+        cacheMetrics.recordSerialization("project:id", CacheMetrics.DESERIALIZE, 2_000_000_000L);
+
+        String scrape = cacheMetrics.scrape();
+
+        assertTrue(scrape.contains("# TYPE cache_hits_total counter\n"));
+        assertTrue(scrape.contains("cache_hits_total{family=\"project:id\"} 1\n"));
+        assertTrue(scrape.contains("cache_misses_total{family=\"project:all\"} 1\n"));
+        assertTrue(scrape.contains("cache_load_seconds_count{family=\"project:all\"} 1\n"));
+        assertTrue(scrape.contains("cache_serialization_seconds_sum{family=\"project:id\",operation=\"deserialize\"} 2.0\n"));
+        assertFalse(scrape.contains("operation=\"serialize\""));
+    }
+
+    @Test
+    void shouldExposeCumulativeValueSizeBuckets() {
+        cacheMetrics.recordValueSize("project:page", 100);
+        cacheMetrics.recordValueSize("project:page", 2000);
+        cacheMetrics.recordValueSize("project:page", 5_000_000);
+
+        String scrape = cacheMetrics.scrape();
+
+        assertTrue(scrape.contains("cache_value_size_bytes_bucket{family=\"project:page\",le=\"256\"} 1\n"));
+        assertTrue(scrape.contains("cache_value_size_bytes_bucket{family=\"project:page\",le=\"4096\"} 2\n"));
+        assertTrue(scrape.contains("cache_value_size_bytes_bucket{family=\"project:page\",le=\"1048576\"} 2\n"));
+        assertTrue(scrape.contains("cache_value_size_bytes_bucket{family=\"project:page\",le=\"+Inf\"} 3\n"));
+        assertTrue(scrape.contains("cache_value_size_bytes_sum{family=\"project:page\"} 5002100\n"));
+    }
+}
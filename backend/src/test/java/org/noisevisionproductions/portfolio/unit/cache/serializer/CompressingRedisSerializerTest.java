@@ -0,0 +1,83 @@
+package org.noisevisionproductions.portfolio.unit.cache.serializer;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.serializer.CompressingRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressingRedisSerializerTest {
+
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+    private final CompressingRedisSerializer<byte[]> serializer = new CompressingRedisSerializer<>(
+            RedisSerializer.byteArray(), 1024, cacheMetrics, value -> ProjectCacheFamilies.RESPONSE);
+
+    @Test
+    void shouldStoreValuesBelowThresholdUnchanged() {
+        byte[] value = json(1000);
+
+        assertArrayEquals(value, serializer.serialize(value));
+        assertArrayEquals(value, serializer.deserialize(value));
+        assertFalse(cacheMetrics.scrape().contains("cache_compression_seconds_count"));
+    }
+
+    @Test
+    void shouldCompressLargeValuesAndReadThemBack() {
+        byte[] value = json(64 * 1024);
+
+        byte[] stored = serializer.serialize(value);
+
+        assertTrue(stored.length < value.length / 4);
+        assertArrayEquals(value, serializer.deserialize(stored));
+        String scrape = cacheMetrics.scrape();
+        assertTrue(scrape.contains("cache_compression_seconds_count{family=\"project:response\",operation=\"compress\"} 1\n"));
+        assertTrue(scrape.contains("cache_compression_seconds_count{family=\"project:response\",operation=\"decompress\"} 1\n"));
+        assertTrue(scrape.contains("cache_compression_input_bytes_total{family=\"project:response\"} " + value.length + "\n"));
+        assertTrue(scrape.contains("cache_compression_output_bytes_total{family=\"project:response\"} " + stored.length + "\n"));
+    }
+
+    @Test
+    void shouldReadValuesWrittenBeforeCompressionWasEnabled() {
+        byte[] legacy = json(64 * 1024);
+
+        assertArrayEquals(legacy, serializer.deserialize(legacy));
+    }
+
+    @Test
+    void shouldKeepIncompressibleValuesUncompressed() {
+        byte[] value = new byte[4096];
+        new Random(42).nextBytes(value);
+        value[0] = '{';
+
+        assertArrayEquals(value, serializer.serialize(value));
+    }
+
+    @Test
+    void shouldRejectTruncatedCompressedValue() {
+        byte[] stored = serializer.serialize(json(64 * 1024));
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(stored, stored.length / 2)));
+    }
+
+    @Test
+    void shouldPassNullThroughToDelegate() {
+        assertNull(serializer.deserialize(null));
+        assertEquals("", cacheMetrics.scrape().replaceAll("(?m)^#.*\\n", ""));
+    }
+
+    private byte[] json(int length) {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 1; json.length() < length; id++) {
+            json.append("{\"id\":").append(id).append(",\"name\":\"Portfolio ").append(id)
+                    .append("\",\"description\":\"A full stack portfolio with caching and search.\"},");
+        }
+        return json.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+}
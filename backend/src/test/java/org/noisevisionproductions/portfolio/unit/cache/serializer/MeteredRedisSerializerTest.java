@@ -0,0 +1,34 @@
+package org.noisevisionproductions.portfolio.unit.cache.serializer;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.serializer.MeteredRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredRedisSerializerTest {
+
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+    private final MeteredRedisSerializer serializer =
+            new MeteredRedisSerializer(RedisSerializer.java(), cacheMetrics, ProjectCacheFamilies::ofValue);
+
+    @Test
+    void shouldDelegateAndRecordTimingAndSizeByValueFamily() {
+        byte[] bytes = serializer.serialize(42L);
+
+        assertEquals(42L, serializer.deserialize(bytes));
+        String scrape = cacheMetrics.scrape();
+        assertTrue(scrape.contains("cache_serialization_seconds_count{family=\"project:slug\",operation=\"serialize\"} 1\n"));
+        assertTrue(scrape.contains("cache_serialization_seconds_count{family=\"project:slug\",operation=\"deserialize\"} 1\n"));
+        assertTrue(scrape.contains("cache_value_size_bytes_sum{family=\"project:slug\"} " + bytes.length + "\n"));
+    }
+
+    @Test
+    void shouldSkipMetricsForNullValues() {
+        assertNull(serializer.deserialize(null));
+
+        assertEquals("", cacheMetrics.scrape().replaceAll("(?m)^#.*\\n", ""));
+    }
+}
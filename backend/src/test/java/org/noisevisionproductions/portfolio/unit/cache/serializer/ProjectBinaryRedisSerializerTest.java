@@ -0,0 +1,141 @@
+package org.noisevisionproductions.portfolio.unit.cache.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.config.RecordTypeInfoMixin;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.serializer.CacheSerializerType;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectBinaryRedisSerializer;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectBinaryRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(createObjectMapper());
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+    private final ProjectBinaryRedisSerializer serializer = new ProjectBinaryRedisSerializer(jsonSerializer, cacheMetrics);
+
+    @Test
+    void shouldRoundTripProjectWithAllFields() {
+        ProjectView project = createProject(1L);
+
+        assertEquals(project, serializer.deserialize(serializer.serialize(project)));
+    }
+
+    @Test
+    void shouldRoundTripProjectWithNullFields() {
+        ProjectView project = new ProjectView(2L, "Żółw", null, null, null, null,
+                null, null, null, null, 0L, null, null, null, null);
+
+        assertEquals(project, serializer.deserialize(serializer.serialize(project)));
+    }
+
+    @Test
+    void shouldRoundTripProjectsPage() {
+        ProjectViewPage page = new ProjectViewPage(List.of(createProject(1L), createProject(2L)), "cursor");
+
+        assertEquals(page, serializer.deserialize(serializer.serialize(page)));
+    }
+
+    @Test
+    void shouldRoundTripCacheEntryWithSoftExpiry() {
+        CacheEntry<ProjectView> entry = new CacheEntry<>(createProject(1L), 1_700_000_000_000L);
+
+        assertEquals(entry, serializer.deserialize(serializer.serialize(entry)));
+    }
+
+    @Test
+    void shouldRoundTripIdsAsLongs() {
+        assertEquals(42L, serializer.deserialize(serializer.serialize(42)));
+        assertEquals(-7L, serializer.deserialize(serializer.serialize(-7L)));
+    }
+
+    @Test
+    void shouldDelegateUnknownTypesToFallback() {
+        assertEquals("plain", serializer.deserialize(serializer.serialize("plain")));
+    }
+
+    @Test
+    void shouldReadValuesWrittenByJsonSerializer() {
+        ProjectView project = createProject(1L);
+
+        assertEquals(project, serializer.deserialize(jsonSerializer.serialize(project)));
+    }
+
+    @Test
+    void shouldWriteSmallerPayloadThanJson() {
+        ProjectView project = createProject(1L);
+
+        assertTrue(serializer.serialize(project).length * 2 < jsonSerializer.serialize(project).length);
+    }
+
+    @Test
+    void shouldTreatUnsupportedSchemaVersionAsMiss() {
+        byte[] bytes = serializer.serialize(createProject(1L));
+        bytes[1] = 99;
+
+        assertNull(serializer.deserialize(bytes));
+        assertEquals(1, cacheMetrics.incompatibleValues(ProjectCacheFamilies.ID));
+    }
+
+    @Test
+    void shouldRejectTruncatedPayload() {
+        byte[] bytes = serializer.serialize(createProject(1L));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+    }
+
+    @Test
+    void shouldTreatNullAndEmptyAsMissing() {
+        assertEquals(0, serializer.serialize(null).length);
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+
+    @Test
+    void shouldSelectSerializerByType() {
+        RedisSerializer<Object> json = CacheSerializerType.JSON.create(jsonSerializer);
+
+        assertSame(jsonSerializer, json);
+        assertInstanceOf(ProjectBinaryRedisSerializer.class, CacheSerializerType.BINARY.create(jsonSerializer));
+    }
+
+    private ProjectView createProject(Long id) {
+        return new ProjectView(id, "Portfolio", "portfolio-" + id, "Personal portfolio with Polish text: zażółć gęślą jaźń",
+                "https://github.com/example/portfolio", ProjectStatus.COMPLETED,
+                new Date(1_700_000_000_000L), new Date(1_690_000_000_000L), null, new Date(1_710_000_000_000L), 4L,
+                List.of("Projects", "Search"), List.of("Java", "Spring", "Redis"),
+                List.of(new ContributorView("Jan", "Developer", "https://github.com/jan")),
+                List.of(new ProjectImageView(5L, "https://cdn.example.com/1.png", null)));
+    }
+
+    private ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.activateDefaultTyping(
+                mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        mapper.addMixIn(ProjectView.class, RecordTypeInfoMixin.class);
+        mapper.addMixIn(ProjectViewPage.class, RecordTypeInfoMixin.class);
+        return mapper;
+    }
+}
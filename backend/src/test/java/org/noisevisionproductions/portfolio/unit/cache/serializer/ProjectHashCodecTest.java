@@ -0,0 +1,123 @@
+package org.noisevisionproductions.portfolio.unit.cache.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectFieldset;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JsonTest
+class ProjectHashCodecTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ProjectHashCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new ProjectHashCodec(objectMapper, new CacheMetrics());
+    }
+
+    @Test
+    void shouldRoundTripEntryWithAllFields() {
+        CacheEntry<ProjectView> entry = new CacheEntry<>(createProject(), 1_700_000_000_000L);
+
+        assertEquals(entry, codec.decode(aligned(codec.encode(entry))));
+    }
+
+    @Test
+    void shouldRoundTripEntryWithNullFields() {
+        ProjectView project = new ProjectView(2L, "Żółw", null, null, null, null,
+                null, null, null, null, 0L, null, null, null, null);
+        CacheEntry<ProjectView> entry = new CacheEntry<>(project, Long.MAX_VALUE);
+
+        assertEquals(entry, codec.decode(aligned(codec.encode(entry))));
+    }
+
+    @Test
+    void shouldEncodeOnlyRequestedFields() {
+        Map<String, String> fields = codec.encode(createProject(),
+                List.of(ProjectHashCodec.CONTRIBUTORS, ProjectHashCodec.VERSION));
+
+        assertEquals(Set.of(ProjectHashCodec.CONTRIBUTORS, ProjectHashCodec.VERSION), fields.keySet());
+        assertEquals("4", fields.get(ProjectHashCodec.VERSION));
+    }
+
+    @Test
+    void shouldStoreVersionAsPlainNumberWhateverTheDateFormat() {
+        Map<String, String> hash = codec.encode(new CacheEntry<>(createProject(), 5L));
+
+        assertEquals(4L, Long.parseLong(hash.get(ProjectHashCodec.VERSION)));
+        assertThrows(NumberFormatException.class, () -> Double.parseDouble(hash.get(ProjectHashCodec.LAST_MODIFIED_AT)));
+    }
+
+    @Test
+    void shouldDecodeEntryAfterSingleFieldUpdate() {
+        ProjectView project = createProject();
+        ProjectView updated = new ProjectView(project.id(), project.name(), project.slug(), project.description(),
+                project.repositoryUrl(), project.status(), project.createdAt(), project.startDate(), project.endDate(),
+                new Date(1_720_000_000_000L), project.version() + 1, List.of("Projects"), project.technologies(), project.contributors(),
+                project.projectImages());
+        Map<String, String> hash = new LinkedHashMap<>(codec.encode(new CacheEntry<>(project, 5L)));
+
+        hash.putAll(codec.encode(updated, List.of(ProjectHashCodec.FEATURES, ProjectHashCodec.LAST_MODIFIED_AT,
+                ProjectHashCodec.VERSION)));
+
+        assertEquals(new CacheEntry<>(updated, 5L), codec.decode(aligned(hash)));
+    }
+
+    @Test
+    void shouldReturnNullForIncompleteHash() {
+        List<String> hash = new ArrayList<>(aligned(codec.encode(new CacheEntry<>(createProject(), 5L))));
+        hash.set(0, null);
+
+        assertNull(codec.decode(hash));
+        assertNull(codec.decode(List.of()));
+        assertNull(codec.decode(null));
+    }
+
+    @Test
+    void shouldDecodeSummaryFromSummaryFieldsOnly() {
+        ProjectView project = createProject();
+        Map<String, String> hash = codec.encode(new CacheEntry<>(project, 5L));
+
+        List<String> summary = ProjectHashCodec.fields(ProjectFieldset.SUMMARY).stream().map(hash::get).toList();
+
+        assertEquals(ProjectSummaryView.fromView(project), codec.decodeSummary(summary));
+        assertFalse(ProjectHashCodec.SUMMARY_FIELDS.contains(ProjectHashCodec.DESCRIPTION));
+        assertFalse(ProjectHashCodec.SUMMARY_FIELDS.contains(ProjectHashCodec.PROJECT_IMAGES));
+        assertNull(codec.decodeSummary(aligned(hash)));
+    }
+
+    private List<String> aligned(Map<String, String> hash) {
+        return ProjectHashCodec.FIELDS.stream().map(hash::get).toList();
+    }
+
+    private ProjectView createProject() {
+        return new ProjectView(1L, "Portfolio", "portfolio", "Personal portfolio with Polish text: zażółć gęślą jaźń",
+                "https://github.com/example/portfolio", ProjectStatus.COMPLETED,
+                new Date(1_700_000_000_000L), new Date(1_690_000_000_000L), null, new Date(1_710_000_000_000L), 4L,
+                List.of("Projects", "Search"), List.of("Java", "Spring", "Redis"),
+                List.of(new ContributorView("Jan", "Developer", "https://github.com/jan")),
+                List.of(new ProjectImageView(5L, "https://cdn.example.com/1.png", null)));
+    }
+}
@@ -0,0 +1,44 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.service.base.BloomFilter;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldNeverRejectInsertedValues() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.put("project-" + i));
+
+        assertTrue(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("project-" + i)));
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.put("project-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("missing-" + i)).count();
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldRejectEverythingWhenEmpty() {
+        BloomFilter filter = new BloomFilter(10, 0.01);
+
+        assertFalse(filter.mightContain("project"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1));
+    }
+}
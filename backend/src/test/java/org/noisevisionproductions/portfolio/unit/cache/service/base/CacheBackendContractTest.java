@@ -0,0 +1,308 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.model.PointerHash;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public abstract class CacheBackendContractTest {
+
+    protected CacheBackend cacheBackend;
+
+    protected abstract CacheBackend createBackend();
+
+    @BeforeEach
+    void setUpBackend() {
+        cacheBackend = createBackend();
+    }
+
+    @Test
+    void shouldReturnNullForMissingKey() {
+        assertNull(cacheBackend.get("contract:missing"));
+    }
+
+    @Test
+    void shouldReadBackStoredValue() {
+        cacheBackend.set("contract:value", "first", 1, TimeUnit.MINUTES);
+
+        assertEquals("first", cacheBackend.get("contract:value"));
+    }
+
+    @Test
+    void shouldOverwriteExistingValue() {
+        cacheBackend.set("contract:value", "first", 1, TimeUnit.MINUTES);
+        cacheBackend.set("contract:value", "second", 1, TimeUnit.MINUTES);
+
+        assertEquals("second", cacheBackend.get("contract:value"));
+    }
+
+    @Test
+    void shouldReturnValuesInKeyOrderWithNullsForMisses() {
+        cacheBackend.set("contract:a", "a", 1, TimeUnit.MINUTES);
+        cacheBackend.set("contract:c", "c", 1, TimeUnit.MINUTES);
+
+        List<Object> values = cacheBackend.multiGet(List.of("contract:a", "contract:b", "contract:c"));
+
+        assertEquals(Arrays.asList("a", null, "c"), values);
+    }
+
+    @Test
+    void shouldReplaceListContents() {
+        cacheBackend.setList("contract:list", List.of("a", "b"), 1, TimeUnit.MINUTES);
+        cacheBackend.setList("contract:list", List.of("c"), 1, TimeUnit.MINUTES);
+
+        assertEquals(List.of("c"), cacheBackend.getList("contract:list"));
+    }
+
+    @Test
+    void shouldReturnEmptyListForMissingKey() {
+        assertEquals(List.of(), cacheBackend.getList("contract:missing"));
+    }
+
+    @Test
+    void shouldRemoveListWhenStoringEmptyList() {
+        cacheBackend.setList("contract:list", List.of("a"), 1, TimeUnit.MINUTES);
+        cacheBackend.setList("contract:list", List.of(), 1, TimeUnit.MINUTES);
+
+        assertEquals(List.of(), cacheBackend.getList("contract:list"));
+    }
+
+    @Test
+    void shouldDeleteValuesAndLists() {
+        cacheBackend.set("contract:value", "value", 1, TimeUnit.MINUTES);
+        cacheBackend.setList("contract:list", List.of("a"), 1, TimeUnit.MINUTES);
+
+        cacheBackend.delete(List.of("contract:value", "contract:list", "contract:missing"));
+
+        assertNull(cacheBackend.get("contract:value"));
+        assertEquals(List.of(), cacheBackend.getList("contract:list"));
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() throws InterruptedException {
+        cacheBackend.set("contract:value", "value", 50, TimeUnit.MILLISECONDS);
+        cacheBackend.setList("contract:list", List.of("a"), 50, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(200);
+
+        assertNull(cacheBackend.get("contract:value"));
+        assertEquals(List.of(), cacheBackend.getList("contract:list"));
+    }
+
+    @Test
+    void shouldDeleteOnlyTaggedKeysOnTagInvalidation() {
+        cacheBackend.set("contract:a", "a", 1, TimeUnit.MINUTES);
+        cacheBackend.set("contract:b", "b", 1, TimeUnit.MINUTES);
+        cacheBackend.set("contract:c", "c", 1, TimeUnit.MINUTES);
+        cacheBackend.tag("contract", List.of("contract:a"), 1, TimeUnit.MINUTES);
+        cacheBackend.tag("contract", List.of("contract:b"), 1, TimeUnit.MINUTES);
+
+        Set<String> invalidated = cacheBackend.invalidateTag("contract");
+
+        assertEquals(Set.of("contract:a", "contract:b"), invalidated);
+        assertNull(cacheBackend.get("contract:a"));
+        assertNull(cacheBackend.get("contract:b"));
+        assertEquals("c", cacheBackend.get("contract:c"));
+        assertEquals(Set.of(), cacheBackend.invalidateTag("contract"));
+    }
+
+    @Test
+    void shouldReturnNoKeysForUnknownTag() {
+        assertEquals(Set.of(), cacheBackend.invalidateTag("contract:unknown"));
+    }
+
+    @Test
+    void shouldDeleteKeysMatchingPattern() {
+        cacheBackend.set("contract:page:1", "1", 1, TimeUnit.MINUTES);
+        cacheBackend.set("contract:page:2", "2", 1, TimeUnit.MINUTES);
+        cacheBackend.set("contract:all", "all", 1, TimeUnit.MINUTES);
+
+        cacheBackend.deleteByPattern("contract:page:*");
+
+        assertNull(cacheBackend.get("contract:page:1"));
+        assertNull(cacheBackend.get("contract:page:2"));
+        assertEquals("all", cacheBackend.get("contract:all"));
+    }
+
+    @Test
+    void shouldReadHashFieldsWithNullsForMissingFields() {
+        cacheBackend.hashSet("contract:hash", Map.of("a", "1", "b", "2"), "v", 1, TimeUnit.MINUTES);
+
+        assertEquals(Arrays.asList("2", null, "1"), cacheBackend.hashGet("contract:hash", List.of("b", "c", "a")));
+        assertEquals(Arrays.asList(null, null), cacheBackend.hashGet("contract:missing", List.of("a", "b")));
+    }
+
+    @Test
+    void shouldReplaceAllHashFieldsOnHashSet() {
+        cacheBackend.hashSet("contract:hash", Map.of("a", "1", "b", "2"), "v", 1, TimeUnit.MINUTES);
+        cacheBackend.hashSet("contract:hash", Map.of("a", "3"), "v", 1, TimeUnit.MINUTES);
+
+        assertEquals(Arrays.asList("3", null), cacheBackend.hashGet("contract:hash", List.of("a", "b")));
+    }
+
+    @Test
+    void shouldReturnHashesInKeyOrder() {
+        cacheBackend.hashSet("contract:a", Map.of("f", "a"), "v", 1, TimeUnit.MINUTES);
+        cacheBackend.hashSet("contract:c", Map.of("f", "c"), "v", 1, TimeUnit.MINUTES);
+
+        List<List<String>> hashes = cacheBackend.hashMultiGet(List.of("contract:a", "contract:b", "contract:c"), List.of("f"));
+
+        assertEquals(List.of(List.of("a"), Arrays.asList((String) null), List.of("c")), hashes);
+    }
+
+    @Test
+    void shouldUpdateOnlyGivenFieldsOfExistingHash() {
+        cacheBackend.hashSet("contract:hash", Map.of("a", "1", "b", "2"), "v", 1, TimeUnit.MINUTES);
+
+        assertTrue(cacheBackend.hashUpdate("contract:hash", Map.of("b", "3"), "v"));
+        assertEquals(List.of("1", "3"), cacheBackend.hashGet("contract:hash", List.of("a", "b")));
+    }
+
+    @Test
+    void shouldNotCreateHashOnUpdateOfMissingKey() {
+        assertFalse(cacheBackend.hashUpdate("contract:missing", Map.of("a", "1"), "v"));
+        assertEquals(Arrays.asList((String) null), cacheBackend.hashGet("contract:missing", List.of("a")));
+    }
+
+    @Test
+    void shouldRefuseHashSetOlderThanCachedVersion() {
+        assertTrue(cacheBackend.hashSet("contract:hash", Map.of("v", "20", "a", "new"), "v", 1, TimeUnit.MINUTES));
+
+        assertFalse(cacheBackend.hashSet("contract:hash", Map.of("v", "10", "a", "old"), "v", 1, TimeUnit.MINUTES));
+        assertFalse(cacheBackend.hashSet("contract:hash", Map.of("v", "null", "a", "old"), "v", 1, TimeUnit.MINUTES));
+        assertEquals(List.of("20", "new"), cacheBackend.hashGet("contract:hash", List.of("v", "a")));
+    }
+
+    @Test
+    void shouldAcceptHashSetWithSameOrNewerVersion() {
+        cacheBackend.hashSet("contract:hash", Map.of("v", "20", "a", "first"), "v", 1, TimeUnit.MINUTES);
+
+        assertTrue(cacheBackend.hashSet("contract:hash", Map.of("v", "20", "a", "again"), "v", 1, TimeUnit.MINUTES));
+        assertTrue(cacheBackend.hashSet("contract:hash", Map.of("v", "30", "a", "newer"), "v", 1, TimeUnit.MINUTES));
+        assertEquals(List.of("30", "newer"), cacheBackend.hashGet("contract:hash", List.of("v", "a")));
+    }
+
+    @Test
+    void shouldReplaceLegacyStringValueOnHashSet() {
+        cacheBackend.setString("contract:hash", "{\"legacy\":true}", 1, TimeUnit.MINUTES);
+
+        assertTrue(cacheBackend.hashSet("contract:hash", Map.of("v", "10", "a", "hash"), "v", 1, TimeUnit.MINUTES));
+        assertEquals(List.of("10", "hash"), cacheBackend.hashGet("contract:hash", List.of("v", "a")));
+    }
+
+    @Test
+    void shouldNotUpdateLegacyStringValue() {
+        cacheBackend.setString("contract:hash", "{\"legacy\":true}", 1, TimeUnit.MINUTES);
+
+        assertFalse(cacheBackend.hashUpdate("contract:hash", Map.of("v", "10", "a", "hash"), "v"));
+    }
+
+    @Test
+    void shouldReplaceUnversionedHashWithVersionedOne() {
+        cacheBackend.hashSet("contract:hash", Map.of("v", "null", "a", "legacy"), "v", 1, TimeUnit.MINUTES);
+
+        assertTrue(cacheBackend.hashSet("contract:hash", Map.of("v", "10", "a", "versioned"), "v", 1, TimeUnit.MINUTES));
+        assertEquals(List.of("10", "versioned"), cacheBackend.hashGet("contract:hash", List.of("v", "a")));
+    }
+
+    @Test
+    void shouldRefuseHashUpdateOlderThanCachedVersion() {
+        cacheBackend.hashSet("contract:hash", Map.of("v", "20", "a", "1"), "v", 1, TimeUnit.MINUTES);
+
+        assertFalse(cacheBackend.hashUpdate("contract:hash", Map.of("v", "10", "a", "2"), "v"));
+        assertTrue(cacheBackend.hashUpdate("contract:hash", Map.of("v", "21", "a", "3"), "v"));
+        assertEquals(List.of("21", "3"), cacheBackend.hashGet("contract:hash", List.of("v", "a")));
+    }
+
+    @Test
+    void shouldReadBackStoredString() {
+        cacheBackend.setString("contract:string", "42", 1, TimeUnit.MINUTES);
+
+        assertEquals("42", cacheBackend.getString("contract:string"));
+        assertNull(cacheBackend.getString("contract:missing"));
+    }
+
+    @Test
+    void shouldResolveHashThroughPointer() {
+        cacheBackend.setString("contract:slug:first", "1", 1, TimeUnit.MINUTES);
+        cacheBackend.hashSet("contract:1", Map.of("a", "1", "b", "2"), "v", 1, TimeUnit.MINUTES);
+
+        PointerHash resolved = cacheBackend.hashGetByPointer("contract:slug:first", "contract:", List.of("b", "c"));
+
+        assertEquals(new PointerHash("1", Arrays.asList("2", null)), resolved);
+    }
+
+    @Test
+    void shouldReturnPointerEvenWhenTargetHashIsMissing() {
+        cacheBackend.setString("contract:slug:first", "1", 1, TimeUnit.MINUTES);
+
+        PointerHash resolved = cacheBackend.hashGetByPointer("contract:slug:first", "contract:", List.of("a"));
+
+        assertEquals(new PointerHash("1", Arrays.asList((String) null)), resolved);
+    }
+
+    @Test
+    void shouldReturnNullForMissingPointer() {
+        assertNull(cacheBackend.hashGetByPointer("contract:slug:missing", "contract:", List.of("a")));
+    }
+
+    @Test
+    void shouldReadStringsInKeyOrderWithNullsForMisses() {
+        cacheBackend.setString("contract:a", "1", 1, TimeUnit.MINUTES);
+
+        assertEquals(Arrays.asList("1", null), cacheBackend.multiGetStrings(List.of("contract:a", "contract:b")));
+    }
+
+    @Test
+    void shouldSetStringOnlyWhenAbsent() {
+        assertTrue(cacheBackend.setStringIfAbsent("contract:lock", "first", 1, TimeUnit.MINUTES));
+        assertFalse(cacheBackend.setStringIfAbsent("contract:lock", "second", 1, TimeUnit.MINUTES));
+        assertFalse(cacheBackend.setStringIfAbsent("contract:lock", "third"));
+
+        assertEquals("first", cacheBackend.getString("contract:lock"));
+    }
+
+    @Test
+    void shouldDeleteOnlyWhenValueMatches() {
+        cacheBackend.setStringIfAbsent("contract:lock", "owner", 1, TimeUnit.MINUTES);
+
+        assertFalse(cacheBackend.deleteIfEquals("contract:lock", "other"));
+        assertEquals("owner", cacheBackend.getString("contract:lock"));
+        assertTrue(cacheBackend.deleteIfEquals("contract:lock", "owner"));
+        assertNull(cacheBackend.getString("contract:lock"));
+    }
+
+    @Test
+    void shouldSeedAndIncrementVersionWithModifiedTime() {
+        assertEquals(1001L, cacheBackend.incrementVersion("contract:version", "contract:modified", 1000L));
+        assertEquals(1002L, cacheBackend.incrementVersion("contract:version", "contract:modified", 2000L));
+
+        assertEquals(List.of("1002", "2000"), cacheBackend.multiGetStrings(List.of("contract:version", "contract:modified")));
+    }
+
+    @Test
+    void shouldReadBackStoredBytes() {
+        byte[] value = {1, 2, 3};
+        cacheBackend.setBytes("contract:bytes", value, 1, TimeUnit.MINUTES);
+
+        assertArrayEquals(value, cacheBackend.getBytes("contract:bytes"));
+        assertNull(cacheBackend.getBytes("contract:missing"));
+    }
+
+    @Test
+    void shouldRankMembersByAccumulatedScore() {
+        cacheBackend.incrementScores("contract:scores", Map.of("1", 2L, "2", 5L), 1, TimeUnit.MINUTES);
+        cacheBackend.incrementScores("contract:scores", Map.of("1", 4L, "3", 1L), 1, TimeUnit.MINUTES);
+
+        assertEquals(List.of("1", "2"), cacheBackend.topScores("contract:scores", 2));
+        assertEquals(List.of(), cacheBackend.topScores("contract:missing", 2));
+    }
+}
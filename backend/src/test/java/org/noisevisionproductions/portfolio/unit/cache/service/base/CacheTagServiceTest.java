@@ -0,0 +1,106 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheTagService;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheTagServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    private CacheTagService cacheTagService;
+
+    @Test
+    void shouldRegisterKeysInSinglePipeline() {
+        cacheTagService.tag("project:1", List.of("portfolio:project:1"), 60, TimeUnit.MINUTES);
+
+        verify(stringRedisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void shouldSkipRegistrationWithoutKeys() {
+        cacheTagService.tag("project:1", List.of(), 60, TimeUnit.MINUTES);
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void shouldDeleteTaggedKeysInBatches() {
+        List<String> members = IntStream.range(0, 150).mapToObj(i -> "portfolio:project:page:20:" + i).toList();
+        Cursor<String> cursor = cursor(members);
+
+        when(stringRedisTemplate.hasKey("portfolio:tag:project:pages")).thenReturn(true);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.scan(startsWith("portfolio:tag:project:pages:drain:"), any(ScanOptions.class))).thenReturn(cursor);
+
+        Set<String> deleted = cacheTagService.invalidate("project:pages");
+
+        assertEquals(150, deleted.size());
+        ArgumentCaptor<List<String>> batches = ArgumentCaptor.captor();
+        verify(stringRedisTemplate, times(2)).delete(batches.capture());
+        assertEquals(100, batches.getAllValues().get(0).size());
+        assertEquals(50, batches.getAllValues().get(1).size());
+        verify(stringRedisTemplate).rename(eq("portfolio:tag:project:pages"), startsWith("portfolio:tag:project:pages:drain:"));
+        verify(stringRedisTemplate).delete(startsWith("portfolio:tag:project:pages:drain:"));
+        verify(cursor).close();
+    }
+
+    @Test
+    void shouldDoNothingWhenTagIsMissing() {
+        when(stringRedisTemplate.hasKey("portfolio:tag:project:1")).thenReturn(false);
+
+        assertTrue(cacheTagService.invalidate("project:1").isEmpty());
+        verify(stringRedisTemplate, never()).rename(anyString(), anyString());
+        verify(stringRedisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    void shouldDeleteByPatternWithScanInsteadOfKeys() {
+        Cursor<String> cursor = cursor(List.of("portfolio:project:page:20:first", "portfolio:project:page:20:abc"));
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        long deleted = cacheTagService.deleteByPattern("portfolio:project:page:*");
+
+        assertEquals(2, deleted);
+        verify(stringRedisTemplate).delete(List.of("portfolio:project:page:20:first", "portfolio:project:page:20:abc"));
+        verify(stringRedisTemplate, never()).keys(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursor(List<String> values) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = values.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+}
@@ -0,0 +1,51 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.service.base.CircuitBreaker;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3);
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresOnly() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.allowRequest());
+
+        assertTrue(circuitBreaker.onFailure());
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.state());
+    }
+
+    @Test
+    void shouldReportOpeningOnlyOnce() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertFalse(circuitBreaker.onFailure());
+    }
+
+    @Test
+    void shouldCloseAndResetFailureCount() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertTrue(circuitBreaker.close());
+        assertFalse(circuitBreaker.close());
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    void shouldRejectNonPositiveThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0));
+    }
+}
@@ -0,0 +1,87 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.InMemoryCacheBackend;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryCacheBackendTest extends CacheBackendContractTest {
+
+    @Override
+    protected CacheBackend createBackend() {
+        return new InMemoryCacheBackend(100, Duration.ofHours(1), 4);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        List<String> evicted = new ArrayList<>();
+        InMemoryCacheBackend backend = new InMemoryCacheBackend(1, Duration.ofHours(1), 1, Clock.systemUTC(), evicted::add);
+
+        backend.set("a", "1", 1, TimeUnit.MINUTES);
+        backend.set("b", "2", 1, TimeUnit.MINUTES);
+
+        assertNull(backend.get("a"));
+        assertEquals("2", backend.get("b"));
+        assertEquals(List.of("a"), evicted);
+    }
+
+    @Test
+    void shouldNeverKeepEntryLongerThanMaximumTtl() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        InMemoryCacheBackend backend = new InMemoryCacheBackend(10, Duration.ofSeconds(10), 2, clock, key -> {
+        });
+
+        backend.set("a", "1", 1, TimeUnit.HOURS);
+
+        when(clock.millis()).thenReturn(10_000L);
+        assertNull(backend.get("a"));
+    }
+
+    @Test
+    void shouldNotExposeCallerOwnedLists() {
+        List<String> ids = new ArrayList<>(List.of("a"));
+
+        cacheBackend.setList("list", ids, 1, TimeUnit.MINUTES);
+        ids.add("b");
+
+        assertEquals(List.of("a"), cacheBackend.getList("list"));
+    }
+
+    @Test
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryCacheBackend(10, Duration.ofSeconds(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryCacheBackend(0, Duration.ofSeconds(1), 4));
+    }
+
+    @Test
+    void shouldKeepVersionKeysWhenCacheEntriesAreEvicted() {
+        InMemoryCacheBackend backend = new InMemoryCacheBackend(1, Duration.ofHours(1), 1);
+
+        backend.incrementVersion("version", "modified", 1000L);
+        backend.set("a", "1", 1, TimeUnit.MINUTES);
+        backend.set("b", "2", 1, TimeUnit.MINUTES);
+
+        assertEquals(List.of("1001", "1000"), backend.multiGetStrings(List.of("version", "modified")));
+    }
+
+    @Test
+    void shouldDeliverPublishedMessagesToSubscribers() {
+        List<String> received = new ArrayList<>();
+        cacheBackend.subscribe("channel", received::add);
+
+        cacheBackend.publish("channel", "message");
+        cacheBackend.publish("other", "ignored");
+
+        assertEquals(List.of("message"), received);
+    }
+}
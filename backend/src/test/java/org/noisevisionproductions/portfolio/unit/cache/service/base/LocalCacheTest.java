@@ -0,0 +1,135 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.service.base.LocalCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalCacheTest {
+
+    private Clock clock;
+    private LocalCache<String, String> localCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        localCache = new LocalCache<>(2, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        localCache.put("a", "1");
+        localCache.put("b", "2");
+        localCache.get("a");
+        localCache.put("c", "3");
+
+        assertEquals("1", localCache.get("a"));
+        assertNull(localCache.get("b"));
+        assertEquals("3", localCache.get("c"));
+        assertEquals(2, localCache.size());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        localCache.put("a", "1");
+
+        when(clock.millis()).thenReturn(9_999L);
+        assertEquals("1", localCache.get("a"));
+
+        when(clock.millis()).thenReturn(10_000L);
+        assertNull(localCache.get("a"));
+        assertEquals(0, localCache.size());
+    }
+
+    @Test
+    void shouldNeverKeepEntryLongerThanDefaultTtl() {
+        localCache.put("short", "1", Duration.ofSeconds(1));
+        localCache.put("long", "2", Duration.ofHours(1));
+
+        when(clock.millis()).thenReturn(1_000L);
+        assertNull(localCache.get("short"));
+        assertEquals("2", localCache.get("long"));
+
+        when(clock.millis()).thenReturn(10_000L);
+        assertNull(localCache.get("long"));
+    }
+
+    @Test
+    void shouldPutConditionallyOnlyWhenCurrentValueMayBeReplaced() {
+        assertTrue(localCache.putIf("a", "2", Duration.ofMinutes(1), current -> current.compareTo("2") <= 0));
+        assertFalse(localCache.putIf("a", "1", Duration.ofMinutes(1), current -> current.compareTo("1") <= 0));
+        assertTrue(localCache.putIf("a", "3", Duration.ofMinutes(1), current -> current.compareTo("3") <= 0));
+
+        assertEquals("3", localCache.get("a"));
+    }
+
+    @Test
+    void shouldEvictMatchingKeys() {
+        localCache.put("page:1", "1");
+        localCache.put("all", "2");
+
+        localCache.evictIf(key -> key.startsWith("page:"));
+
+        assertNull(localCache.get("page:1"));
+        assertEquals("2", localCache.get("all"));
+    }
+
+    @Test
+    void shouldRemoveEntryWhenNullIsCached() {
+        localCache.put("a", "1");
+        localCache.put("a", null);
+
+        assertNull(localCache.get("a"));
+    }
+
+    @Test
+    void shouldNotifyListenerOnSizeAndExpiryEvictionsOnly() {
+        List<String> evicted = new ArrayList<>();
+        LocalCache<String, String> listened = new LocalCache<>(1, Duration.ofSeconds(10), clock, evicted::add);
+
+        listened.put("a", "1");
+        listened.put("b", "2");
+        when(clock.millis()).thenReturn(10_000L);
+        listened.get("b");
+        listened.put("c", "3");
+        listened.evict("c");
+
+        assertEquals(List.of("a", "b"), evicted);
+    }
+
+    @Test
+    void shouldRejectNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LocalCache<String, String>(0, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void shouldReplaceValueWithoutExtendingExpiry() {
+        localCache.put("a", "1");
+
+        when(clock.millis()).thenReturn(5_000L);
+        assertTrue(localCache.replace("a", value -> value + "2"));
+        assertEquals("12", localCache.get("a"));
+
+        when(clock.millis()).thenReturn(10_000L);
+        assertNull(localCache.get("a"));
+    }
+
+    @Test
+    void shouldNotReplaceMissingOrExpiredEntry() {
+        assertFalse(localCache.replace("a", value -> "2"));
+        assertNull(localCache.get("a"));
+
+        localCache.put("b", "1");
+        when(clock.millis()).thenReturn(10_000L);
+        assertFalse(localCache.replace("b", value -> "2"));
+    }
+}
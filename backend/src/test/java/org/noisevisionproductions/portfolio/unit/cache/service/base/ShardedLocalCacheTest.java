@@ -0,0 +1,94 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.service.base.ShardedLocalCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedLocalCacheTest {
+
+    @Test
+    void shouldRouteKeysToStableShards() {
+        ShardedLocalCache<String, String> cache = new ShardedLocalCache<>(100, Duration.ofMinutes(1), 8);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("key:" + i, "value:" + i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("value:" + i, cache.get("key:" + i));
+            assertSame(cache.shard("key:" + i), cache.shard("key:" + i));
+        }
+        assertEquals(50, cache.size());
+    }
+
+    @Test
+    void shouldBoundEachShardBySplitCapacity() {
+        List<String> evicted = new ArrayList<>();
+        ShardedLocalCache<String, String> cache = new ShardedLocalCache<>(4, Duration.ofMinutes(1), 2,
+                Clock.systemUTC(), evicted::add);
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("key:" + i, "value");
+        }
+
+        assertTrue(cache.size() <= 4);
+        assertEquals(20 - cache.size(), evicted.size());
+    }
+
+    @Test
+    void shouldEvictMatchingKeysAcrossAllShards() {
+        ShardedLocalCache<String, String> cache = new ShardedLocalCache<>(100, Duration.ofMinutes(1), 8);
+        for (int i = 0; i < 20; i++) {
+            cache.put((i % 2 == 0 ? "even:" : "odd:") + i, "value");
+        }
+
+        cache.evictIf(key -> key.startsWith("even:"));
+
+        assertEquals(10, cache.size());
+        assertNull(cache.get("even:0"));
+        assertEquals("value", cache.get("odd:1"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldServeConcurrentReadersAndWriters() throws Exception {
+        ShardedLocalCache<String, Integer> cache = new ShardedLocalCache<>(10_000, Duration.ofMinutes(1), 16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread * 1000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        cache.put("key:" + (offset + i), offset + i);
+                        assertEquals(offset + i, cache.get("key:" + (offset + i)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(8000, cache.size());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedLocalCache<String, String>(10, Duration.ofMinutes(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedLocalCache<String, String>(0, Duration.ofMinutes(1), 4));
+    }
+}
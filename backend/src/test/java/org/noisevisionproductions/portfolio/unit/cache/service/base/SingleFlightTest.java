@@ -0,0 +1,102 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.base;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.service.base.SingleFlight;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void shouldRunOneLoaderForConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.load("all", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "projects";
+        }), release);
+
+        for (Future<String> result : results) {
+            assertEquals("projects", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void shouldPropagateLoaderFailureToEveryWaiter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.load("all", () -> {
+            await(release);
+            throw new IllegalStateException("Database down");
+        }), release);
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void shouldLoadAgainAfterFlightCompletes() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.load("all", () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.load("all", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v2", second);
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentKeys() {
+        assertEquals("1", singleFlight.load("id:1", () -> singleFlight.load("id:2", () -> "2").replace("2", "1")));
+    }
+
+    private List<Future<String>> runConcurrently(Callable<String> call, CountDownLatch release)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        try {
+            List<Future<String>> results = IntStream.range(0, CALLERS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        started.countDown();
+                        return call.call();
+                    }))
+                    .toList();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.project;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.config.CacheRefreshProperties;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheRefresher;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectCacheRefresherTest {
+
+    private ProjectCacheRefresher projectCacheRefresher;
+
+    @BeforeEach
+    void setUp() {
+        CacheRefreshProperties properties = new CacheRefreshProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        projectCacheRefresher = new ProjectCacheRefresher(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectCacheRefresher.shutdown();
+    }
+
+    @Test
+    void shouldRunRefreshInBackground() throws InterruptedException {
+        CountDownLatch refreshed = new CountDownLatch(1);
+
+        assertTrue(projectCacheRefresher.refresh("id:1", refreshed::countDown));
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldNotScheduleSameKeyTwiceWhileRefreshing() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(projectCacheRefresher.refresh("id:1", () -> {
+            runs.incrementAndGet();
+            awaitQuietly(release);
+            done.countDown();
+        }));
+        assertFalse(projectCacheRefresher.refresh("id:1", runs::incrementAndGet));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldDropRefreshWhenQueueIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+
+        projectCacheRefresher.refresh("id:1", () -> awaitQuietly(release));
+        projectCacheRefresher.refresh("id:2", () -> awaitQuietly(release));
+
+        assertFalse(projectCacheRefresher.refresh("id:3", () -> {
+        }));
+        release.countDown();
+    }
+
+    @Test
+    void shouldAllowRefreshAgainAfterFailure() throws InterruptedException {
+        CountDownLatch retried = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+
+        projectCacheRefresher.refresh("id:1", () -> {
+            failed.countDown();
+            throw new IllegalStateException("Database down");
+        });
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!projectCacheRefresher.refresh("id:1", retried::countDown) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(retried.await(5, TimeUnit.SECONDS));
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
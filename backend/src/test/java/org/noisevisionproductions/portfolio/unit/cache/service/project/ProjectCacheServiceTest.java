@@ -1,27 +1,49 @@
 package org.noisevisionproductions.portfolio.unit.cache.service.project;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.noisevisionproductions.portfolio.cache.model.project.CacheableProject;
-import org.noisevisionproductions.portfolio.cache.model.project.CacheableProjectsList;
+import org.noisevisionproductions.portfolio.cache.config.CacheRefreshProperties;
+import org.noisevisionproductions.portfolio.cache.config.NegativeCacheProperties;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.model.PointerHash;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheTags;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectLocalCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectResponseCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
 import org.noisevisionproductions.portfolio.cache.utils.CacheKeyGenerator;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -29,136 +51,665 @@ import static org.mockito.Mockito.*;
 class ProjectCacheServiceTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private CacheBackend cacheBackend;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private CacheKeyGenerator keyGenerator;
 
     @Mock
-    private CacheKeyGenerator keyGenerator;
+    private ProjectResponseCacheService projectResponseCacheService;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private ProjectLocalCacheService projectLocalCacheService;
+
+    @Spy
+    private CacheRefreshProperties cacheRefreshProperties = new CacheRefreshProperties();
+
+    @Spy
+    private CacheMetrics cacheMetrics = new CacheMetrics();
+
+    @Spy
+    private NegativeCacheProperties negativeCacheProperties = new NegativeCacheProperties();
+
+    @Spy
+    private ProjectHashCodec projectHashCodec = new ProjectHashCodec(
+            new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS), new CacheMetrics());
 
     @InjectMocks
     private ProjectCacheService projectCacheService;
 
-    private Project createMockProject() {
+    private ProjectView createMockProject() {
         Project project = new Project();
         project.setId(1L);
         project.setName("Test Project");
         project.setSlug("test-project");
         project.setStatus(ProjectStatus.IN_PROGRESS);
-        return project;
+        return ProjectView.fromProject(project);
     }
 
     @Test
     void shouldSuccessfullyCacheProject() {
-        Project mockProject = createMockProject();
+        ProjectView mockProject = createMockProject();
         String testKey = "portfolio:project:1";
         String testSlugKey = "portfolio:project:slug:test-project";
+        String testSlugOfKey = "portfolio:project:slug-of:1";
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(testKey);
         when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(testSlugKey);
+        when(keyGenerator.generateKey("portfolio:project", "slug-of", "1")).thenReturn(testSlugOfKey);
 
+        when(cacheBackend.hashSet(eq(testKey), any(), eq(ProjectHashCodec.VERSION), eq(60L), eq(TimeUnit.MINUTES)))
+                .thenReturn(true);
+
+        long before = System.currentTimeMillis();
         projectCacheService.cache(1L, mockProject);
 
-        verify(valueOperations).set(eq(testKey), any(CacheableProject.class), eq(60L), eq(TimeUnit.MINUTES));
-        verify(valueOperations).set(eq(testSlugKey), any(CacheableProject.class), eq(60L), eq(TimeUnit.MINUTES));
+        ArgumentCaptor<Map<String, String>> hash = ArgumentCaptor.captor();
+        verify(cacheBackend).hashSet(eq(testKey), hash.capture(), eq(ProjectHashCodec.VERSION), eq(60L), eq(TimeUnit.MINUTES));
+        assertTrue(hash.getValue().keySet().containsAll(ProjectHashCodec.FIELDS));
+        assertTrue(hash.getValue().keySet().containsAll(ProjectHashCodec.SUMMARY_FIELDS));
+        CacheEntry<ProjectView> cached = projectHashCodec.decode(ProjectHashCodec.FIELDS.stream().map(hash.getValue()::get).toList());
+        assertEquals(mockProject, cached.value());
+        assertTrue(cached.softExpiresAt() >= before + TimeUnit.MINUTES.toMillis(45));
+        assertFalse(cached.isStale(System.currentTimeMillis()));
+        verify(cacheBackend).setString(testSlugKey, "1", 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).setString(testSlugOfKey, "test-project", 60L, TimeUnit.MINUTES);
+        verify(cacheBackend, never()).set(any(), any(), anyLong(), any());
+        verify(projectResponseCacheService).cacheProject(mockProject, TimeUnit.MINUTES.toMillis(45), TimeUnit.MILLISECONDS);
+        verify(projectLocalCacheService).put(eq(testKey), eq(cached), eq(60L), eq(TimeUnit.MINUTES), any());
+        verify(projectLocalCacheService).put(testSlugKey, 1L, 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).tag(ProjectCacheTags.project(1L), List.of(testKey), 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).tag(ProjectCacheTags.project(1L), List.of(testSlugKey, testSlugOfKey), 60L, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void shouldReportStaleEntriesWhileStillReturningThem() {
+        ProjectView fresh = createMockProject();
+        ProjectView stale = createMockProject();
+        List<Long> staleIds = new ArrayList<>();
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(keyGenerator.generateKey("portfolio:project", "2")).thenReturn("portfolio:project:2");
+        when(projectLocalCacheService.get("portfolio:project:1")).thenReturn(new CacheEntry<>(fresh, Long.MAX_VALUE));
+        List<String> staleHash = hash(stale, 0L);
+        when(cacheBackend.hashMultiGet(List.of("portfolio:project:2"), ProjectHashCodec.FIELDS))
+                .thenReturn(List.of(staleHash));
+
+        Map<Long, ProjectView> result = projectCacheService.getAll(List.of(1L, 2L), staleIds::add);
+
+        assertEquals(Map.of(1L, fresh, 2L, stale), result);
+        assertEquals(List.of(2L), staleIds);
+    }
+
+    @Test
+    void shouldTreatEntriesWithoutSoftTtlAsFresh() {
+        ProjectView mockProject = createMockProject();
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(projectLocalCacheService.get("portfolio:project:1")).thenReturn(mockProject);
+
+        CacheEntry<ProjectView> entry = projectCacheService.getEntry(1L);
+
+        assertSame(mockProject, entry.value());
+        assertFalse(entry.isStale(System.currentTimeMillis()));
+    }
+
+    @Test
+    void shouldServeProjectFromLocalCacheWithoutRedisRoundTrip() {
+        ProjectView mockProject = createMockProject();
+        String testKey = "portfolio:project:1";
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(testKey);
+        when(projectLocalCacheService.get(testKey)).thenReturn(mockProject);
 
+        assertSame(mockProject, projectCacheService.get(1L));
+        verifyNoInteractions(cacheBackend);
     }
 
     @Test
     void shouldReturnNullWhenGettingNonExistentProject() {
-        Project result = projectCacheService.get(null);
+        ProjectView result = projectCacheService.get(null);
 
         assertNull(result);
-        verify(redisTemplate, never()).opsForValue();
+        verifyNoInteractions(cacheBackend);
     }
 
     @Test
     void shouldSuccessfullyGetCachedProject() {
-        Project mockProject = createMockProject();
-        CacheableProject mockCacheableProject = CacheableProject.fromProject(mockProject);
+        ProjectView mockProject = createMockProject();
         String testKey = "portfolio:project:1";
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(testKey);
-        when(valueOperations.get(testKey)).thenReturn(mockCacheableProject);
+        List<String> projectHash = hash(mockProject, Long.MAX_VALUE);
+        when(cacheBackend.hashGet(testKey, ProjectHashCodec.FIELDS)).thenReturn(projectHash);
 
-        Project result = projectCacheService.get(1L);
+        ProjectView result = projectCacheService.get(1L);
 
-        assertNotNull(result);
-        assertEquals(mockProject.getName(), result.getName());
-        assertEquals(mockProject.getSlug(), result.getSlug());
+        assertEquals(mockProject, result);
+        verify(projectLocalCacheService).putLocal(testKey, new CacheEntry<>(mockProject, Long.MAX_VALUE));
     }
 
     @Test
-    void shouldSuccessfullyCacheProjectsList() {
-        Project mockProject = createMockProject();
-        List<Project> projects = List.of(mockProject);
-        String allProjectsKey = "portfolio:project:all";
+    void shouldCacheProjectIdIndexUnderGenerationInTransaction() {
+        String idsKey = "portfolio:project:ids:7";
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7")).thenReturn(idsKey);
+
+        projectCacheService.cacheProjectIds(7L, List.of(1L, 2L));
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(keyGenerator.generateKey("portfolio:project", "all")).thenReturn(allProjectsKey);
+        verify(cacheBackend).setList(idsKey, List.of(1L, 2L), 60L, TimeUnit.MINUTES);
+        verify(projectLocalCacheService).putLocal(idsKey, List.of(1L, 2L));
+    }
 
-        projectCacheService.cacheProjectsList(projects);
+    @Test
+    void shouldMarkEmptyProjectIdIndex() {
+        String idsKey = "portfolio:project:ids:7";
+        String emptyKey = "portfolio:project:ids:7:empty";
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7")).thenReturn(idsKey);
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7", "empty")).thenReturn(emptyKey);
 
-        verify(valueOperations).set(eq(allProjectsKey), any(CacheableProjectsList.class));
+        projectCacheService.cacheProjectIds(7L, List.of());
 
+        verify(cacheBackend).setString(emptyKey, "1", 60L, TimeUnit.MINUTES);
+        verify(cacheBackend, never()).setList(anyString(), anyList(), anyLong(), any(TimeUnit.class));
+        verify(projectLocalCacheService).putLocal(idsKey, List.of());
     }
 
     @Test
-    void shouldSuccessfullyInvalidateAllCache() {
-        String pattern = "*";
-        Set<String> keys = new HashSet<>(Arrays.asList("key1", "key2"));
-        when(redisTemplate.keys("portfolio:project" + pattern)).thenReturn(keys);
+    void shouldReturnEmptyProjectIdIndexWhenMarkedEmpty() {
+        String idsKey = "portfolio:project:ids:7";
+        String emptyKey = "portfolio:project:ids:7:empty";
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7")).thenReturn(idsKey);
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7", "empty")).thenReturn(emptyKey);
+        when(cacheBackend.getList(idsKey)).thenReturn(List.of());
+        when(cacheBackend.getString(emptyKey)).thenReturn("1");
+
+        assertEquals(List.of(), projectCacheService.getCachedProjectIds(7L));
+        verify(projectLocalCacheService).putLocal(idsKey, List.of());
+    }
 
-        projectCacheService.invalidateAll(pattern);
+    @Test
+    void shouldNotCacheProjectIdIndexWithoutGeneration() {
+        projectCacheService.cacheProjectIds(null, List.of(1L));
 
-        verify(redisTemplate).delete(keys);
+        verifyNoInteractions(cacheBackend, projectLocalCacheService);
     }
 
     @Test
-    void shouldSuccessfullyGetCachedProjectsList() {
-        Project mockProject = createMockProject();
-        List<Project> projects = List.of(mockProject);
-        CacheableProjectsList cacheableProjectsList = CacheableProjectsList.fromProjects(projects);
-        String allProjectsKey = "portfolio:project:all";
+    void shouldInvalidateProjectIdIndexOfCurrentGeneration() {
+        String idsKey = "portfolio:project:ids:7";
+        when(projectVersionService.generation()).thenReturn(7L);
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7")).thenReturn(idsKey);
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7", "empty")).thenReturn(idsKey + ":empty");
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(keyGenerator.generateKey("portfolio:project", "all")).thenReturn(allProjectsKey);
-        when(valueOperations.get(allProjectsKey)).thenReturn(cacheableProjectsList);
+        projectCacheService.invalidateProjectIds();
 
-        List<Project> result = projectCacheService.getCachedProjectsList();
+        verify(cacheBackend).delete(List.of(idsKey, idsKey + ":empty"));
+        verify(projectLocalCacheService).evict(idsKey);
+    }
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(mockProject.getName(), result.getFirst().getName());
-        assertEquals(mockProject.getSlug(), result.getFirst().getSlug());
+    @Test
+    void shouldFetchMissingProjectsWithSingleMultiGet() {
+        ProjectView first = createMockProject();
+        ProjectView second = createMockProject();
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(keyGenerator.generateKey("portfolio:project", "2")).thenReturn("portfolio:project:2");
+        when(keyGenerator.generateKey("portfolio:project", "3")).thenReturn("portfolio:project:3");
+        when(projectLocalCacheService.get("portfolio:project:1")).thenReturn(first);
+        List<String> secondHash = hash(second, Long.MAX_VALUE);
+        List<String> missingHash = Arrays.asList(new String[ProjectHashCodec.FIELDS.size()]);
+        when(cacheBackend.hashMultiGet(List.of("portfolio:project:2", "portfolio:project:3"), ProjectHashCodec.FIELDS))
+                .thenReturn(List.of(secondHash, missingHash));
+
+        Map<Long, ProjectView> result = projectCacheService.getAll(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, first, 2L, second), result);
+        verify(cacheBackend, times(1)).hashMultiGet(anyList(), anyList());
+        verify(projectLocalCacheService).putLocal("portfolio:project:2", new CacheEntry<>(second, Long.MAX_VALUE));
+        assertEquals(2, cacheMetrics.hits(ProjectCacheFamilies.ID));
+        assertEquals(1, cacheMetrics.misses(ProjectCacheFamilies.ID));
+    }
+
+    @Test
+    void shouldInvalidateAllCacheWithScanInsteadOfKeys() {
+        projectCacheService.invalidateAll("*");
+
+        verify(cacheBackend).deleteByPattern("portfolio:project*");
+    }
+
+    @Test
+    void shouldReadProjectIdIndexFromRedisList() {
+        String idsKey = "portfolio:project:ids:7";
+
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7")).thenReturn(idsKey);
+        when(cacheBackend.getList(idsKey)).thenReturn(List.of(1, 2L));
+
+        List<Long> result = projectCacheService.getCachedProjectIds(7L);
+
+        assertEquals(List.of(1L, 2L), result);
+        verify(projectLocalCacheService).putLocal(idsKey, List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldReturnNullWhenProjectIdIndexIsMissing() {
+        when(keyGenerator.generateKey("portfolio:project", "ids", "7")).thenReturn("portfolio:project:ids:7");
+
+        assertNull(projectCacheService.getCachedProjectIds(7L));
+    }
+
+    @Test
+    void shouldTreatMissingGenerationAsProjectIdIndexMiss() {
+        assertNull(projectCacheService.getCachedProjectIds(null));
+
+        verifyNoInteractions(cacheBackend, projectLocalCacheService);
+        assertEquals(1, cacheMetrics.misses(ProjectCacheFamilies.ALL));
+    }
+
+    @Test
+    void shouldInvalidateEveryKeyTaggedWithProject() {
+        String projectKey = "portfolio:project:1";
+        String oldSlugKey = "portfolio:project:slug:old-slug";
+        String slugKey = "portfolio:project:slug:test-project";
+
+        when(cacheBackend.invalidateTag(ProjectCacheTags.project(1L))).thenReturn(Set.of(projectKey, oldSlugKey));
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(projectKey);
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(keyGenerator.generateKey("portfolio:project", "slug-of", "1")).thenReturn("portfolio:project:slug-of:1");
+
+        projectCacheService.invalidate(1L, "test-project");
+
+        verify(cacheBackend).delete(Set.of(projectKey, oldSlugKey, slugKey, "portfolio:project:slug-of:1"));
+        verify(cacheBackend, never()).getString(any());
+        verify(projectLocalCacheService).evict(projectKey);
+        verify(projectLocalCacheService).evict(oldSlugKey);
+        verify(projectLocalCacheService).evict(slugKey);
+        verify(projectResponseCacheService).invalidateProject(1L, "test-project");
+        verify(cacheBackend, never()).set(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void shouldInvalidateProjectKeyEvenWithoutTaggedEntries() {
+        String projectKey = "portfolio:project:1";
+
+        when(cacheBackend.invalidateTag(ProjectCacheTags.project(1L))).thenReturn(Set.of());
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(projectKey);
+        when(keyGenerator.generateKey("portfolio:project", "slug-of", "1")).thenReturn("portfolio:project:slug-of:1");
+
+        projectCacheService.invalidate(1L);
+
+        verify(cacheBackend).delete(Set.of(projectKey, "portfolio:project:slug-of:1"));
+        verify(projectLocalCacheService).evict(projectKey);
+        verify(projectResponseCacheService).invalidateProject(1L, null);
     }
 
     @Test
-    void shouldSuccessfullyInvalidateProjectCache() {
-        Project mockProject = createMockProject();
-        CacheableProject mockCacheableProject = CacheableProject.fromProject(mockProject);
+    void shouldFindSlugThroughReverseIndexWhenInvalidatingById() {
         String projectKey = "portfolio:project:1";
         String slugKey = "portfolio:project:slug:test-project";
+        String slugOfKey = "portfolio:project:slug-of:1";
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(cacheBackend.invalidateTag(ProjectCacheTags.project(1L))).thenReturn(Set.of());
         when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(projectKey);
-        when(valueOperations.get(projectKey)).thenReturn(mockCacheableProject);
+        when(keyGenerator.generateKey("portfolio:project", "slug-of", "1")).thenReturn(slugOfKey);
         when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(cacheBackend.getString(slugOfKey)).thenReturn("test-project");
 
         projectCacheService.invalidate(1L);
 
-        verify(redisTemplate).delete(projectKey);
-        verify(redisTemplate).delete(slugKey);
+        verify(cacheBackend).delete(Set.of(projectKey, slugKey, slugOfKey));
+        verify(projectLocalCacheService).evict(slugKey);
+        verify(projectResponseCacheService).invalidateProject(1L, "test-project");
+        verify(cacheBackend, never()).hashGet(any(), anyList());
+    }
+
+    @Test
+    void shouldResolveProjectIdFromSlugIndex() {
+        String slugKey = "portfolio:project:slug:test-project";
+
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(keyGenerator.generateKey("portfolio:project", "")).thenReturn("portfolio:project:");
+        when(cacheBackend.hashGetByPointer(slugKey, "portfolio:project:", ProjectHashCodec.FIELDS))
+                .thenReturn(new PointerHash("1", Arrays.asList(new String[ProjectHashCodec.FIELDS.size()])));
+
+        assertEquals(1L, projectCacheService.getIdBySlug("test-project"));
+        assertEquals(1, cacheMetrics.hits(ProjectCacheFamilies.SLUG));
+        verify(projectLocalCacheService).putLocal(slugKey, 1L);
+        verify(projectLocalCacheService, never()).putLocal(eq("portfolio:project:1"), any());
+    }
+
+    @Test
+    void shouldKeepProjectResolvedTogetherWithSlugInLocalCache() {
+        ProjectView project = createMockProject();
+        String slugKey = "portfolio:project:slug:test-project";
+        List<String> projectHash = hash(project, Long.MAX_VALUE);
+
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(keyGenerator.generateKey("portfolio:project", "")).thenReturn("portfolio:project:");
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(cacheBackend.hashGetByPointer(slugKey, "portfolio:project:", ProjectHashCodec.FIELDS))
+                .thenReturn(new PointerHash("1", projectHash));
+
+        assertEquals(1L, projectCacheService.getIdBySlug("test-project"));
+        verify(projectLocalCacheService).putLocal("portfolio:project:1", new CacheEntry<>(project, Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldResolveSlugFromLocalCacheWithoutBackendRoundTrip() {
+        String slugKey = "portfolio:project:slug:test-project";
+
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(projectLocalCacheService.get(slugKey)).thenReturn(1L);
+
+        assertEquals(1L, projectCacheService.getIdBySlug("test-project"));
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldTreatMalformedSlugPointerAsMiss() {
+        String slugKey = "portfolio:project:slug:test-project";
+
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(keyGenerator.generateKey("portfolio:project", "")).thenReturn("portfolio:project:");
+        when(cacheBackend.hashGetByPointer(slugKey, "portfolio:project:", ProjectHashCodec.FIELDS))
+                .thenReturn(new PointerHash("not-an-id", List.of()));
+
+        assertNull(projectCacheService.getIdBySlug("test-project"));
+        assertEquals(1, cacheMetrics.misses(ProjectCacheFamilies.SLUG));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownSlug() {
+        when(keyGenerator.generateKey("portfolio:project", "slug", "missing")).thenReturn("portfolio:project:slug:missing");
+
+        assertNull(projectCacheService.getIdBySlug("missing"));
+        assertEquals(1, cacheMetrics.misses(ProjectCacheFamilies.SLUG));
+    }
+
+    @Test
+    void shouldIndexSlugWithProjectId() {
+        String slugKey = "portfolio:project:slug:test-project";
+        String slugOfKey = "portfolio:project:slug-of:1";
+
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(keyGenerator.generateKey("portfolio:project", "slug-of", "1")).thenReturn(slugOfKey);
+
+        projectCacheService.cacheSlug("test-project", 1L);
+
+        verify(cacheBackend).setString(slugKey, "1", 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).setString(slugOfKey, "test-project", 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).tag(ProjectCacheTags.project(1L), List.of(slugKey, slugOfKey), 60L, TimeUnit.MINUTES);
+        verify(projectLocalCacheService).put(slugKey, 1L, 60L, TimeUnit.MINUTES);
     }
 
     @Test
     void shouldNotInvalidateWhenProjectIdIsNull() {
         projectCacheService.invalidate(null);
 
-        verify(redisTemplate, never()).delete(anyString());
-        verify(redisTemplate, never()).opsForValue();
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldCacheProjectsPageUnderGenerationCursorAndLimitKey() {
+        ProjectViewPage page = new ProjectViewPage(List.of(createMockProject()), "next");
+        String pageKey = "portfolio:project:page:7:10:first";
+
+        when(keyGenerator.generateKey("portfolio:project", "page", "7", "10", "first")).thenReturn(pageKey);
+
+        projectCacheService.cacheProjectsPage(7L, null, 10, page);
+
+        verify(cacheBackend).set(eq(pageKey), eq(page), eq(60L), eq(TimeUnit.MINUTES));
+        verify(projectLocalCacheService).putLocal(pageKey, page);
+        verify(cacheBackend, never()).tag(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void shouldGetCachedProjectsPage() {
+        ProjectViewPage page = new ProjectViewPage(List.of(createMockProject()), "next");
+        String pageKey = "portfolio:project:page:7:10:abc";
+
+        when(keyGenerator.generateKey("portfolio:project", "page", "7", "10", "abc")).thenReturn(pageKey);
+        when(cacheBackend.get(pageKey)).thenReturn(page);
+
+        ProjectViewPage result = projectCacheService.getCachedProjectsPage(7L, "abc", 10);
+
+        assertNotNull(result);
+        assertEquals("next", result.nextCursor());
+        assertEquals("Test Project", result.items().getFirst().name());
+    }
+
+    @Test
+    void shouldInvalidateProjectsListByBumpingGenerationOnly() {
+        projectCacheService.invalidateProjectsList();
+
+        verify(projectVersionService).bump();
+        verifyNoInteractions(cacheBackend, projectLocalCacheService, projectResponseCacheService);
+    }
+
+    @Test
+    void shouldDeferGenerationBumpUntilTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            projectCacheService.invalidateProjectsList();
+
+            verify(projectVersionService, never()).bump();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(projectVersionService).bump();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldSkipRemainingWritesWhenNewerVersionIsAlreadyCached() {
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(cacheBackend.hashSet(eq("portfolio:project:1"), any(), eq(ProjectHashCodec.VERSION), anyLong(), any()))
+                .thenReturn(false);
+
+        projectCacheService.cache(1L, createMockProject());
+
+        verify(projectLocalCacheService, never()).put(any(), any(), anyLong(), any(), any());
+        verify(cacheBackend, never()).setString(any(), any(), anyLong(), any());
+        verify(cacheBackend, never()).tag(any(), any(), anyLong(), any());
+        verifyNoInteractions(projectResponseCacheService);
+        assertEquals(1, cacheMetrics.staleWrites(ProjectCacheFamilies.ID));
+    }
+
+    @Test
+    void shouldNotReplaceNewerLocalEntryWithOlderSnapshot() {
+        ProjectView older = projectAtVersion(3);
+        ProjectView newer = projectAtVersion(4);
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(cacheBackend.hashSet(any(), any(), any(), anyLong(), any())).thenReturn(true);
+
+        projectCacheService.cache(1L, older);
+
+        ArgumentCaptor<Predicate<Object>> replaces = ArgumentCaptor.captor();
+        verify(projectLocalCacheService).put(eq("portfolio:project:1"), any(), eq(60L), eq(TimeUnit.MINUTES), replaces.capture());
+        assertFalse(replaces.getValue().test(new CacheEntry<>(newer, Long.MAX_VALUE)));
+        assertTrue(replaces.getValue().test(new CacheEntry<>(older, Long.MAX_VALUE)));
+        assertTrue(replaces.getValue().test(new CacheEntry<>(projectAtVersion(0), Long.MAX_VALUE)));
+    }
+
+    @Test
+    void shouldUpdateOnlyChangedFieldsOfCachedProject() {
+        ProjectView project = createMockProject();
+        String projectKey = "portfolio:project:1";
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(projectKey);
+        when(cacheBackend.hashUpdate(eq(projectKey), any(), eq(ProjectHashCodec.VERSION))).thenReturn(true);
+
+        projectCacheService.cacheFields(project, ProjectHashCodec.FEATURES);
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.captor();
+        verify(cacheBackend).hashUpdate(eq(projectKey), fields.capture(), eq(ProjectHashCodec.VERSION));
+        assertEquals(Set.of(ProjectHashCodec.FEATURES, ProjectHashCodec.LAST_MODIFIED_AT, ProjectHashCodec.VERSION),
+                fields.getValue().keySet());
+        verify(cacheBackend, never()).hashSet(any(), any(), any(), anyLong(), any());
+        verify(projectLocalCacheService).evict(projectKey);
+        verify(projectResponseCacheService).invalidateProject(1L, "test-project");
+    }
+
+    @Test
+    void shouldInvalidateProjectWhenFieldUpdateFails() {
+        ProjectView project = createMockProject();
+        String projectKey = "portfolio:project:1";
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn(projectKey);
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn("portfolio:project:slug:test-project");
+        when(keyGenerator.generateKey("portfolio:project", "slug-of", "1")).thenReturn("portfolio:project:slug-of:1");
+        when(cacheBackend.hashUpdate(eq(projectKey), any(), eq(ProjectHashCodec.VERSION))).thenThrow(new RuntimeException("redis down"));
+        when(cacheBackend.invalidateTag(ProjectCacheTags.project(1L))).thenReturn(Set.of());
+
+        projectCacheService.cacheFields(project, ProjectHashCodec.PROJECT_IMAGES);
+
+        verify(cacheBackend).delete(Set.of(projectKey, "portfolio:project:slug:test-project", "portfolio:project:slug-of:1"));
+        verify(projectResponseCacheService).invalidateProject(1L, "test-project");
+    }
+
+    @Test
+    void shouldUpdateCoverImageTogetherWithProjectImages() {
+        ProjectView project = createMockProject();
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+
+        projectCacheService.cacheFields(project, ProjectHashCodec.PROJECT_IMAGES);
+
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.captor();
+        verify(cacheBackend).hashUpdate(eq("portfolio:project:1"), fields.capture(), eq(ProjectHashCodec.VERSION));
+        assertTrue(fields.getValue().keySet().containsAll(
+                List.of(ProjectHashCodec.PROJECT_IMAGES, ProjectHashCodec.COVER_IMAGE, ProjectHashCodec.VERSION)));
+    }
+
+    @Test
+    void shouldReadSummaryWithSummaryFieldsOnly() {
+        ProjectView project = createMockProject();
+        List<String> summaryHash = summaryHash(project);
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(cacheBackend.hashGet("portfolio:project:1", ProjectHashCodec.SUMMARY_FIELDS)).thenReturn(summaryHash);
+
+        assertEquals(ProjectSummaryView.fromView(project), projectCacheService.getSummary(1L));
+        verify(cacheBackend, never()).hashGet("portfolio:project:1", ProjectHashCodec.FIELDS);
+        verify(projectLocalCacheService, never()).putLocal(eq("portfolio:project:1"), any());
+    }
+
+    @Test
+    void shouldServeSummaryFromLocalProjectEntry() {
+        ProjectView project = createMockProject();
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(projectLocalCacheService.get("portfolio:project:1")).thenReturn(CacheEntry.fresh(project));
+
+        assertEquals(ProjectSummaryView.fromView(project), projectCacheService.getSummary(1L));
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldResolveSummaryBySlugWithSummaryFields() {
+        ProjectView project = createMockProject();
+        String slugKey = "portfolio:project:slug:test-project";
+        List<String> summaryHash = summaryHash(project);
+
+        when(keyGenerator.generateKey("portfolio:project", "slug", "test-project")).thenReturn(slugKey);
+        when(keyGenerator.generateKey("portfolio:project", "")).thenReturn("portfolio:project:");
+        when(cacheBackend.hashGetByPointer(slugKey, "portfolio:project:", ProjectHashCodec.SUMMARY_FIELDS))
+                .thenReturn(new PointerHash("1", summaryHash));
+
+        assertEquals(ProjectSummaryView.fromView(project), projectCacheService.getSummaryBySlug("test-project"));
+        assertEquals(1, cacheMetrics.hits(ProjectCacheFamilies.SLUG));
+        verify(projectLocalCacheService).putLocal(slugKey, 1L);
+    }
+
+    @Test
+    void shouldTreatIncompleteHashAsMiss() {
+        List<String> incomplete = new ArrayList<>(hash(createMockProject(), Long.MAX_VALUE));
+        incomplete.set(ProjectHashCodec.FIELDS.indexOf(ProjectHashCodec.FEATURES), null);
+
+        when(keyGenerator.generateKey("portfolio:project", "1")).thenReturn("portfolio:project:1");
+        when(cacheBackend.hashGet("portfolio:project:1", ProjectHashCodec.FIELDS)).thenReturn(incomplete);
+
+        assertNull(projectCacheService.get(1L));
+    }
+
+    @Test
+    void shouldWriteShortLivedTombstoneForMissingProject() {
+        String missingKey = "portfolio:project:missing:7";
+        when(keyGenerator.generateKey("portfolio:project", "missing", "7")).thenReturn(missingKey);
+
+        projectCacheService.markMissing(7L);
+
+        verify(cacheBackend).setString(missingKey, "1", 30_000L, TimeUnit.MILLISECONDS);
+        verify(projectLocalCacheService).putLocal(missingKey, "1", 30_000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldReportMissingProjectFromLocalTombstoneWithoutRemoteCall() {
+        String missingKey = "portfolio:project:missing:7";
+        when(keyGenerator.generateKey("portfolio:project", "missing", "7")).thenReturn(missingKey);
+        when(projectLocalCacheService.get(missingKey)).thenReturn("1");
+
+        assertTrue(projectCacheService.isMissing(7L));
+        verify(cacheBackend, never()).getString(any());
+        assertEquals(1, cacheMetrics.hits(ProjectCacheFamilies.NEGATIVE));
+    }
+
+    @Test
+    void shouldReportMissingSlugFromRemoteTombstone() {
+        String missingKey = "portfolio:project:missing:slug:ghost";
+        when(keyGenerator.generateKey("portfolio:project", "missing", "slug", "ghost")).thenReturn(missingKey);
+        when(cacheBackend.getString(missingKey)).thenReturn("1");
+
+        assertTrue(projectCacheService.isSlugMissing("ghost"));
+    }
+
+    @Test
+    void shouldTreatUnreadableTombstoneAsAbsent() {
+        String missingKey = "portfolio:project:missing:7";
+        when(keyGenerator.generateKey("portfolio:project", "missing", "7")).thenReturn(missingKey);
+        when(cacheBackend.getString(missingKey)).thenThrow(new RuntimeException("Redis down"));
+
+        assertFalse(projectCacheService.isMissing(7L));
+        assertEquals(1, cacheMetrics.misses(ProjectCacheFamilies.NEGATIVE));
+    }
+
+    @Test
+    void shouldClearTombstonesOnlyAfterTransactionCommits() {
+        String missingKey = "portfolio:project:missing:7";
+        String missingSlugKey = "portfolio:project:missing:slug:ghost";
+        when(keyGenerator.generateKey("portfolio:project", "missing", "7")).thenReturn(missingKey);
+        when(keyGenerator.generateKey("portfolio:project", "missing", "slug", "ghost")).thenReturn(missingSlugKey);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            projectCacheService.clearMissing(7L, "ghost");
+
+            verify(cacheBackend, never()).delete(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cacheBackend).delete(List.of(missingKey, missingSlugKey));
+            verify(projectLocalCacheService).evict(missingKey);
+            verify(projectLocalCacheService).evict(missingSlugKey);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ProjectView projectAtVersion(long version) {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Test Project");
+        project.setSlug("test-project");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setVersion(version);
+        return ProjectView.fromProject(project);
+    }
+
+    private List<String> summaryHash(ProjectView project) {
+        Map<String, String> hash = projectHashCodec.encode(CacheEntry.fresh(project));
+        return ProjectHashCodec.SUMMARY_FIELDS.stream().map(hash::get).toList();
+    }
+
+    private List<String> hash(ProjectView project, long softExpiresAt) {
+        Map<String, String> hash = projectHashCodec.encode(new CacheEntry<>(project, softExpiresAt));
+        return ProjectHashCodec.FIELDS.stream().map(hash::get).toList();
     }
-}
\ No newline at end of file
+}
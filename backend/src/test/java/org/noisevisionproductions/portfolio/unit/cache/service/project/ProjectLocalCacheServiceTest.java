@@ -0,0 +1,105 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.base.ShardedLocalCache;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectLocalCacheService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectLocalCacheServiceTest {
+
+    @Mock
+    private CacheBackend cacheBackend;
+
+    private ShardedLocalCache<String, Object> localCache;
+    private ProjectLocalCacheService projectLocalCacheService;
+
+    @BeforeEach
+    void setUp() {
+        localCache = new ShardedLocalCache<>(10, Duration.ofMinutes(5), 4);
+        projectLocalCacheService = new ProjectLocalCacheService(localCache, cacheBackend);
+    }
+
+    @Test
+    void shouldServeCachedValueAndBroadcastWrite() {
+        projectLocalCacheService.put("portfolio:project:1", "project", 60, TimeUnit.MINUTES);
+
+        assertEquals("project", projectLocalCacheService.get("portfolio:project:1"));
+        verify(cacheBackend).publish(eq(ProjectLocalCacheService.INVALIDATION_CHANNEL),
+                endsWith("|portfolio:project:1"));
+    }
+
+    @Test
+    void shouldKeepNewerValueAndSkipBroadcastWhenConditionalWriteIsRefused() {
+        localCache.put("portfolio:project:1", "newer");
+
+        projectLocalCacheService.put("portfolio:project:1", "older", 60, TimeUnit.MINUTES, current -> false);
+
+        assertEquals("newer", projectLocalCacheService.get("portfolio:project:1"));
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldNotBroadcastReadThroughPopulation() {
+        projectLocalCacheService.putLocal("portfolio:project:1", "project");
+
+        assertEquals("project", projectLocalCacheService.get("portfolio:project:1"));
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldEvictEntryOnMessageFromAnotherNode() {
+        localCache.put("portfolio:project:1", "project");
+
+        projectLocalCacheService.onMessage("other-node|portfolio:project:1");
+
+        assertNull(projectLocalCacheService.get("portfolio:project:1"));
+    }
+
+    @Test
+    void shouldIgnoreOwnBroadcasts() {
+        projectLocalCacheService.put("portfolio:project:1", "project");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(cacheBackend).publish(anyString(), payload.capture());
+
+        projectLocalCacheService.onMessage(payload.getValue());
+
+        assertEquals("project", projectLocalCacheService.get("portfolio:project:1"));
+    }
+
+    @Test
+    void shouldEvictLocallyEvenWhenBroadcastFails() {
+        localCache.put("portfolio:project:1", "project");
+        doThrow(new RuntimeException("Redis down")).when(cacheBackend).publish(anyString(), anyString());
+
+        projectLocalCacheService.evict("portfolio:project:1");
+
+        assertNull(projectLocalCacheService.get("portfolio:project:1"));
+    }
+
+    @Test
+    void shouldSubscribeToInvalidationChannel() {
+        localCache.put("portfolio:project:1", "project");
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.captor();
+
+        projectLocalCacheService.subscribe();
+        verify(cacheBackend).subscribe(eq(ProjectLocalCacheService.INVALIDATION_CHANNEL), listener.capture());
+        listener.getValue().accept("other-node|portfolio:project:1");
+
+        assertNull(projectLocalCacheService.get("portfolio:project:1"));
+    }
+}
@@ -0,0 +1,145 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.project;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheTags;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectResponseCacheService;
+import org.noisevisionproductions.portfolio.cache.utils.CacheKeyGenerator;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectResponseCacheServiceTest {
+
+    @Mock
+    private CacheBackend cacheBackend;
+
+    private CacheMetrics cacheMetrics;
+    private ProjectResponseCacheService projectResponseCacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheMetrics = new CacheMetrics();
+        projectResponseCacheService = new ProjectResponseCacheService(
+                cacheBackend, new CacheKeyGenerator(), new ObjectMapper(), cacheMetrics);
+    }
+
+    @Test
+    void shouldReturnCachedBytesWithoutMapping() {
+        byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        when(cacheBackend.getBytes("portfolio:project:response:1")).thenReturn(json);
+
+        assertSame(json, projectResponseCacheService.getProject(1L));
+        assertNull(projectResponseCacheService.getProjectBySlug("missing"));
+        assertEquals(1, cacheMetrics.hits(ProjectCacheFamilies.RESPONSE));
+        assertEquals(1, cacheMetrics.misses(ProjectCacheFamilies.RESPONSE));
+    }
+
+    @Test
+    void shouldMaterializeProjectUnderIdAndSlugKeys() {
+        ProjectView project = createProject();
+
+        byte[] json = projectResponseCacheService.cacheProject(project);
+
+        String body = new String(json, StandardCharsets.UTF_8);
+        assertTrue(body.contains("\"slug\":\"test-project\""));
+        assertFalse(body.contains("@class"));
+        verify(cacheBackend).setBytes("portfolio:project:response:1", json, 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).setBytes("portfolio:project:response:slug:test-project", json, 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).tag(ProjectCacheTags.project(1L),
+                List.of("portfolio:project:response:1", "portfolio:project:response:slug:test-project"), 60L, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void shouldCacheOnlyFullProjectResponses() {
+        ProjectView project = createProject();
+
+        projectResponseCacheService.cacheProject(project);
+
+        verify(cacheBackend).setBytes(eq("portfolio:project:response:1"), any(byte[].class), eq(60L), eq(TimeUnit.MINUTES));
+        verify(cacheBackend).setBytes(eq("portfolio:project:response:slug:test-project"), any(byte[].class), eq(60L), eq(TimeUnit.MINUTES));
+        verify(cacheBackend).tag(eq(ProjectCacheTags.project(1L)), anyList(), eq(60L), eq(TimeUnit.MINUTES));
+        verifyNoMoreInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldCacheEmptyProjectsListSoWaitersSeeIt() {
+        byte[] json = projectResponseCacheService.cacheProjectsList(7L, List.of());
+        byte[] summaries = projectResponseCacheService.cacheProjectSummaries(7L, List.of());
+
+        assertEquals("[]", new String(json, StandardCharsets.UTF_8));
+        verify(cacheBackend).setBytes("portfolio:project:response:all:7", json, 60L, TimeUnit.MINUTES);
+        verify(cacheBackend).setBytes("portfolio:project:response:summary:all:7", summaries, 60L, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void shouldStillRenderResponseWhenRedisIsUnavailable() {
+        doThrow(new RuntimeException("Redis down"))
+                .when(cacheBackend).setBytes(anyString(), any(byte[].class), anyLong(), any(TimeUnit.class));
+
+        byte[] json = projectResponseCacheService.cacheProjectsList(7L, List.of(createProject()));
+
+        assertTrue(new String(json, StandardCharsets.UTF_8).startsWith("[{"));
+    }
+
+    @Test
+    void shouldCacheProjectsListUnderGenerationKey() {
+
+        projectResponseCacheService.cacheProjectsList(7L, List.of(createProject()));
+
+        verify(cacheBackend).setBytes(eq("portfolio:project:response:all:7"), any(byte[].class), eq(60L), eq(TimeUnit.MINUTES));
+    }
+
+    @Test
+    void shouldTreatMissingGenerationAsListMiss() {
+        assertNull(projectResponseCacheService.getProjectsList(null));
+        assertNull(projectResponseCacheService.getProjectSummaries(null));
+
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldInvalidateProjectKeys() {
+        projectResponseCacheService.invalidateProject(1L, "test-project");
+
+        verify(cacheBackend).delete(List.of(
+                "portfolio:project:response:1",
+                "portfolio:project:response:slug:test-project"));
+        verifyNoMoreInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldSkipDeleteWhenNothingToInvalidate() {
+        projectResponseCacheService.invalidateProject(null, null);
+
+        verifyNoInteractions(cacheBackend);
+    }
+
+    private ProjectView createProject() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Test Project");
+        project.setSlug("test-project");
+        return ProjectView.fromProject(project);
+    }
+}
@@ -0,0 +1,114 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.config.SingleFlightProperties;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectSingleFlightService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSingleFlightServiceTest {
+
+    @Mock
+    private CacheBackend cacheBackend;
+
+    private ProjectSingleFlightService projectSingleFlightService;
+
+    @BeforeEach
+    void setUp() {
+        SingleFlightProperties properties = new SingleFlightProperties();
+        properties.setLockTtl(Duration.ofMillis(200));
+        properties.setPollInterval(Duration.ofMillis(10));
+        projectSingleFlightService = new ProjectSingleFlightService(cacheBackend, properties);
+    }
+
+    @Test
+    void shouldLoadAndReleaseLock_WhenLockIsAcquired() {
+        when(cacheBackend.setStringIfAbsent(eq("portfolio:project:lock:all"), anyString(), eq(200L), eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(true);
+
+        String result = projectSingleFlightService.load("all", () -> null, () -> "loaded");
+
+        assertEquals("loaded", result);
+        verify(cacheBackend).deleteIfEquals(eq("portfolio:project:lock:all"), anyString());
+    }
+
+    @Test
+    void shouldReuseValueLoadedByLockHolder() {
+        AtomicInteger lookups = new AtomicInteger();
+        when(cacheBackend.setStringIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        when(cacheBackend.getString("portfolio:project:lock:all")).thenReturn("holder");
+
+        String result = projectSingleFlightService.load("all",
+                () -> lookups.incrementAndGet() < 3 ? null : "cached",
+                () -> fail("Loader must not run while another node holds the lock"));
+
+        assertEquals("cached", result);
+        verify(cacheBackend, never()).deleteIfEquals(anyString(), anyString());
+    }
+
+    @Test
+    void shouldLoadLocally_WhenLockHolderDoesNotPopulateCacheInTime() {
+        when(cacheBackend.setStringIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        when(cacheBackend.getString("portfolio:project:lock:all")).thenReturn("holder");
+
+        assertEquals("loaded", projectSingleFlightService.load("all", () -> null, () -> "loaded"));
+    }
+
+    @Test
+    void shouldStopWaiting_WhenLockHolderMarksKeyMissing() {
+        AtomicInteger checks = new AtomicInteger();
+        when(cacheBackend.setStringIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        long start = System.nanoTime();
+        String result = projectSingleFlightService.load("id:404", () -> null,
+                () -> checks.incrementAndGet() >= 2,
+                () -> fail("Loader must not run once the lock holder recorded a miss"));
+
+        assertNull(result);
+        assertEquals(2, checks.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(200)) < 0);
+    }
+
+    @Test
+    void shouldTakeOverLock_WhenHolderReleasesItWithoutCachingValue() {
+        AtomicInteger loads = new AtomicInteger();
+        when(cacheBackend.setStringIfAbsent(eq("portfolio:project:lock:all"), anyString(), anyLong(), any(TimeUnit.class)))
+                .thenReturn(false)
+                .thenReturn(true);
+        when(cacheBackend.getString("portfolio:project:lock:all")).thenReturn(null);
+
+        long start = System.nanoTime();
+        String result = projectSingleFlightService.load("all", () -> null, () -> {
+            loads.incrementAndGet();
+            return "loaded";
+        });
+
+        assertEquals("loaded", result);
+        assertEquals(1, loads.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(200)) < 0);
+        verify(cacheBackend).deleteIfEquals(eq("portfolio:project:lock:all"), anyString());
+    }
+
+    @Test
+    void shouldLoad_WhenRedisIsUnavailable() {
+        when(cacheBackend.setStringIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
+                .thenThrow(new RuntimeException("Redis down"));
+
+        assertEquals("loaded", projectSingleFlightService.load("all", () -> null, () -> "loaded"));
+    }
+}
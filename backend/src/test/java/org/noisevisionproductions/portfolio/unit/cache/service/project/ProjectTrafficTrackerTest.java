@@ -0,0 +1,78 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectTrafficTracker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectTrafficTrackerTest {
+
+    @Mock
+    private CacheBackend cacheBackend;
+
+    @InjectMocks
+    private ProjectTrafficTracker projectTrafficTracker;
+
+    @Test
+    void flush_ShouldSkipRedis_WhenNothingWasRecorded() {
+        projectTrafficTracker.flush();
+
+        verifyNoInteractions(cacheBackend);
+    }
+
+    @Test
+    void flush_ShouldSendCountersOnceAndReset() {
+        projectTrafficTracker.record(1L);
+        projectTrafficTracker.record(1L);
+
+        projectTrafficTracker.flush();
+        projectTrafficTracker.flush();
+
+        verify(cacheBackend, times(1)).incrementScores(ProjectTrafficTracker.TRAFFIC_KEY, Map.of("1", 2L),
+                TimeUnit.DAYS.toMillis(7), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void flush_ShouldKeepCounters_WhenRedisFails() {
+        doThrow(new RuntimeException("Redis down"))
+                .when(cacheBackend).incrementScores(anyString(), anyMap(), anyLong(), any(TimeUnit.class));
+        projectTrafficTracker.record(1L);
+
+        projectTrafficTracker.flush();
+        projectTrafficTracker.flush();
+
+        verify(cacheBackend, times(2)).incrementScores(eq(ProjectTrafficTracker.TRAFFIC_KEY), eq(Map.of("1", 1L)),
+                anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void top_ShouldReturnIdsByDescendingTraffic() {
+        when(cacheBackend.topScores(ProjectTrafficTracker.TRAFFIC_KEY, 2)).thenReturn(List.of("3", "1"));
+
+        assertThat(projectTrafficTracker.top(2)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void top_ShouldReturnEmptyList_WhenRedisFails() {
+        when(cacheBackend.topScores(anyString(), anyInt())).thenThrow(new RuntimeException("Redis down"));
+
+        assertThat(projectTrafficTracker.top(5)).isEmpty();
+    }
+}
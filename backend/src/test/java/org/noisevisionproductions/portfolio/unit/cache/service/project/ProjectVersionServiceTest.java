@@ -0,0 +1,145 @@
+package org.noisevisionproductions.portfolio.unit.cache.service.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.model.project.ProjectVersion;
+import org.noisevisionproductions.portfolio.cache.service.base.CacheBackend;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectVersionServiceTest {
+
+    private static final List<String> KEYS = List.of("portfolio:project:version", "portfolio:project:version:modified");
+
+    @Mock
+    private CacheBackend cacheBackend;
+
+    @InjectMocks
+    private ProjectVersionService projectVersionService;
+
+    @Test
+    void shouldReturnCurrentVersionAndLastModified() {
+        when(cacheBackend.multiGetStrings(KEYS)).thenReturn(List.of("12", "1700000000000"));
+
+        ProjectVersion version = projectVersionService.current();
+
+        assertEquals(new ProjectVersion(12L, 1_700_000_000_000L), version);
+        assertEquals("\"projects-12\"", version.etag("projects"));
+        verify(cacheBackend, never()).setStringIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    void shouldRefreshMemoizedGenerationWhenCurrentVersionIsRead() {
+        when(cacheBackend.getString("portfolio:project:version")).thenReturn("12");
+        when(cacheBackend.multiGetStrings(KEYS)).thenReturn(List.of("13", "1700000000000"));
+
+        assertEquals(12L, projectVersionService.generation());
+        projectVersionService.current();
+
+        assertEquals(13L, projectVersionService.generation());
+        verify(cacheBackend, times(1)).getString("portfolio:project:version");
+    }
+
+    @Test
+    void shouldSeedMissingVersionWithCurrentTime() {
+        when(cacheBackend.multiGetStrings(KEYS))
+                .thenReturn(Arrays.asList(null, null))
+                .thenReturn(List.of("1700000000000", "1700000000000"));
+
+        ProjectVersion version = projectVersionService.current();
+
+        assertEquals(1_700_000_000_000L, version.version());
+        verify(cacheBackend).setStringIfAbsent(eq("portfolio:project:version"), anyString());
+        verify(cacheBackend).setStringIfAbsent(eq("portfolio:project:version:modified"), anyString());
+    }
+
+    @Test
+    void shouldIncrementVersionAndModifiedTimeInOneCallOnBump() {
+        when(cacheBackend.incrementVersion(eq(KEYS.get(0)), eq(KEYS.get(1)), anyLong())).thenReturn(13L);
+
+        projectVersionService.bump();
+
+        assertEquals(13L, projectVersionService.generation());
+        verifyNoMoreInteractions(cacheBackend);
+    }
+
+    @Test
+    void shouldReportGenerationsProducedByLocalBumps() {
+        when(cacheBackend.incrementVersion(eq(KEYS.get(0)), eq(KEYS.get(1)), anyLong())).thenReturn(13L, 14L);
+
+        projectVersionService.bump();
+        projectVersionService.bump();
+
+        assertTrue(projectVersionService.producedLocally(12L, 14L));
+        assertTrue(projectVersionService.producedLocally(13L, 14L));
+        assertFalse(projectVersionService.producedLocally(12L, 15L));
+        assertFalse(projectVersionService.producedLocally(null, 14L));
+    }
+
+    @Test
+    void shouldNotReportGenerationsSkippedByRemoteBumps() {
+        when(cacheBackend.incrementVersion(eq(KEYS.get(0)), eq(KEYS.get(1)), anyLong())).thenReturn(13L, 15L);
+
+        projectVersionService.bump();
+        projectVersionService.bump();
+
+        assertTrue(projectVersionService.producedLocally(12L, 13L));
+        assertFalse(projectVersionService.producedLocally(12L, 15L));
+        assertTrue(projectVersionService.producedLocally(14L, 15L));
+    }
+
+    @Test
+    void shouldMemoizeGenerationBetweenReads() {
+        when(cacheBackend.getString("portfolio:project:version")).thenReturn("12");
+
+        assertEquals(12L, projectVersionService.generation());
+        assertEquals(12L, projectVersionService.generation());
+
+        verify(cacheBackend, times(1)).getString("portfolio:project:version");
+    }
+
+    @Test
+    void shouldSeedMissingGeneration() {
+        when(cacheBackend.getString("portfolio:project:version")).thenReturn(null).thenReturn("1700000000000");
+
+        assertEquals(1_700_000_000_000L, projectVersionService.generation());
+        verify(cacheBackend).setStringIfAbsent(eq("portfolio:project:version"), anyString());
+    }
+
+    @Test
+    void shouldRereadGenerationAfterFailedBump() {
+        when(cacheBackend.incrementVersion(eq(KEYS.get(0)), eq(KEYS.get(1)), anyLong()))
+                .thenReturn(13L)
+                .thenThrow(new RuntimeException("Redis down"));
+        when(cacheBackend.getString("portfolio:project:version")).thenReturn("14");
+
+        projectVersionService.bump();
+        projectVersionService.bump();
+
+        assertEquals(14L, projectVersionService.generation());
+    }
+
+    @Test
+    void shouldReturnNullWhenRedisIsUnavailable() {
+        when(cacheBackend.multiGetStrings(KEYS)).thenThrow(new RuntimeException("Redis down"));
+        when(cacheBackend.getString(KEYS.get(0))).thenThrow(new RuntimeException("Redis down"));
+        when(cacheBackend.incrementVersion(eq(KEYS.get(0)), eq(KEYS.get(1)), anyLong()))
+                .thenThrow(new RuntimeException("Redis down"));
+
+        assertNull(projectVersionService.current());
+        assertNull(projectVersionService.generation());
+        assertDoesNotThrow(() -> projectVersionService.bump());
+    }
+}
@@ -0,0 +1,66 @@
+package org.noisevisionproductions.portfolio.unit.cache.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.utils.TransactionCallbacks;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCallbacksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRunImmediatelyOutsideTransaction() {
+        List<String> calls = new ArrayList<>();
+
+        TransactionCallbacks.afterCommit(() -> calls.add("run"));
+
+        assertEquals(List.of("run"), calls);
+    }
+
+    @Test
+    void shouldDeferUntilCommitAndSkipOnRollback() {
+        List<String> calls = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(() -> calls.add("run"));
+
+        assertTrue(calls.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void shouldRunNestedCallbacksRegisteredWhileCommitting() {
+        List<String> calls = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionCallbacks.afterCommit(() -> {
+            calls.add("outer");
+            TransactionCallbacks.afterCommit(() -> calls.add("inner"));
+        });
+        List.copyOf(TransactionSynchronizationManager.getSynchronizations())
+                .forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of("outer", "inner"), calls);
+    }
+
+    @Test
+    void shouldNotPropagateFailuresToCommittedCaller() {
+        assertDoesNotThrow(() -> TransactionCallbacks.afterCommit(() -> {
+            throw new IllegalStateException("index unavailable");
+        }));
+    }
+}
@@ -5,19 +5,38 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.model.project.ProjectVersion;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
 import org.noisevisionproductions.portfolio.projectsManagement.controller.ProjectController;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
+import org.noisevisionproductions.portfolio.projectsManagement.exceptions.InvalidFieldsetException;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectFilterPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSearchPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectMapper;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -28,6 +47,18 @@ class ProjectControllerTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ProjectQueryService projectQueryService;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private ProjectSearchIndex projectSearchIndex;
+
+    @Mock
+    private ProjectFacetIndex projectFacetIndex;
+
     @Mock
     private ProjectMapper projectMapper;
 
@@ -58,86 +89,241 @@ class ProjectControllerTest {
     }
 
     @Test
-    void getAllProjects_ShouldReturnListOfProjects() {
-        List<Project> projects = List.of(
-                createTestProject(1L, "Project 1", "project-1"),
-                createTestProject(2L, "Project 2", "project-2")
-        );
-        List<ProjectDTO> projectDTOs = List.of(
-                createTestProjectDTO(1L, "Project 1", "project-1"),
-                createTestProjectDTO(2L, "Project 2", "project-2")
-        );
+    void getAllProjects_ShouldReturnPreSerializedJson() {
+        byte[] json = "[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+
+        when(projectVersionService.generation()).thenReturn(5L);
+        when(projectQueryService.getAllProjectsJson(5L)).thenReturn(json);
+
+        ResponseEntity<byte[]> response = projectController.getAllProjects(null, webRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isSameAs(json);
+
+        verify(projectQueryService).getAllProjectsJson(5L);
+        verifyNoInteractions(projectMapper);
+    }
+
+    @Test
+    void getAllProjects_ShouldSetValidators_WhenVersionIsKnown() {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        when(projectVersionService.current()).thenReturn(new ProjectVersion(7L, 1_700_000_000_000L));
+        when(projectQueryService.getAllProjectsJson(7L)).thenReturn("[]".getBytes(StandardCharsets.UTF_8));
+
+        ResponseEntity<byte[]> response = projectController.getAllProjects(null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/projects"), servletResponse));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"projects-7\"");
+        assertThat(servletResponse.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(1_700_000_000_000L);
+        verify(projectVersionService, never()).generation();
+    }
+
+    @Test
+    void getAllProjects_ShouldReturnNotModified_WhenEtagMatches() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/projects");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"projects-7\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        when(projectVersionService.current()).thenReturn(new ProjectVersion(7L, 1_700_000_000_000L));
+
+        ResponseEntity<byte[]> response = projectController.getAllProjects(null,
+                new ServletWebRequest(servletRequest, servletResponse));
+
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verifyNoInteractions(projectQueryService);
+    }
+
+    @Test
+    void getProjectById_ShouldReturnNotModified_WhenNotModifiedSinceLastMutation() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/projects/1");
+        servletRequest.addHeader(HttpHeaders.IF_MODIFIED_SINCE, 1_700_000_060_000L);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        when(projectQueryService.findProjectById(1L)).thenReturn(createVersionedProjectView(1L, 7L));
+
+        ResponseEntity<byte[]> response = projectController.getProjectById(1L, null,
+                new ServletWebRequest(servletRequest, servletResponse));
+
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verify(projectQueryService, never()).getProjectJsonById(any());
+    }
+
+    @Test
+    void getProjectById_ShouldDeriveEtagFromProjectVersion_NotGlobalGeneration() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/projects/1");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"project-1-7\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        when(projectQueryService.findProjectById(1L)).thenReturn(createVersionedProjectView(1L, 7L));
+
+        ResponseEntity<byte[]> response = projectController.getProjectById(1L, null,
+                new ServletWebRequest(servletRequest, servletResponse));
+
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verifyNoInteractions(projectVersionService);
+    }
+
+    @Test
+    void getProjectBySlug_ShouldShareEtagWithIdEndpointPerFieldset() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/projects/slug/project-1");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"project-1-summary-7\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        when(projectQueryService.findProjectBySlug("project-1")).thenReturn(createVersionedProjectView(1L, 7L));
+
+        ResponseEntity<byte[]> response = projectController.getProjectBySlug("project-1", "summary",
+                new ServletWebRequest(servletRequest, servletResponse));
+
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verify(projectQueryService, never()).getProjectSummaryJsonBySlug(any());
+    }
+
+    @Test
+    void getProjectById_ShouldReturnBody_WhenEtagIsStale() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/projects/1");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"project-1-6\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        when(projectQueryService.findProjectById(1L)).thenReturn(createVersionedProjectView(1L, 7L));
+        when(projectQueryService.getProjectJsonById(1L)).thenReturn(json);
+
+        ResponseEntity<byte[]> response = projectController.getProjectById(1L, null,
+                new ServletWebRequest(servletRequest, servletResponse));
+
+        assertThat(response.getBody()).isSameAs(json);
+        assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"project-1-7\"");
+    }
 
-        when(projectService.getAllProjects()).thenReturn(projects);
-        when(projectMapper.toDTO(projects.get(0))).thenReturn(projectDTOs.get(0));
-        when(projectMapper.toDTO(projects.get(1))).thenReturn(projectDTOs.get(1));
+    @Test
+    void getAllProjects_ShouldServeSummaryView_WhenRequested() {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        byte[] json = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        when(projectVersionService.current()).thenReturn(new ProjectVersion(7L, 1_700_000_000_000L));
+        when(projectQueryService.getAllProjectSummariesJson(7L)).thenReturn(json);
+
+        ResponseEntity<byte[]> response = projectController.getAllProjects("summary",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/projects"), servletResponse));
+
+        assertThat(response.getBody()).isSameAs(json);
+        assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isEqualTo("\"projects-summary-7\"");
+        verify(projectQueryService, never()).getAllProjectsJson(any());
+    }
 
-        ResponseEntity<List<ProjectDTO>> response = projectController.getAllProjects();
+    @Test
+    void getProjectById_ShouldServeSummaryView_WhenRequested() {
+        byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        when(projectQueryService.findProjectById(1L)).thenReturn(createTestProjectView(1L, "Project 1", "project-1"));
+        when(projectQueryService.getProjectSummaryJsonById(1L)).thenReturn(json);
+
+        ResponseEntity<byte[]> response = projectController.getProjectById(1L, "SUMMARY", webRequest());
+
+        assertThat(response.getBody()).isSameAs(json);
+        verify(projectQueryService, never()).getProjectJsonById(any());
+    }
+
+    @Test
+    void getProjectBySlug_ShouldServeSummaryView_WhenRequested() {
+        byte[] json = "{\"slug\":\"test-project\"}".getBytes(StandardCharsets.UTF_8);
+        when(projectQueryService.findProjectBySlug("test-project")).thenReturn(createTestProjectView(1L, "Test", "test-project"));
+        when(projectQueryService.getProjectSummaryJsonBySlug("test-project")).thenReturn(json);
+
+        ResponseEntity<byte[]> response = projectController.getProjectBySlug("test-project", "summary", webRequest());
+
+        assertThat(response.getBody()).isSameAs(json);
+    }
+
+    @Test
+    void getAllProjects_ShouldRejectUnknownView() {
+        assertThatThrownBy(() -> projectController.getAllProjects("compact", webRequest()))
+                .isInstanceOf(InvalidFieldsetException.class);
+        verifyNoInteractions(projectQueryService);
+    }
+
+    @Test
+    void searchProjects_ShouldReturnIndexResults() {
+        ProjectSearchPage page = new ProjectSearchPage(List.of(), 0, 20, 0);
+        when(projectSearchIndex.search("spring", 0, 20)).thenReturn(page);
+
+        ResponseEntity<ProjectSearchPage> response = projectController.searchProjects("spring", 0, 20);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody())
-                .isNotNull()
-                .hasSize(2)
-                .containsExactlyElementsOf(projectDTOs);
+        assertThat(response.getBody()).isSameAs(page);
+        verifyNoInteractions(projectQueryService);
+    }
+
+    @Test
+    void filterProjects_ShouldDelegateToFacetIndex() {
+        ProjectFilterPage page = new ProjectFilterPage(List.of(), 0, 20, 0, null, null);
+        when(projectFacetIndex.filter(List.of("Java"), null, List.of("Kafka"), List.of(ProjectStatus.COMPLETED), 0, 20))
+                .thenReturn(page);
+
+        ResponseEntity<ProjectFilterPage> response = projectController.filterProjects(
+                List.of("Java"), null, List.of("Kafka"), List.of(ProjectStatus.COMPLETED), 0, 20);
 
-        verify(projectService).getAllProjects();
-        verify(projectMapper, times(2)).toDTO(any(Project.class));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(page);
     }
 
+    @Test
+    void getProjectsPage_ShouldReturnItemsAndNextCursor() {
+        ProjectView project = createTestProjectView(1L, "Project 1", "project-1");
+
+        when(projectQueryService.getProjectsPage("cursor", 5)).thenReturn(new ProjectViewPage(List.of(project), "next"));
+
+        ResponseEntity<ProjectViewPage> response = projectController.getProjectsPage("cursor", 5);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().items()).containsExactly(project);
+        assertThat(response.getBody().nextCursor()).isEqualTo("next");
+    }
 
     @Test
     void getProjectBySlug_ShouldReturnProject_WhenProjectExists() {
         String slug = "test-project";
-        Project project = createTestProject(1L, "Test Project", slug);
-        ProjectDTO projectDTO = createTestProjectDTO(1L, "Test Project", slug);
+        byte[] json = "{\"slug\":\"test-project\"}".getBytes(StandardCharsets.UTF_8);
 
-        when(projectService.getProjectBySlug(slug)).thenReturn(project);
-        when(projectMapper.toDTO(project)).thenReturn(projectDTO);
+        when(projectQueryService.findProjectBySlug(slug)).thenReturn(createTestProjectView(1L, "Test", slug));
+        when(projectQueryService.getProjectJsonBySlug(slug)).thenReturn(json);
 
-        ResponseEntity<ProjectDTO> response = projectController.getProjectBySlug(slug);
+        ResponseEntity<byte[]> response = projectController.getProjectBySlug(slug, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody())
-                .isNotNull()
-                .extracting(ProjectDTO::getSlug)
-                .isEqualTo(slug);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isSameAs(json);
 
-        verify(projectService).getProjectBySlug(slug);
-        verify(projectMapper).toDTO(project);
+        verify(projectQueryService).getProjectJsonBySlug(slug);
     }
 
     @Test
     void getProjectBySlug_ShouldReturnNotFound_WhenProjectDoesNotExists() {
         String slug = "nonexistent-project";
-        when(projectService.getProjectBySlug(slug)).thenThrow(new RuntimeException("Project not found"));
+        when(projectQueryService.findProjectBySlug(slug)).thenReturn(null);
 
-        ResponseEntity<ProjectDTO> response = projectController.getProjectBySlug(slug);
+        ResponseEntity<byte[]> response = projectController.getProjectBySlug(slug, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNull();
 
-        verify(projectService).getProjectBySlug(slug);
+        verify(projectQueryService, never()).getProjectJsonBySlug(slug);
     }
 
     @Test
     void getProjectById_ShouldReturnProject_WhenProjectExists() {
         Long projectId = 1L;
-        Project project = createTestProject(projectId, "Test Project", "test-project");
-        ProjectDTO projectDTO = createTestProjectDTO(projectId, "Test Project", "test-project");
+        byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
 
-        when(projectService.getProjectById(projectId)).thenReturn(project);
-        when(projectMapper.toDTO(project)).thenReturn(projectDTO);
+        when(projectQueryService.findProjectById(projectId)).thenReturn(createTestProjectView(projectId, "Project 1", "project-1"));
+        when(projectQueryService.getProjectJsonById(projectId)).thenReturn(json);
 
-        ResponseEntity<ProjectDTO> response = projectController.getProjectById(projectId);
+        ResponseEntity<byte[]> response = projectController.getProjectById(projectId, null, webRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody())
-                .isNotNull()
-                .extracting(ProjectDTO::getId)
-                .isEqualTo(projectId);
+        assertThat(response.getBody()).isSameAs(json);
 
-        verify(projectService).getProjectById(projectId);
-        verify(projectMapper).toDTO(project);
+        verify(projectQueryService).getProjectJsonById(projectId);
     }
 
     @Test
@@ -172,19 +358,20 @@ class ProjectControllerTest {
         verify(projectService).deleteProject(projectId);
     }
 
-    private Project createTestProject(long id, String name, String slug) {
+    private ProjectView createTestProjectView(long id, String name, String slug) {
         Project project = new Project();
         project.setId(id);
         project.setName(name);
         project.setSlug(slug);
-        return project;
+        return ProjectView.fromProject(project);
+    }
+
+    private ProjectView createVersionedProjectView(long id, long version) {
+        return new ProjectView(id, "Project " + id, "project-" + id, null, null, ProjectStatus.COMPLETED,
+                null, null, null, new Date(1_700_000_000_000L), version, List.of(), List.of(), List.of(), List.of());
     }
 
-    private ProjectDTO createTestProjectDTO(long id, String name, String slug) {
-        ProjectDTO dto = new ProjectDTO();
-        dto.setId(id);
-        dto.setName(name);
-        dto.setSlug(slug);
-        return dto;
+    private ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/projects"), new MockHttpServletResponse());
     }
-}
\ No newline at end of file
+}
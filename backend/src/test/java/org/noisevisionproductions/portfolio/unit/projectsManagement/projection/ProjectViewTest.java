@@ -0,0 +1,103 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.projection;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.cache.config.CacheSerializationProperties;
+import org.noisevisionproductions.portfolio.cache.config.RedisConfig;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Contributor;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
+import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ProjectViewTest {
+
+    @Test
+    void shouldCorrectlyConvertFromProject() {
+        ProjectView view = ProjectView.fromProject(createProject());
+
+        assertNotNull(view);
+        assertEquals("Test Project", view.name());
+        assertEquals("test-project", view.slug());
+        assertEquals(List.of("Feature 1", "Feature 2"), view.features());
+        assertEquals("Jan", view.contributors().getFirst().name());
+        assertEquals("/uploads/a.png", view.projectImages().getFirst().imageUrl());
+    }
+
+    @Test
+    void shouldReplaceMissingCollectionsWithEmptyLists() {
+        Project project = new Project();
+        project.setFeatures(null);
+        project.setTechnologies(Arrays.asList("Java", null));
+
+        ProjectView view = ProjectView.fromProject(project);
+
+        assertTrue(view.features().isEmpty());
+        assertEquals(List.of("Java"), view.technologies());
+        assertTrue(view.contributors().isEmpty());
+        assertTrue(view.projectImages().isEmpty());
+    }
+
+    @Test
+    void shouldNotExposeMutableCollections() {
+        List<String> features = new ArrayList<>(List.of("Feature 1"));
+        Project project = new Project();
+        project.setFeatures(features);
+
+        ProjectView view = ProjectView.fromProject(project);
+        features.add("Feature 2");
+
+        assertEquals(List.of("Feature 1"), view.features());
+        assertThrows(UnsupportedOperationException.class, () -> view.features().add("Feature 3"));
+    }
+
+    @Test
+    void shouldSurviveRedisSerializationRoundTrip() {
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "redisHost", "localhost");
+        ReflectionTestUtils.setField(redisConfig, "redisPort", 6379);
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisConfig.redisTemplate(mock(RedisConnectionFactory.class), new CacheSerializationProperties(), new CacheMetrics()).getValueSerializer();
+
+        ProjectView view = ProjectView.fromProject(createProject());
+        ProjectViewPage page = new ProjectViewPage(List.of(view), "next");
+
+        assertEquals(view, serializer.deserialize(serializer.serialize(view)));
+        assertEquals(page, serializer.deserialize(serializer.serialize(page)));
+        assertEquals(List.of(view), serializer.deserialize(serializer.serialize(new ArrayList<>(List.of(view)))));
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Test Project");
+        project.setSlug("test-project");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setCreatedAt(new Date(1_000));
+        project.setFeatures(new ArrayList<>(List.of("Feature 1", "Feature 2")));
+        project.setTechnologies(new ArrayList<>(List.of("Java")));
+
+        Contributor contributor = new Contributor();
+        contributor.setName("Jan");
+        contributor.setRole("Developer");
+        project.getContributors().add(contributor);
+
+        ImageFromProject image = new ImageFromProject();
+        image.setId(5L);
+        image.setImageUrl("/uploads/a.png");
+        project.getProjectImages().add(image);
+        return project;
+    }
+}
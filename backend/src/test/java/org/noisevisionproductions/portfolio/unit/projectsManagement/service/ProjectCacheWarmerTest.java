@@ -0,0 +1,121 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.config.CacheWarmupProperties;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectTrafficTracker;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectCacheWarmer;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCacheWarmerTest {
+
+    @Mock
+    private ProjectQueryService projectQueryService;
+
+    @Mock
+    private ProjectViewRepository projectViewRepository;
+
+    @Mock
+    private ProjectTrafficTracker projectTrafficTracker;
+
+    private CacheWarmupProperties properties;
+    private ProjectCacheWarmer projectCacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheWarmupProperties();
+        properties.setBatchSize(2);
+        properties.setPages(2);
+        projectCacheWarmer = new ProjectCacheWarmer(projectQueryService, projectViewRepository, projectTrafficTracker, properties);
+    }
+
+    @Test
+    void warmUp_ShouldLoadAllProjectsInBatchesAndPrecomputeLists() {
+        when(projectViewRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(projectQueryService.warmProjects(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        when(projectQueryService.getProjectsPage(null, 20)).thenReturn(new ProjectViewPage(List.of(), "next"));
+        when(projectQueryService.getProjectsPage("next", 20)).thenReturn(new ProjectViewPage(List.of(), "last"));
+
+        int warmed = projectCacheWarmer.warmUp();
+
+        assertThat(warmed).isEqualTo(3);
+        verify(projectQueryService).warmProjects(List.of(1L, 2L));
+        verify(projectQueryService).warmProjects(List.of(3L));
+        verify(projectQueryService).getAllProjects();
+        verify(projectQueryService).getAllProjectsJson();
+        verify(projectQueryService).getAllProjectSummariesJson();
+        verify(projectQueryService, never()).getProjectsPage("last", 20);
+        verifyNoInteractions(projectTrafficTracker);
+    }
+
+    @Test
+    void warmUp_ShouldPreferMostRequestedProjects_WhenTopNIsConfigured() {
+        properties.setTopN(2);
+        when(projectTrafficTracker.top(2)).thenReturn(List.of(7L, 3L));
+        when(projectQueryService.getProjectsPage(null, 20)).thenReturn(new ProjectViewPage(List.of(), null));
+
+        projectCacheWarmer.warmUp();
+
+        verify(projectQueryService).warmProjects(List.of(7L, 3L));
+        verify(projectViewRepository, never()).findAllIds();
+    }
+
+    @Test
+    void warmUp_ShouldFallBackToFirstIds_WhenNoTrafficIsRecorded() {
+        properties.setTopN(2);
+        when(projectViewRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(projectQueryService.getProjectsPage(null, 20)).thenReturn(new ProjectViewPage(List.of(), null));
+
+        projectCacheWarmer.warmUp();
+
+        verify(projectQueryService).warmProjects(List.of(1L, 2L));
+        verify(projectQueryService, never()).warmProjects(List.of(3L));
+    }
+
+    @Test
+    void warmUp_ShouldStopAtTimeBudget() {
+        properties.setTimeBudget(Duration.ofMillis(100));
+        CountDownLatch never = new CountDownLatch(1);
+        when(projectViewRepository.findAllIds()).thenReturn(List.of(1L));
+        when(projectQueryService.warmProjects(List.of(1L))).thenAnswer(invocation -> {
+            never.await();
+            return 1;
+        });
+
+        long startedAt = System.nanoTime();
+        int warmed = projectCacheWarmer.warmUp();
+
+        assertThat(warmed).isZero();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void warmUp_ShouldNotFailStartup_WhenLoadingFails() {
+        when(projectViewRepository.findAllIds()).thenThrow(new RuntimeException("Database down"));
+
+        assertThat(projectCacheWarmer.warmUp()).isZero();
+    }
+
+    @Test
+    void run_ShouldSkipWarmUp_WhenDisabled() {
+        properties.setEnabled(false);
+
+        projectCacheWarmer.run(null);
+
+        verifyNoInteractions(projectQueryService, projectViewRepository, projectTrafficTracker);
+    }
+}
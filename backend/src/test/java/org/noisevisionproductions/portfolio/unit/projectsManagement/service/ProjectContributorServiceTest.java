@@ -5,12 +5,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ContributorDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Contributor;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectContributorService;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
 
 import java.util.ArrayList;
@@ -34,6 +38,12 @@ class ProjectContributorServiceTest {
     @Mock
     private ProjectCacheService projectCacheService;
 
+    @Mock
+    private ProjectSearchIndex projectSearchIndex;
+
+    @Mock
+    private ProjectFacetIndex projectFacetIndex;
+
     @InjectMocks
     private ProjectContributorService projectContributorService;
 
@@ -56,13 +66,15 @@ class ProjectContributorServiceTest {
         savedProject.setContributors(new ArrayList<>(List.of(savedContributor)));
 
         when(projectService.getProjectById(projectId)).thenReturn(existingProject);
-        when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(savedProject);
 
         Project result = projectContributorService.addContributor(projectId, contributorDTO);
 
         verify(projectService).getProjectById(projectId);
-        verify(projectRepository).save(any(Project.class));
-        verify(projectCacheService).cache(projectId, savedProject);
+        verify(projectRepository).saveAndFlush(any(Project.class));
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.CONTRIBUTORS));
+        verify(projectSearchIndex).index(any(ProjectView.class));
+        verify(projectFacetIndex).index(any(ProjectView.class));
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(projectId);
@@ -87,7 +99,8 @@ class ProjectContributorServiceTest {
                 .hasMessage("Project not found");
 
         verify(projectService).getProjectById(nonExistingProjectId);
-        verify(projectRepository, never()).save(any(Project.class));
+        verify(projectRepository, never()).saveAndFlush(any(Project.class));
+        verifyNoInteractions(projectSearchIndex, projectFacetIndex);
     }
 
     @Test
@@ -118,13 +131,13 @@ class ProjectContributorServiceTest {
         savedProject.setContributors(savedContributors);
 
         when(projectService.getProjectById(projectId)).thenReturn(existingProject);
-        when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(savedProject);
 
         Project result = projectContributorService.addContributor(projectId, newContributorDto);
 
         verify(projectService).getProjectById(projectId);
-        verify(projectRepository).save(any(Project.class));
-        verify(projectCacheService).cache(projectId, savedProject);
+        verify(projectRepository).saveAndFlush(any(Project.class));
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.CONTRIBUTORS));
 
         assertThat(result).isNotNull();
         assertThat(result.getContributors()).hasSize(2);
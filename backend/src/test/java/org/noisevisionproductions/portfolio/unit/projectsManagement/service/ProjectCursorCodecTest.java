@@ -0,0 +1,48 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.noisevisionproductions.portfolio.projectsManagement.exceptions.InvalidCursorException;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectCursor;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectCursorCodec;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectCursorCodecTest {
+
+    private final ProjectCursorCodec codec = new ProjectCursorCodec();
+
+    @Test
+    void encodeAndDecode_ShouldRoundTripCreatedAtAndId() {
+        String cursor = codec.encode(new Date(1_700_000_000_123L), 42L);
+        ProjectCursor decoded = codec.decode(cursor);
+
+        assertThat(cursor).doesNotContain("42").doesNotContain(":");
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.createdAt()).isEqualTo(new Date(1_700_000_000_123L));
+    }
+
+    @Test
+    void encode_ShouldReturnNull_WhenPositionIsIncomplete() {
+        assertThat(codec.encode(null, 1L)).isNull();
+        assertThat(codec.encode(new Date(), null)).isNull();
+    }
+
+    @Test
+    void decode_ShouldReturnNull_WhenCursorIsBlank() {
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode("  ")).isNull();
+    }
+
+    @Test
+    void decode_ShouldThrowInvalidCursorException_WhenCursorIsMalformed() {
+        assertThatThrownBy(() -> codec.decode("not a cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode("Zm9vOmJhcg"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode("MTIz"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,164 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectFilterPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectFacetIndexTest {
+
+    @Mock
+    private ProjectQueryService projectQueryService;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    private ProjectFacetIndex projectFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        projectFacetIndex = new ProjectFacetIndex(projectQueryService, projectVersionService);
+        projectFacetIndex.index(createView(1L, ProjectStatus.COMPLETED, "Java", "Kafka"));
+        projectFacetIndex.index(createView(2L, ProjectStatus.COMPLETED, "Java", "Spring"));
+        projectFacetIndex.index(createView(3L, ProjectStatus.IN_PROGRESS, "Python"));
+    }
+
+    @Test
+    void filter_ShouldIntersectRequiredTechnologiesAndStatuses() {
+        ProjectFilterPage page = projectFacetIndex.filter(
+                List.of("java", "Kafka"), null, null, List.of(ProjectStatus.COMPLETED), 0, 20);
+
+        assertThat(ids(page)).containsExactly(1L);
+        assertThat(page.total()).isEqualTo(1);
+    }
+
+    @Test
+    void filter_ShouldCombineAnyAndExcludedTechnologies() {
+        ProjectFilterPage page = projectFacetIndex.filter(
+                null, List.of("Spring", "Python"), List.of("Python"), null, 0, 20);
+
+        assertThat(ids(page)).containsExactly(2L);
+    }
+
+    @Test
+    void filter_ShouldReturnFacetCountsForMatchingProjects() {
+        ProjectFilterPage page = projectFacetIndex.filter(List.of("Java"), null, null, null, 0, 20);
+
+        assertThat(page.technologies()).containsExactly(
+                Map.entry("Java", 2), Map.entry("Kafka", 1), Map.entry("Spring", 1));
+        assertThat(page.statuses()).containsExactly(Map.entry(ProjectStatus.COMPLETED, 2));
+    }
+
+    @Test
+    void filter_ShouldReturnEverythingWithoutCriteria() {
+        ProjectFilterPage page = projectFacetIndex.filter(null, null, null, null, 0, 2);
+
+        assertThat(ids(page)).containsExactly(1L, 2L);
+        assertThat(page.total()).isEqualTo(3);
+    }
+
+    @Test
+    void index_ShouldMoveProjectBetweenBitmapsOnUpdate() {
+        projectFacetIndex.index(createView(3L, ProjectStatus.COMPLETED, "Java"));
+
+        assertThat(projectFacetIndex.filter(List.of("Python"), null, null, null, 0, 20).total()).isZero();
+        assertThat(ids(projectFacetIndex.filter(List.of("Java"), null, null, List.of(ProjectStatus.COMPLETED), 0, 20)))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void remove_ShouldClearBitsAndReuseOrdinal() {
+        projectFacetIndex.remove(1L);
+        projectFacetIndex.index(createView(4L, ProjectStatus.ARCHIVED, "Go"));
+
+        ProjectFilterPage page = projectFacetIndex.filter(null, null, null, null, 0, 20);
+
+        assertThat(ids(page)).containsExactly(2L, 3L, 4L);
+        assertThat(page.technologies()).doesNotContainKey("Kafka");
+    }
+
+    @Test
+    void rebuild_ShouldReplaceBitmapsFromProjects() {
+        when(projectQueryService.getAllProjects()).thenReturn(List.of(createView(5L, ProjectStatus.ARCHIVED, "Rust")));
+
+        projectFacetIndex.rebuild();
+
+        ProjectFilterPage page = projectFacetIndex.filter(null, null, null, null, 0, 20);
+        assertThat(ids(page)).containsExactly(5L);
+        assertThat(page.technologies()).containsOnlyKeys("Rust");
+    }
+
+    @Test
+    void rebuild_ShouldKeepUpdatesAppliedWhileProjectsAreLoading() {
+        when(projectQueryService.getAllProjects()).thenAnswer(invocation -> {
+            projectFacetIndex.index(createView(6L, ProjectStatus.COMPLETED, "Go"));
+            projectFacetIndex.remove(2L);
+            return List.of(createView(1L, ProjectStatus.COMPLETED, "Java"), createView(2L, ProjectStatus.COMPLETED, "Java"));
+        });
+
+        projectFacetIndex.rebuild();
+
+        assertThat(ids(projectFacetIndex.filter(null, null, null, null, 0, 20))).containsExactly(1L, 6L);
+    }
+
+    @Test
+    void refresh_ShouldRebuildOnlyWhenGenerationChanged() {
+        when(projectVersionService.generation()).thenReturn(4L, 4L, 5L, 5L);
+        when(projectQueryService.getAllProjects()).thenReturn(
+                List.of(createView(5L, ProjectStatus.ARCHIVED, "Rust")),
+                List.of(createView(7L, ProjectStatus.ARCHIVED, "Rust")));
+
+        projectFacetIndex.rebuild();
+        projectFacetIndex.refresh();
+        projectFacetIndex.refresh();
+
+        verify(projectQueryService, times(2)).getAllProjects();
+        assertThat(ids(projectFacetIndex.filter(null, null, null, null, 0, 20))).containsExactly(7L);
+    }
+
+    @Test
+    void refresh_ShouldSkipRebuildForGenerationsProducedLocally() {
+        when(projectVersionService.generation()).thenReturn(4L, 6L, 7L);
+        when(projectVersionService.producedLocally(4L, 6L)).thenReturn(true);
+        when(projectVersionService.producedLocally(6L, 7L)).thenReturn(false);
+        when(projectQueryService.getAllProjects()).thenReturn(
+                List.of(createView(5L, ProjectStatus.ARCHIVED, "Rust")),
+                List.of(createView(7L, ProjectStatus.ARCHIVED, "Rust")));
+
+        projectFacetIndex.rebuild();
+        projectFacetIndex.index(createView(6L, ProjectStatus.COMPLETED, "Go"));
+        projectFacetIndex.refresh();
+
+        verify(projectQueryService, times(1)).getAllProjects();
+        assertThat(ids(projectFacetIndex.filter(null, null, null, null, 0, 20))).containsExactly(5L, 6L);
+
+        projectFacetIndex.refresh();
+
+        verify(projectQueryService, times(2)).getAllProjects();
+        assertThat(ids(projectFacetIndex.filter(null, null, null, null, 0, 20))).containsExactly(7L);
+    }
+
+    private List<Long> ids(ProjectFilterPage page) {
+        return page.items().stream().map(ProjectSummaryView::id).toList();
+    }
+
+    private ProjectView createView(Long id, ProjectStatus status, String... technologies) {
+        return new ProjectView(id, "Project " + id, "project-" + id, null, null, status,
+                null, null, null, null, 0L, null, List.of(technologies), null, null);
+    }
+}
@@ -5,14 +5,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectImageDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.exceptions.FileStorageException;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.FileStorageService;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
 import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectImageService;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
 
 import java.util.ArrayList;
@@ -38,6 +42,12 @@ class ProjectImageServiceTest {
     @Mock
     private ProjectCacheService projectCacheService;
 
+    @Mock
+    private ProjectSearchIndex projectSearchIndex;
+
+    @Mock
+    private ProjectFacetIndex projectFacetIndex;
+
     @InjectMocks
     private ProjectImageService projectImageService;
 
@@ -67,12 +77,13 @@ class ProjectImageServiceTest {
 
         verify(projectService).getProjectById(projectId);
         verify(projectRepository).saveAndFlush(project);
-        verify(projectCacheService).cache(projectId, savedProject);
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.PROJECT_IMAGES));
 
         assertThat(result).isNotNull();
         assertThat(result.getImageUrl()).isEqualTo(projectImageDTO.getImageUrl());
         assertThat(result.getCaption()).isEqualTo(projectImageDTO.getCaption());
         assertThat(result.getProject()).isEqualTo(savedProject);
+        assertThat(project.getLastModifiedAt()).isNotNull();
     }
 
     @Test
@@ -95,7 +106,7 @@ class ProjectImageServiceTest {
 
         verify(projectService).getProjectById(projectId);
         verify(projectRepository).saveAndFlush(any(Project.class));
-        verify(projectCacheService, never()).cache(eq(projectId), any(Project.class));
+        verify(projectCacheService, never()).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.PROJECT_IMAGES));
     }
 
     @Test
@@ -124,7 +135,7 @@ class ProjectImageServiceTest {
 
         verify(projectService).getProjectById(projectId);
         verify(projectRepository).saveAndFlush(project);
-        verify(projectCacheService).cache(projectId, savedProject);
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.PROJECT_IMAGES));
 
         assertThat(result).isNotNull()
                 .satisfies(image -> {
@@ -151,14 +162,14 @@ class ProjectImageServiceTest {
         project.setProjectImages(new ArrayList<>(List.of(image)));
 
         when(projectService.getProjectById(projectId)).thenReturn(project);
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(project);
 
         projectImageService.removeImageFromProject(projectId, imageId);
 
         verify(projectService).getProjectById(projectId);
         verify(fileStorageService).deleteFile(imageUrl);
-        verify(projectRepository).save(project);
-        verify(projectCacheService).cache(projectId, project);
+        verify(projectRepository).saveAndFlush(project);
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.PROJECT_IMAGES));
         assertThat(project.getProjectImages()).isEmpty();
     }
 
@@ -179,14 +190,14 @@ class ProjectImageServiceTest {
         when(projectService.getProjectById(projectId)).thenReturn(project);
         doThrow(new FileStorageException("Error deleting file"))
                 .when(fileStorageService).deleteFile(imageUrl);
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(project);
 
         projectImageService.removeImageFromProject(projectId, imageId);
 
         verify(projectService).getProjectById(projectId);
         verify(fileStorageService).deleteFile(imageUrl);
-        verify(projectRepository).save(project);
-        verify(projectCacheService).cache(projectId, project);
+        verify(projectRepository).saveAndFlush(project);
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.PROJECT_IMAGES));
         assertThat(project.getProjectImages()).isEmpty();
     }
 }
\ No newline at end of file
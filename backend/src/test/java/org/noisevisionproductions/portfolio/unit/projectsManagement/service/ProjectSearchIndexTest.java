@@ -0,0 +1,172 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSearchPage;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchIndexTest {
+
+    @Mock
+    private ProjectQueryService projectQueryService;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    private ProjectSearchIndex projectSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        projectSearchIndex = new ProjectSearchIndex(projectQueryService, projectVersionService);
+    }
+
+    @Test
+    void search_ShouldMatchPolishTextWithoutDiacritics() {
+        projectSearchIndex.index(createView(1L, "Żółta łódź", "Aplikacja do zarządzania", List.of("Java"), List.of()));
+
+        assertThat(ids(projectSearchIndex.search("zolta lodz", 0, 20))).containsExactly(1L);
+        assertThat(ids(projectSearchIndex.search("ZARZĄDZANIA", 0, 20))).containsExactly(1L);
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        projectSearchIndex.index(createView(1L, "Portfolio", "Built with spring", List.of(), List.of()));
+        projectSearchIndex.index(createView(2L, "Spring shop", "Online store", List.of(), List.of()));
+        projectSearchIndex.index(createView(3L, "Game", "Unity", List.of(), List.of()));
+
+        assertThat(ids(projectSearchIndex.search("spring", 0, 20))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search_ShouldRequireAllTermsAndMatchLastTermAsPrefix() {
+        projectSearchIndex.index(createView(1L, "Portfolio", null, List.of("Java", "Spring"), List.of()));
+        projectSearchIndex.index(createView(2L, "Shop", null, List.of("Java", "Angular"), List.of()));
+
+        assertThat(ids(projectSearchIndex.search("java spr", 0, 20))).containsExactly(1L);
+        assertThat(ids(projectSearchIndex.search("spring angular", 0, 20))).isEmpty();
+    }
+
+    @Test
+    void search_ShouldPaginateResults() {
+        for (long id = 1; id <= 5; id++) {
+            projectSearchIndex.index(createView(id, "Project " + id, null, List.of(), List.of()));
+        }
+
+        ProjectSearchPage page = projectSearchIndex.search("project", 1, 2);
+
+        assertThat(page.total()).isEqualTo(5);
+        assertThat(ids(page)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void index_ShouldReplacePreviousTermsOfUpdatedProject() {
+        projectSearchIndex.index(createView(1L, "Old name", null, List.of(), List.of()));
+        projectSearchIndex.index(createView(1L, "New name", null, List.of(), List.of("Search")));
+
+        assertThat(ids(projectSearchIndex.search("old", 0, 20))).isEmpty();
+        assertThat(ids(projectSearchIndex.search("search", 0, 20))).containsExactly(1L);
+    }
+
+    @Test
+    void remove_ShouldDropProjectFromResults() {
+        projectSearchIndex.index(createView(1L, "Portfolio", null, List.of(), List.of()));
+
+        projectSearchIndex.remove(1L);
+
+        assertThat(projectSearchIndex.search("portfolio", 0, 20).total()).isZero();
+    }
+
+    @Test
+    void rebuild_ShouldIndexAllProjects() {
+        when(projectQueryService.getAllProjects()).thenReturn(List.of(
+                createView(1L, "Portfolio", null, List.of(), List.of()),
+                createView(2L, "Portfolio API", null, List.of(), List.of())));
+
+        projectSearchIndex.rebuild();
+
+        assertThat(projectSearchIndex.search("portfolio", 0, 20).total()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild_ShouldKeepUpdatesAppliedWhileProjectsAreLoading() {
+        when(projectQueryService.getAllProjects()).thenAnswer(invocation -> {
+            projectSearchIndex.index(createView(3L, "Portfolio mobile", null, List.of(), List.of()));
+            projectSearchIndex.remove(2L);
+            return List.of(
+                    createView(1L, "Portfolio", null, List.of(), List.of()),
+                    createView(2L, "Portfolio API", null, List.of(), List.of()));
+        });
+
+        projectSearchIndex.rebuild();
+
+        assertThat(ids(projectSearchIndex.search("portfolio", 0, 20))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void refresh_ShouldRebuildOnlyWhenGenerationChanged() {
+        when(projectVersionService.generation()).thenReturn(4L, 4L, 5L, 5L);
+        when(projectQueryService.getAllProjects()).thenReturn(
+                List.of(createView(1L, "Portfolio", null, List.of(), List.of())),
+                List.of(createView(2L, "Shop", null, List.of(), List.of())));
+
+        projectSearchIndex.rebuild();
+        projectSearchIndex.refresh();
+        projectSearchIndex.refresh();
+
+        verify(projectQueryService, times(2)).getAllProjects();
+        assertThat(projectSearchIndex.search("portfolio", 0, 20).total()).isZero();
+        assertThat(ids(projectSearchIndex.search("shop", 0, 20))).containsExactly(2L);
+    }
+
+    @Test
+    void refresh_ShouldSkipRebuildForGenerationsProducedLocally() {
+        when(projectVersionService.generation()).thenReturn(4L, 6L, 7L);
+        when(projectVersionService.producedLocally(4L, 6L)).thenReturn(true);
+        when(projectVersionService.producedLocally(6L, 7L)).thenReturn(false);
+        when(projectQueryService.getAllProjects()).thenReturn(
+                List.of(createView(1L, "Portfolio", null, List.of(), List.of())),
+                List.of(createView(2L, "Shop", null, List.of(), List.of())));
+
+        projectSearchIndex.rebuild();
+        projectSearchIndex.index(createView(3L, "Portfolio mobile", null, List.of(), List.of()));
+        projectSearchIndex.refresh();
+
+        verify(projectQueryService, times(1)).getAllProjects();
+        assertThat(ids(projectSearchIndex.search("portfolio", 0, 20))).containsExactlyInAnyOrder(1L, 3L);
+
+        projectSearchIndex.refresh();
+
+        verify(projectQueryService, times(2)).getAllProjects();
+        assertThat(ids(projectSearchIndex.search("shop", 0, 20))).containsExactly(2L);
+    }
+
+    @Test
+    void search_ShouldReturnEmptyPage_WhenQueryIsBlank() {
+        projectSearchIndex.index(createView(1L, "Portfolio", null, List.of(), List.of()));
+
+        assertThat(projectSearchIndex.search("  ", 0, 20).items()).isEmpty();
+    }
+
+    private List<Long> ids(ProjectSearchPage page) {
+        return page.items().stream().map(ProjectSummaryView::id).toList();
+    }
+
+    private ProjectView createView(Long id, String name, String description, List<String> technologies, List<String> features) {
+        return new ProjectView(id, name, "project-" + id, description, null, ProjectStatus.COMPLETED,
+                null, null, null, null, 0L, features, technologies, null, null);
+    }
+}
@@ -0,0 +1,85 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.config.NegativeCacheProperties;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectVersionService;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSlugFilter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSlugFilterTest {
+
+    @Mock
+    private ProjectViewRepository projectViewRepository;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Spy
+    private NegativeCacheProperties properties = new NegativeCacheProperties();
+
+    @InjectMocks
+    private ProjectSlugFilter projectSlugFilter;
+
+    @Test
+    void shouldLetEverySlugThroughBeforeFilterIsBuilt() {
+        assertTrue(projectSlugFilter.mightExist("anything"));
+        assertFalse(projectSlugFilter.mightExist(null));
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void shouldRejectUnknownSlugsOnceBuilt() {
+        when(projectVersionService.generation()).thenReturn(4L);
+        when(projectViewRepository.findAllSlugs()).thenReturn(List.of("portfolio", "shop"));
+
+        projectSlugFilter.rebuild();
+
+        assertTrue(projectSlugFilter.mightExist("portfolio"));
+        assertTrue(projectSlugFilter.mightExist("shop"));
+        assertFalse(projectSlugFilter.mightExist("wp-admin"));
+    }
+
+    @Test
+    void shouldBypassFilterWhenProjectsChangedSinceBuild() {
+        when(projectVersionService.generation()).thenReturn(4L, 5L);
+        when(projectViewRepository.findAllSlugs()).thenReturn(List.of("portfolio"));
+
+        projectSlugFilter.rebuild();
+
+        assertTrue(projectSlugFilter.mightExist("created-elsewhere"));
+    }
+
+    @Test
+    void shouldRebuildOnRefreshWhenGenerationChanged() {
+        when(projectVersionService.generation()).thenReturn(4L, 5L, 5L, 5L);
+        when(projectViewRepository.findAllSlugs()).thenReturn(List.of("portfolio"), List.of("portfolio", "shop"));
+
+        projectSlugFilter.rebuild();
+        projectSlugFilter.refresh();
+
+        verify(projectViewRepository, times(2)).findAllSlugs();
+        assertTrue(projectSlugFilter.mightExist("shop"));
+        assertFalse(projectSlugFilter.mightExist("wp-admin"));
+    }
+
+    @Test
+    void shouldStayDisabledWhenSwitchedOff() {
+        properties.setSlugFilter(false);
+
+        projectSlugFilter.rebuild();
+
+        assertTrue(projectSlugFilter.mightExist("wp-admin"));
+        verifyNoInteractions(projectViewRepository);
+    }
+}
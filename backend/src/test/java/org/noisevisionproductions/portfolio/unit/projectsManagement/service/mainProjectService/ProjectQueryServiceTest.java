@@ -0,0 +1,621 @@
+package org.noisevisionproductions.portfolio.unit.projectsManagement.service.mainProjectService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.stubbing.Answer;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.config.SingleFlightProperties;
+import org.noisevisionproductions.portfolio.cache.metrics.CacheMetrics;
+import org.noisevisionproductions.portfolio.cache.model.CacheEntry;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheFamilies;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheRefresher;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectResponseCacheService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectSingleFlightService;
+import org.noisevisionproductions.portfolio.cache.service.project.ProjectTrafficTracker;
+import org.noisevisionproductions.portfolio.projectsManagement.exceptions.ProjectNotFoundException;
+import org.noisevisionproductions.portfolio.projectsManagement.model.ProjectStatus;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ContributorRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectImageRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectSummaryView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectValueRow;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectViewPage;
+import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectViewRepository;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectCursorCodec;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSlugFilter;
+import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectQueryService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectQueryServiceTest {
+
+    private static final Long GENERATION = 3L;
+
+    @Mock
+    private ProjectViewRepository projectViewRepository;
+
+    @Mock
+    private ProjectCacheService projectCacheService;
+
+    @Mock
+    private ProjectResponseCacheService projectResponseCacheService;
+
+    @Spy
+    private ProjectCursorCodec projectCursorCodec = new ProjectCursorCodec();
+
+    @Mock
+    private ProjectCacheRefresher projectCacheRefresher;
+
+    @Mock
+    private ProjectTrafficTracker projectTrafficTracker;
+
+    @Mock
+    private ProjectSlugFilter projectSlugFilter;
+
+    @Spy
+    private CacheMetrics cacheMetrics = new CacheMetrics();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ProjectSingleFlightService projectSingleFlightService = new ProjectSingleFlightService(null, localSingleFlight());
+
+    @InjectMocks
+    private ProjectQueryService projectQueryService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(projectCacheService.currentGeneration()).thenReturn(GENERATION);
+        lenient().when(projectSlugFilter.mightExist(any())).thenReturn(true);
+    }
+
+    @Test
+    void getAllProjects_ShouldReturnCachedProjects_WhenCacheExists() {
+        List<ProjectView> cachedProjects = List.of(createView(1L, "Test Project 1"), createView(2L, "Test Project 2"));
+
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenReturn(List.of(1L, 2L));
+        when(projectCacheService.getAll(eq(List.of(1L, 2L)), any())).thenReturn(Map.of(
+                2L, cachedProjects.get(1), 1L, cachedProjects.get(0)));
+
+        List<ProjectView> result = projectQueryService.getAllProjects();
+
+        assertThat(result).isEqualTo(cachedProjects);
+        verifyNoInteractions(projectViewRepository);
+        verify(projectCacheService, never()).cache(any(), any());
+    }
+
+    @Test
+    void getAllProjects_ShouldLoadOnlyProjectsMissingFromCache() {
+        ProjectView cached = createView(1L, "Cached");
+        List<Long> ids = List.of(1L, 2L);
+
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenReturn(ids);
+        when(projectCacheService.getAll(eq(ids), any())).thenReturn(Map.of(1L, cached));
+        when(projectCacheService.getAll(ids)).thenReturn(Map.of(1L, cached));
+        when(projectViewRepository.findRowsByIdIn(List.of(2L))).thenReturn(List.of(createRow(2L, "Loaded", new Date(2000))));
+
+        List<ProjectView> result = projectQueryService.getAllProjects();
+
+        assertThat(result).extracting(ProjectView::name).containsExactly("Cached", "Loaded");
+        verify(projectCacheService).cache(eq(2L), any(ProjectView.class));
+        verify(projectCacheService, never()).cache(eq(1L), any());
+        verify(projectViewRepository, never()).findAllIds();
+    }
+
+    @Test
+    void getAllProjects_ShouldAssembleViewsFromRows_WhenCacheIsEmpty() {
+        ProjectRow first = createRow(1L, "First", new Date(1000));
+        ProjectRow second = createRow(2L, "Second", new Date(2000));
+        List<Long> ids = List.of(1L, 2L);
+
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenReturn(null);
+        when(projectViewRepository.findAllIds()).thenReturn(ids);
+        when(projectViewRepository.findRowsByIdIn(ids)).thenReturn(List.of(first, second));
+        when(projectViewRepository.findFeatures(ids)).thenReturn(List.of(
+                new ProjectValueRow(1L, "Search"), new ProjectValueRow(2L, "Export")));
+        when(projectViewRepository.findTechnologies(ids)).thenReturn(List.of(new ProjectValueRow(1L, "Java")));
+        when(projectViewRepository.findContributors(ids)).thenReturn(List.of(
+                new ContributorRow(2L, "Jan", "Developer", null)));
+        when(projectViewRepository.findImages(ids)).thenReturn(List.of(
+                new ProjectImageRow(1L, 10L, "/uploads/a.png", "Screen")));
+
+        List<ProjectView> result = projectQueryService.getAllProjects();
+
+        assertThat(result).extracting(ProjectView::id).containsExactly(1L, 2L);
+        assertThat(result.get(0).features()).containsExactly("Search");
+        assertThat(result.get(0).technologies()).containsExactly("Java");
+        assertThat(result.get(0).contributors()).isEmpty();
+        assertThat(result.get(0).projectImages()).singleElement()
+                .satisfies(image -> assertThat(image.imageUrl()).isEqualTo("/uploads/a.png"));
+        assertThat(result.get(1).features()).containsExactly("Export");
+        assertThat(result.get(1).technologies()).isEmpty();
+        assertThat(result.get(1).contributors()).singleElement()
+                .satisfies(contributor -> assertThat(contributor.name()).isEqualTo("Jan"));
+        verify(projectCacheService).cacheProjectIds(GENERATION, ids);
+        verify(projectCacheService).cache(1L, result.get(0));
+        verify(projectCacheService).cache(2L, result.get(1));
+    }
+
+    @Test
+    void getAllProjects_ShouldCacheIndexUnderGenerationCapturedBeforeLoading() {
+        when(projectCacheService.currentGeneration()).thenReturn(GENERATION, GENERATION + 1);
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenReturn(null);
+        when(projectViewRepository.findAllIds()).thenReturn(List.of());
+
+        projectQueryService.getAllProjects();
+
+        verify(projectCacheService).cacheProjectIds(GENERATION, List.of());
+        verify(projectCacheService, times(1)).currentGeneration();
+    }
+
+    @Test
+    void getAllProjectsJson_ShouldReturnCachedBytes_WithoutLoadingProjects() {
+        byte[] cachedJson = "[]".getBytes(StandardCharsets.UTF_8);
+        when(projectResponseCacheService.getProjectsList(GENERATION)).thenReturn(cachedJson);
+
+        byte[] result = projectQueryService.getAllProjectsJson();
+
+        assertThat(result).isSameAs(cachedJson);
+        verify(projectCacheService, never()).getCachedProjectIds(any());
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void getAllProjectsJson_ShouldMaterializeList_WhenResponseIsNotCached() {
+        List<ProjectView> cachedProjects = List.of(createView(1L, "Cached"));
+        byte[] json = "[{}]".getBytes(StandardCharsets.UTF_8);
+
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenReturn(List.of(1L));
+        when(projectCacheService.getAll(eq(List.of(1L)), any())).thenReturn(Map.of(1L, cachedProjects.getFirst()));
+        when(projectResponseCacheService.cacheProjectsList(GENERATION, cachedProjects)).thenReturn(json);
+
+        assertThat(projectQueryService.getAllProjectsJson()).isSameAs(json);
+    }
+
+    @Test
+    void getProjectJsonById_ShouldReturnCachedBytes_WithoutLoadingProject() {
+        byte[] cachedJson = "{}".getBytes(StandardCharsets.UTF_8);
+        when(projectResponseCacheService.getProject(1L)).thenReturn(cachedJson);
+
+        assertThat(projectQueryService.getProjectJsonById(1L)).isSameAs(cachedJson);
+        verifyNoInteractions(projectCacheService, projectViewRepository);
+    }
+
+    @Test
+    void getProjectJsonById_ShouldLoadCacheAndRenderProject_WhenResponseIsNotCached() {
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        when(projectViewRepository.findRowById(1L)).thenReturn(Optional.of(createRow(1L, "Loaded", new Date(1000))));
+        when(projectResponseCacheService.render(any(ProjectView.class))).thenReturn(json);
+
+        assertThat(projectQueryService.getProjectJsonById(1L)).isSameAs(json);
+        verify(projectCacheService).cache(eq(1L), any(ProjectView.class));
+    }
+
+    @Test
+    void getProjectJsonBySlug_ShouldReturnCachedBytes_WithoutResolvingSlug() {
+        byte[] cachedJson = "{}".getBytes(StandardCharsets.UTF_8);
+        when(projectResponseCacheService.getProjectBySlug("cached")).thenReturn(cachedJson);
+
+        assertThat(projectQueryService.getProjectJsonBySlug("cached")).isSameAs(cachedJson);
+        verify(projectViewRepository, never()).findIdBySlug(any());
+    }
+
+    @Test
+    void getProjectJsonBySlug_ShouldReturnNullAndMarkSlugMissing_WhenNotFound() {
+        when(projectCacheService.getIdBySlug("missing")).thenReturn(null);
+        when(projectViewRepository.findIdBySlug("missing")).thenReturn(Optional.empty());
+
+        assertThat(projectQueryService.getProjectJsonBySlug("missing")).isNull();
+        verify(projectCacheService).markSlugMissing("missing");
+    }
+
+    @Test
+    void getProjectJsonBySlug_ShouldSkipAllLookups_WhenSlugFilterRejectsSlug() {
+        when(projectSlugFilter.mightExist("unknown")).thenReturn(false);
+
+        assertThat(projectQueryService.getProjectJsonBySlug("unknown")).isNull();
+        verifyNoInteractions(projectViewRepository, projectCacheService);
+    }
+
+    @Test
+    void getProjectJsonBySlug_ShouldSkipDatabase_WhenSlugIsMarkedMissing() {
+        when(projectCacheService.getIdBySlug("missing")).thenReturn(null);
+        when(projectCacheService.isSlugMissing("missing")).thenReturn(true);
+
+        assertThat(projectQueryService.getProjectJsonBySlug("missing")).isNull();
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void getProjectById_ShouldReturnCachedProject_WhenCacheExists() {
+        ProjectView cachedProject = createView(1L, "Cached");
+
+        when(projectCacheService.getEntry(1L)).thenReturn(CacheEntry.fresh(cachedProject));
+
+        ProjectView result = projectQueryService.getProjectById(1L);
+
+        assertThat(result).isSameAs(cachedProject);
+        verify(projectViewRepository, never()).findRowById(any());
+        verify(projectTrafficTracker).record(1L);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void getProjectById_ShouldServeStaleProjectAndRefreshInBackground() {
+        ProjectView staleProject = createView(1L, "Stale");
+
+        when(projectCacheService.getEntry(1L)).thenReturn(new CacheEntry<>(staleProject, 0L));
+
+        ProjectView result = projectQueryService.getProjectById(1L);
+
+        assertThat(result).isSameAs(staleProject);
+        verify(projectCacheRefresher).refresh(eq("id:1"), any(Runnable.class));
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void getAllProjects_ShouldRefreshStaleProjectsInOneBackgroundBatch() {
+        List<Long> ids = List.of(1L, 2L);
+        ProjectView first = createView(1L, "First");
+        ProjectView second = createView(2L, "Second");
+
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenReturn(ids);
+        when(projectCacheService.getAll(eq(ids), any())).thenAnswer(invocation -> {
+            Consumer<Long> staleIds = invocation.getArgument(1);
+            staleIds.accept(1L);
+            staleIds.accept(2L);
+            return Map.of(1L, first, 2L, second);
+        });
+        when(projectCacheRefresher.refresh(eq("all"), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(projectViewRepository.findRowsByIdIn(ids)).thenReturn(List.of(
+                createRow(1L, "First", new Date(1000)), createRow(2L, "Second", new Date(2000))));
+
+        List<ProjectView> result = projectQueryService.getAllProjects();
+
+        assertThat(result).containsExactly(first, second);
+        verify(projectViewRepository, times(1)).findRowsByIdIn(ids);
+        verify(projectCacheService, times(2)).cache(anyLong(), any(ProjectView.class));
+    }
+
+    @Test
+    void getProjectById_ShouldCacheAndReturnProject_WhenNotCached() {
+        when(projectCacheService.getEntry(1L)).thenReturn(null);
+        when(projectViewRepository.findRowById(1L)).thenReturn(Optional.of(createRow(1L, "Loaded", new Date(1000))));
+
+        ProjectView result = projectQueryService.getProjectById(1L);
+
+        assertThat(result.name()).isEqualTo("Loaded");
+        assertThat(result.features()).isEmpty();
+        verify(projectCacheService).cache(1L, result);
+        assertThat(cacheMetrics.loads(ProjectCacheFamilies.ID)).isEqualTo(1);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void getProjectById_ShouldThrowException_WhenNotFound() {
+        when(projectViewRepository.findRowById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> projectQueryService.getProjectById(1L))
+                .isInstanceOf(ProjectNotFoundException.class)
+                .hasMessageContaining("Project not found with id");
+        verifyNoInteractions(projectTrafficTracker);
+        verify(projectCacheService).markMissing(1L);
+    }
+
+    @Test
+    void warmProjects_ShouldLoadAndCacheOnlyMissingProjects() {
+        List<Long> ids = List.of(1L, 2L);
+
+        when(projectCacheService.getAll(ids)).thenReturn(Map.of(1L, createView(1L, "Cached")));
+        when(projectViewRepository.findRowsByIdIn(List.of(2L))).thenReturn(List.of(createRow(2L, "Loaded", new Date(2000))));
+
+        int warmed = projectQueryService.warmProjects(ids);
+
+        assertThat(warmed).isEqualTo(1);
+        verify(projectCacheService).cache(eq(2L), any(ProjectView.class));
+        verify(projectCacheService, never()).cache(eq(1L), any());
+    }
+
+    @Test
+    void warmProjects_ShouldSkipDatabase_WhenEverythingIsCached() {
+        List<Long> ids = List.of(1L);
+
+        when(projectCacheService.getAll(ids)).thenReturn(Map.of(1L, createView(1L, "Cached")));
+
+        assertThat(projectQueryService.warmProjects(ids)).isZero();
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void getProjectBySlug_ShouldResolveFromCache_WithoutTouchingDatabase() {
+        ProjectView cachedProject = createView(1L, "Cached");
+
+        when(projectCacheService.getIdBySlug("project-1")).thenReturn(1L);
+        when(projectCacheService.getEntry(1L)).thenReturn(CacheEntry.fresh(cachedProject));
+
+        ProjectView result = projectQueryService.getProjectBySlug("project-1");
+
+        assertThat(result).isSameAs(cachedProject);
+        verifyNoInteractions(projectViewRepository);
+        verify(projectCacheService, never()).cache(any(), any());
+    }
+
+    @Test
+    void getProjectBySlug_ShouldResolveIdFromDatabaseAndIndexIt_WhenSlugIsNotCached() {
+        ProjectView cachedProject = createView(1L, "Cached");
+
+        when(projectCacheService.getIdBySlug("project-1")).thenReturn(null);
+        when(projectViewRepository.findIdBySlug("project-1")).thenReturn(Optional.of(1L));
+        when(projectCacheService.getEntry(1L)).thenReturn(CacheEntry.fresh(cachedProject));
+
+        ProjectView result = projectQueryService.getProjectBySlug("project-1");
+
+        assertThat(result).isSameAs(cachedProject);
+        verify(projectCacheService).cacheSlug("project-1", 1L);
+    }
+
+    @Test
+    void getProjectBySlug_ShouldFallBackToDatabase_WhenCachedSlugPointsToRenamedProject() {
+        ProjectView renamedProject = createView(1L, "Renamed");
+        ProjectView currentOwner = createView(2L, "Current");
+
+        when(projectCacheService.getIdBySlug("project-2")).thenReturn(1L);
+        when(projectCacheService.getEntry(1L)).thenReturn(CacheEntry.fresh(renamedProject));
+        when(projectViewRepository.findIdBySlug("project-2")).thenReturn(Optional.of(2L));
+        when(projectCacheService.getEntry(2L)).thenReturn(CacheEntry.fresh(currentOwner));
+
+        ProjectView result = projectQueryService.getProjectBySlug("project-2");
+
+        assertThat(result).isSameAs(currentOwner);
+        verify(projectCacheService).cacheSlug("project-2", 2L);
+    }
+
+    @Test
+    void getProjectBySlug_ShouldThrowException_WhenNotFound() {
+        when(projectCacheService.getIdBySlug("non-existent")).thenReturn(null);
+        when(projectViewRepository.findIdBySlug("non-existent")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> projectQueryService.getProjectBySlug("non-existent"))
+                .isInstanceOf(ProjectNotFoundException.class)
+                .hasMessageContaining("Project not found with slug");
+    }
+
+    @Test
+    void getProjectsPage_ShouldReturnCachedPage_WhenCacheExists() {
+        ProjectViewPage cachedPage = new ProjectViewPage(List.of(createView(1L, "Cached")), null);
+        when(projectCacheService.getCachedProjectsPage(GENERATION, null, 10)).thenReturn(cachedPage);
+
+        ProjectViewPage result = projectQueryService.getProjectsPage(null, 10);
+
+        assertThat(result).isEqualTo(cachedPage);
+        verify(projectViewRepository, never()).findFirstPageIds(any());
+        verify(projectCacheService, never()).cacheProjectsPage(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void getProjectsPage_ShouldLoadFirstPageInKeysetOrderAndReturnNextCursor() {
+        ProjectRow newest = createRow(3L, "Newest", new Date(3000));
+        ProjectRow middle = createRow(2L, "Middle", new Date(2000));
+
+        when(projectViewRepository.findFirstPageIds(any())).thenReturn(List.of(3L, 2L, 1L));
+        when(projectViewRepository.findRowsByIdIn(List.of(3L, 2L))).thenReturn(List.of(middle, newest));
+
+        ProjectViewPage result = projectQueryService.getProjectsPage(null, 2);
+
+        assertThat(result.items()).extracting(ProjectView::id).containsExactly(3L, 2L);
+        assertThat(result.nextCursor()).isEqualTo(projectCursorCodec.encode(new Date(2000), 2L));
+        verify(projectCacheService).cacheProjectsPage(GENERATION, null, 2, result);
+    }
+
+    @Test
+    void getProjectsPage_ShouldQueryAfterCursorAndOmitNextCursorOnLastPage() {
+        String cursor = projectCursorCodec.encode(new Date(2000), 2L);
+
+        when(projectViewRepository.findPageIdsAfter(eq(new Date(2000)), eq(2L), any())).thenReturn(List.of(1L));
+        when(projectViewRepository.findRowsByIdIn(List.of(1L))).thenReturn(List.of(createRow(1L, "Oldest", new Date(1000))));
+
+        ProjectViewPage result = projectQueryService.getProjectsPage(cursor, 2);
+
+        assertThat(result.items()).extracting(ProjectView::name).containsExactly("Oldest");
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getProjectsPage_ShouldClampLimit() {
+        when(projectViewRepository.findFirstPageIds(any())).thenReturn(List.of());
+
+        projectQueryService.getProjectsPage(null, 10_000);
+
+        verify(projectCacheService).getCachedProjectsPage(GENERATION, null, 100);
+    }
+
+    @Test
+    void getAllProjectSummariesJson_ShouldReturnCachedBytes_WhenCacheExists() {
+        byte[] cachedJson = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+        when(projectResponseCacheService.getProjectSummaries(GENERATION)).thenReturn(cachedJson);
+
+        assertThat(projectQueryService.getAllProjectSummariesJson()).isSameAs(cachedJson);
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void getAllProjectSummariesJson_ShouldLoadOnlySummaryColumnsTechnologiesAndCovers() {
+        byte[] json = "[]".getBytes(StandardCharsets.UTF_8);
+        when(projectViewRepository.findAllSummaryRows()).thenReturn(List.of(
+                new ProjectSummaryRow(1L, "First", "first", ProjectStatus.COMPLETED),
+                new ProjectSummaryRow(2L, "Second", "second", ProjectStatus.IN_PROGRESS)));
+        when(projectViewRepository.findTechnologies(List.of(1L, 2L)))
+                .thenReturn(List.of(new ProjectValueRow(1L, "Java")));
+        when(projectViewRepository.findCoverImages(List.of(1L, 2L)))
+                .thenReturn(List.of(new ProjectImageRow(2L, 20L, "/cover.png", null)));
+        when(projectResponseCacheService.cacheProjectSummaries(eq(GENERATION), any())).thenReturn(json);
+
+        assertThat(projectQueryService.getAllProjectSummariesJson()).isSameAs(json);
+
+        verify(projectResponseCacheService).cacheProjectSummaries(eq(GENERATION), argThat(summaries ->
+                summaries.get(0).technologies().equals(List.of("Java"))
+                        && summaries.get(0).coverImage() == null
+                        && summaries.get(1).coverImage().imageUrl().equals("/cover.png")));
+        verify(projectViewRepository, never()).findRowsByIdIn(any());
+        verify(projectViewRepository, never()).findFeatures(any());
+        verify(projectViewRepository, never()).findContributors(any());
+        verify(projectViewRepository, never()).findImages(any());
+    }
+
+    @Test
+    void getProjectSummaryJsonBySlug_ShouldRenderSummaryFromCachedHash() {
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        ProjectSummaryView summary = new ProjectSummaryView(1L, "First", "first", ProjectStatus.COMPLETED, List.of(), null);
+        when(projectCacheService.getSummaryBySlug("first")).thenReturn(summary);
+        when(projectResponseCacheService.render(summary)).thenReturn(json);
+
+        assertThat(projectQueryService.getProjectSummaryJsonBySlug("first")).isSameAs(json);
+        verifyNoInteractions(projectViewRepository);
+        verify(projectCacheService, never()).getEntry(any());
+    }
+
+    @Test
+    void getProjectSummaryJsonById_ShouldLoadAndCacheFullProject_WhenSummaryIsNotCached() {
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        when(projectViewRepository.findRowById(1L)).thenReturn(Optional.of(createRow(1L, "First", new Date(1000))));
+        when(projectResponseCacheService.render(any(ProjectSummaryView.class))).thenReturn(json);
+
+        assertThat(projectQueryService.getProjectSummaryJsonById(1L)).isSameAs(json);
+        verify(projectCacheService).cache(eq(1L), any(ProjectView.class));
+        verify(projectResponseCacheService).render(argThat(summary -> summary instanceof ProjectSummaryView view
+                && view.name().equals("First")));
+    }
+
+    @Test
+    void getProjectSummaryJsonById_ShouldReturnNullAndMarkMissing_WhenNotFound() {
+        when(projectViewRepository.findRowById(1L)).thenReturn(Optional.empty());
+
+        assertThat(projectQueryService.getProjectSummaryJsonById(1L)).isNull();
+        verify(projectCacheService).markMissing(1L);
+    }
+
+    @Test
+    void getProjectById_ShouldSkipDatabase_WhenProjectIsMarkedMissing() {
+        when(projectCacheService.isMissing(99L)).thenReturn(true);
+
+        assertThatThrownBy(() -> projectQueryService.getProjectById(99L))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verifyNoInteractions(projectViewRepository);
+    }
+
+    @Test
+    void getAllProjects_ShouldLoadFromDatabaseOnce_WhenConcurrentCallersMiss() throws Exception {
+        int callers = 16;
+        AtomicReference<List<Long>> cachedIds = new AtomicReference<>();
+        Map<Long, ProjectView> cachedViews = new ConcurrentHashMap<>();
+        CountDownLatch arrived = new CountDownLatch(callers);
+
+        when(projectCacheService.getCachedProjectIds(GENERATION)).thenAnswer(invocation -> cachedIds.get());
+        doAnswer(invocation -> {
+            cachedIds.set(invocation.getArgument(1));
+            return null;
+        }).when(projectCacheService).cacheProjectIds(eq(GENERATION), anyList());
+        Answer<Map<Long, ProjectView>> cachedSubset = invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(cachedViews::containsKey)
+                    .collect(Collectors.toMap(Function.identity(), cachedViews::get));
+        };
+        when(projectCacheService.getAll(anyCollection())).thenAnswer(cachedSubset);
+        lenient().when(projectCacheService.getAll(anyCollection(), any())).thenAnswer(cachedSubset);
+        doAnswer(invocation -> {
+            cachedViews.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(projectCacheService).cache(anyLong(), any(ProjectView.class));
+        when(projectViewRepository.findAllIds()).thenAnswer(invocation -> {
+            arrived.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            return List.of(1L, 2L);
+        });
+        when(projectViewRepository.findRowsByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                createRow(1L, "First", new Date(1000)), createRow(2L, "Second", new Date(2000))));
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<ProjectView>>> results = IntStream.range(0, callers)
+                    .mapToObj(i -> executor.submit(() -> {
+                        arrived.countDown();
+                        return projectQueryService.getAllProjects();
+                    }))
+                    .toList();
+
+            for (Future<List<ProjectView>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).extracting(ProjectView::id).containsExactly(1L, 2L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(projectViewRepository, times(1)).findAllIds();
+        verify(projectViewRepository, times(1)).findRowsByIdIn(anyList());
+    }
+
+    @Test
+    void getProjectById_ShouldLoadMissThroughSingleFlight() {
+        when(projectViewRepository.findRowById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> projectQueryService.getProjectById(99L))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verify(projectSingleFlightService).load(eq("id:99"), any(), any(), any());
+    }
+
+    private static SingleFlightProperties localSingleFlight() {
+        SingleFlightProperties properties = new SingleFlightProperties();
+        properties.setDistributed(false);
+        return properties;
+    }
+
+    private ProjectRow createRow(Long id, String name, Date createdAt) {
+        return new ProjectRow(id, name, "project-" + id, null, null, ProjectStatus.COMPLETED,
+                createdAt, null, null, createdAt, 0L);
+    }
+
+    private ProjectView createView(Long id, String name) {
+        return ProjectView.of(createRow(id, name, new Date(id * 1000)), null, null, null, null);
+    }
+}
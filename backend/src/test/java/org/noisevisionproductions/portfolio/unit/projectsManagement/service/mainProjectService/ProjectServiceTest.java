@@ -5,14 +5,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.noisevisionproductions.portfolio.cache.serializer.ProjectHashCodec;
 import org.noisevisionproductions.portfolio.cache.service.project.ProjectCacheService;
 import org.noisevisionproductions.portfolio.projectsManagement.dto.ProjectDTO;
 import org.noisevisionproductions.portfolio.projectsManagement.model.ImageFromProject;
 import org.noisevisionproductions.portfolio.projectsManagement.model.Project;
+import org.noisevisionproductions.portfolio.projectsManagement.projection.ProjectView;
 import org.noisevisionproductions.portfolio.projectsManagement.repository.ProjectRepository;
 import org.noisevisionproductions.portfolio.projectsManagement.service.FileStorageService;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectFacetIndex;
+import org.noisevisionproductions.portfolio.projectsManagement.service.ProjectSearchIndex;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectMapper;
 import org.noisevisionproductions.portfolio.projectsManagement.service.mainProjectService.ProjectService;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -22,6 +28,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,72 +46,27 @@ class ProjectServiceTest {
     @Mock
     private ProjectMapper projectMapper;
 
-    @InjectMocks
-    private ProjectService projectService;
-
-    @Test
-    void getAllProjects_ShouldReturnCachedProjects_WhenCacheExists() {
-        List<Project> cachedProjects = Arrays.asList(
-                createTestProject(1L, "Test Project 1"),
-                createTestProject(2L, "Test Project 2")
-        );
-
-        when(projectCacheService.getCachedProjectsList()).thenReturn(cachedProjects);
-
-        List<Project> result = projectService.getAllProjects();
-
-        assertThat(result).isEqualTo(cachedProjects);
-        verify(projectCacheService).getCachedProjectsList();
-        verify(projectRepository, never()).findAll();
-    }
-
-    @Test
-    void getAllProjects_ShouldReturnFromDatabase_WhenCacheIsEmpty() {
-        List<Project> databaseProjects = Arrays.asList(
-                createTestProject(1L, "Test Project 1"),
-                createTestProject(2L, "Test Project 2")
-        );
-
-        when(projectCacheService.getCachedProjectsList()).thenReturn(null);
-        when(projectRepository.findAll()).thenReturn(databaseProjects);
-
-        List<Project> result = projectService.getAllProjects();
-
-        assertThat(result).isEqualTo(databaseProjects);
-        verify(projectCacheService).getCachedProjectsList();
-        verify(projectCacheService).cacheProjectsList(databaseProjects);
-        verify(projectRepository).findAll();
-    }
-
-    @Test
-    void getProjectById_ShouldReturnCachedProject_WhenCacheExists() {
-        Long projectId = 1L;
-        Project cachedProject = new Project();
-        cachedProject.setId(projectId);
-
-        when(projectCacheService.get(projectId)).thenReturn(cachedProject);
+    @Mock
+    private ProjectSearchIndex projectSearchIndex;
 
-        Project result = projectService.getProjectById(projectId);
+    @Mock
+    private ProjectFacetIndex projectFacetIndex;
 
-        verify(projectCacheService).get(projectId);
-        verify(projectRepository, never()).findById(projectId);
-        assertThat(result).isEqualTo(cachedProject);
-    }
+    @InjectMocks
+    private ProjectService projectService;
 
     @Test
-    void getProjectById_ShouldCacheAndReturnProject_WhenNotInCached() {
+    void getProjectById_ShouldLoadProjectFromDatabase() {
         Long projectId = 1L;
         Project project = new Project();
         project.setId(projectId);
 
-        when(projectCacheService.get(projectId)).thenReturn(null);
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
 
         Project result = projectService.getProjectById(projectId);
 
-        verify(projectCacheService).get(projectId);
         verify(projectRepository).findById(projectId);
-        verify(projectCacheService).cache(projectId, project);
+        verifyNoInteractions(projectCacheService);
         assertThat(result).isEqualTo(project);
     }
 
@@ -112,7 +74,6 @@ class ProjectServiceTest {
     void getProjectById_ShouldThrowException_WhenNotFound() {
         Long projectId = 1L;
 
-        when(projectCacheService.get(projectId)).thenReturn(null);
         when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> projectService.getProjectById(projectId))
@@ -134,8 +95,12 @@ class ProjectServiceTest {
 
         verify(projectMapper).toEntity(projectDTO);
         verify(projectRepository).save(expectedProject);
-        verify(projectCacheService).cache(expectedProject.getId(), expectedProject);
+        verify(projectCacheService).clearMissing(expectedProject.getId(), expectedProject.getSlug());
+        verify(projectCacheService).cache(eq(expectedProject.getId()), any(ProjectView.class));
+        verify(projectCacheService).invalidateProjectIds();
         verify(projectCacheService).invalidateProjectsList();
+        verify(projectSearchIndex).index(any(ProjectView.class));
+        verify(projectFacetIndex).index(any(ProjectView.class));
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
@@ -153,7 +118,7 @@ class ProjectServiceTest {
 
         projectService.createProject(projectDTO);
 
-        verify(projectCacheService).cache(project.getId(), project);
+        verify(projectCacheService).cache(eq(project.getId()), any(ProjectView.class));
         verify(projectCacheService).invalidateProjectsList();
     }
 
@@ -165,16 +130,60 @@ class ProjectServiceTest {
         Project updatedProject = new Project();
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
-        when(projectRepository.save(existingProject)).thenReturn(updatedProject);
+        when(projectRepository.saveAndFlush(existingProject)).thenReturn(updatedProject);
 
         Project result = projectService.updateProject(projectId, updateDTO);
 
         verify(projectMapper).updateProjectFromDTO(existingProject, updateDTO);
-        verify(projectRepository).save(existingProject);
-        verify(projectCacheService).cache(projectId, updatedProject);
+        verify(projectRepository).saveAndFlush(existingProject);
+        verify(projectCacheService).cache(eq(projectId), any(ProjectView.class));
+        verify(projectCacheService, never()).invalidateProjectIds();
+        verify(projectCacheService, never()).clearMissing(any(), any());
+        verify(projectSearchIndex).index(any(ProjectView.class));
+        verify(projectFacetIndex).index(any(ProjectView.class));
         assertThat(result).isEqualTo(updatedProject);
     }
 
+    @Test
+    void updateProject_ShouldClearNotFoundMarkersForNewSlug_WhenSlugChanges() {
+        Long projectId = 1L;
+        Project existingProject = new Project();
+        existingProject.setSlug("old-slug");
+        Project updatedProject = new Project();
+        updatedProject.setSlug("new-slug");
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(projectRepository.saveAndFlush(existingProject)).thenReturn(updatedProject);
+
+        projectService.updateProject(projectId, new ProjectDTO());
+
+        verify(projectCacheService).invalidate(projectId, "old-slug");
+        verify(projectCacheService).clearMissing(projectId, "new-slug");
+    }
+
+    @Test
+    void updateProject_ShouldPublishToCacheAndIndexesOnlyAfterCommit() {
+        Long projectId = 1L;
+        Project existingProject = new Project();
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(projectRepository.saveAndFlush(existingProject)).thenReturn(existingProject);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            projectService.updateProject(projectId, new ProjectDTO());
+
+            verifyNoInteractions(projectCacheService, projectSearchIndex, projectFacetIndex);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(projectCacheService).cache(eq(projectId), any(ProjectView.class));
+            verify(projectCacheService).invalidateProjectsList();
+            verify(projectSearchIndex).index(any(ProjectView.class));
+            verify(projectFacetIndex).index(any(ProjectView.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void updateProject_ShouldInvalidateAllProjectsCache() {
         Long projectId = 1L;
@@ -183,11 +192,11 @@ class ProjectServiceTest {
         Project updatedProject = new Project();
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
-        when(projectRepository.save(existingProject)).thenReturn(updatedProject);
+        when(projectRepository.saveAndFlush(existingProject)).thenReturn(updatedProject);
 
         projectService.updateProject(projectId, projectDTO);
 
-        verify(projectCacheService).cache(projectId, updatedProject);
+        verify(projectCacheService).cache(eq(projectId), any(ProjectView.class));
         verify(projectCacheService).invalidateProjectsList();
     }
 
@@ -210,8 +219,11 @@ class ProjectServiceTest {
         verify(fileStorageService).deleteFile("/images/1.jpg");
         verify(fileStorageService).deleteFile("/images/2.jpg");
         verify(projectRepository).delete(project);
-        verify(projectCacheService).invalidate(projectId);
+        verify(projectCacheService).invalidate(projectId, project.getSlug());
+        verify(projectCacheService).invalidateProjectIds();
         verify(projectCacheService).invalidateProjectsList();
+        verify(projectSearchIndex).remove(projectId);
+        verify(projectFacetIndex).remove(projectId);
 
         assertThat(project.getProjectImages()).isEmpty();
         assertThat(project.getContributors()).isEmpty();
@@ -229,7 +241,7 @@ class ProjectServiceTest {
 
         projectService.deleteProject(projectId);
 
-        verify(projectCacheService).invalidate(projectId);
+        verify(projectCacheService).invalidate(projectId, project.getSlug());
         verify(projectCacheService).invalidateProjectsList();
     }
 
@@ -241,12 +253,12 @@ class ProjectServiceTest {
         List<String> newFeatures = Arrays.asList("Feature 1", "Feature 2");
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(projectRepository.save(project)).thenReturn(updatedProject);
+        when(projectRepository.saveAndFlush(project)).thenReturn(updatedProject);
 
         Project result = projectService.updateFeatures(projectId, newFeatures);
 
-        verify(projectRepository).save(project);
-        verify(projectCacheService).cache(projectId, updatedProject);
+        verify(projectRepository).saveAndFlush(project);
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.FEATURES));
         assertThat(result).isEqualTo(updatedProject);
     }
 
@@ -258,56 +270,14 @@ class ProjectServiceTest {
         List<String> newFeatures = Arrays.asList("Feature 1", "Feature 2");
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(projectRepository.save(project)).thenReturn(updatedProject);
+        when(projectRepository.saveAndFlush(project)).thenReturn(updatedProject);
 
         projectService.updateFeatures(projectId, newFeatures);
 
-        verify(projectCacheService).cache(projectId, updatedProject);
+        verify(projectCacheService).cacheFields(any(ProjectView.class), eq(ProjectHashCodec.FEATURES));
         verify(projectCacheService).invalidateProjectsList();
     }
 
-    @Test
-    void getProjectBySlug_ShouldReturnCachedProject_WhenCacheExists() {
-        String slug = "test-project";
-        Project project = new Project();
-        project.setId(1L);
-        project.setSlug(slug);
-
-        when(projectRepository.findBySlug(slug)).thenReturn(Optional.of(project));
-        when(projectCacheService.get(project.getId())).thenReturn(project);
-
-        Project result = projectService.getProjectBySlug(slug);
-
-        verify(projectRepository).findBySlug(slug);
-        verify(projectCacheService).get(project.getId());
-        verify(projectCacheService, never()).cache(any(), any());
-        assertThat(result).isEqualTo(project);
-    }
-
-    @Test
-    void getProjectBySlug_ShouldReturnProject_WhenExists() {
-        String slug = "test-project";
-        Project project = new Project();
-        project.setSlug(slug);
-
-        when(projectRepository.findBySlug(slug)).thenReturn(Optional.of(project));
-
-        Project result = projectService.getProjectBySlug(slug);
-
-        assertThat(result).isNotNull();
-        assertThat(result.getSlug()).isEqualTo(slug);
-    }
-
-    @Test
-    void getProjectBySlug_ShouldThrownException_WhenNotFound() {
-        String slug = "non-existent";
-        when(projectRepository.findBySlug(slug)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> projectService.getProjectBySlug(slug))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Project not found with slug");
-    }
-
     private Project createTestProject(Long id, String name) {
         Project project = new Project();
         project.setId(id);
@@ -3,5 +3,6 @@ export enum Authority {
     EDIT_PROJECTS = 'EDIT_PROJECTS',
     DELETE_PROJECTS = 'DELETE_PROJECTS',
     SEND_MESSAGES = 'SEND_MESSAGES',
-    ACCESS_KAFKA_DASHBOARD = 'ACCESS_KAFKA_DASHBOARD'
+    ACCESS_KAFKA_DASHBOARD = 'ACCESS_KAFKA_DASHBOARD',
+    ACCESS_CACHE_METRICS = 'ACCESS_CACHE_METRICS'
 }
\ No newline at end of file